@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public record BulkOutput<T>(
+        List<T> items,
+        List<String> missing
+) {
+
+    // Items follow the order of the requested ids; duplicates are answered once
+    public static <A, T> BulkOutput<T> of(final List<String> ids, final Map<String, A> found, final Function<A, T> mapper) {
+        final var items = new ArrayList<T>(found.size());
+        final var missing = new ArrayList<String>();
+
+        for (final var anId : new LinkedHashSet<>(ids)) {
+            final var aggregate = found.get(anId);
+            if (aggregate == null) {
+                missing.add(anId);
+            } else {
+                items.add(mapper.apply(aggregate));
+            }
+        }
+        return new BulkOutput<>(List.copyOf(items), List.copyOf(missing));
+    }
+
+    public <R> BulkOutput<R> map(final Function<T, R> mapper) {
+        return new BulkOutput<>(this.items.stream().map(mapper).toList(), this.missing);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.castmember.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class DefaultGetCastMemberLastModifiedUseCase extends GetCastMemberLastModifiedUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultGetCastMemberLastModifiedUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public Optional<Instant> execute(final String anId) {
+        return this.castMemberGateway.findUpdatedAtById(CastMemberID.from(anId));
+    }
+}
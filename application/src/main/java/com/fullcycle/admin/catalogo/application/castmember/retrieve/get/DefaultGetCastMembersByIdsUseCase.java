@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.application.castmember.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.BulkOutput;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetCastMembersByIdsUseCase extends GetCastMembersByIdsUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultGetCastMembersByIdsUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public BulkOutput<CastMemberOutput> execute(final List<String> ids) {
+        final var anIds = ids.stream().map(CastMemberID::from).toList();
+        final var found = this.castMemberGateway.findAllByIds(anIds).stream()
+                .collect(Collectors.toMap(it -> it.getId().getValue(), Function.identity()));
+
+        return BulkOutput.of(anIds.stream().map(CastMemberID::getValue).toList(), found, CastMemberOutput::from);
+    }
+}
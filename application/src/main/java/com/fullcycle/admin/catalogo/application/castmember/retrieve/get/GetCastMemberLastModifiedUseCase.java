@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.castmember.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public abstract class GetCastMemberLastModifiedUseCase extends UseCase<String, Optional<Instant>> {
+}
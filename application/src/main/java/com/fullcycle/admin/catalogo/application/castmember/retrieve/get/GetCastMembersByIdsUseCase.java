@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.castmember.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.BulkOutput;
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class GetCastMembersByIdsUseCase extends UseCase<List<String>, BulkOutput<CastMemberOutput>> {
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.BulkOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public BulkOutput<CategoryOutput> execute(final List<String> ids) {
+        final var anIds = ids.stream().map(CategoryID::from).toList();
+        final var found = this.categoryGateway.findAllByIds(anIds).stream()
+                .collect(Collectors.toMap(it -> it.getId().getValue(), Function.identity()));
+
+        return BulkOutput.of(anIds.stream().map(CategoryID::getValue).toList(), found, CategoryOutput::from);
+    }
+}
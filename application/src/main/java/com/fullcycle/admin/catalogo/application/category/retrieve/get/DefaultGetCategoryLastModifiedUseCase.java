@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class DefaultGetCategoryLastModifiedUseCase extends GetCategoryLastModifiedUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryLastModifiedUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Optional<Instant> execute(final String anId) {
+        return this.categoryGateway.findUpdatedAtById(CategoryID.from(anId));
+    }
+}
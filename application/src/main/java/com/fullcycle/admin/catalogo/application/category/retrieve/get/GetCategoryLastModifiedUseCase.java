@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public abstract class GetCategoryLastModifiedUseCase extends UseCase<String, Optional<Instant>> {
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class DefaultGetGenreLastModifiedUseCase extends GetGenreLastModifiedUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultGetGenreLastModifiedUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Optional<Instant> execute(final String anId) {
+        return this.genreGateway.findUpdatedAtById(GenreID.from(anId));
+    }
+}
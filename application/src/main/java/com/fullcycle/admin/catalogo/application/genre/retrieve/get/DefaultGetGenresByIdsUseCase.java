@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.BulkOutput;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetGenresByIdsUseCase extends GetGenresByIdsUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultGetGenresByIdsUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public BulkOutput<GenreOutput> execute(final List<String> ids) {
+        final var anIds = ids.stream().map(GenreID::from).toList();
+        final var found = this.genreGateway.findAllByIds(anIds).stream()
+                .collect(Collectors.toMap(it -> it.getId().getValue(), Function.identity()));
+
+        return BulkOutput.of(anIds.stream().map(GenreID::getValue).toList(), found, GenreOutput::from);
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public abstract class GetGenreLastModifiedUseCase extends UseCase<String, Optional<Instant>> {
+}
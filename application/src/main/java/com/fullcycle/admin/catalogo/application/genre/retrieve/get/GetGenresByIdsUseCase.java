@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.BulkOutput;
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class GetGenresByIdsUseCase extends UseCase<List<String>, BulkOutput<GenreOutput>> {
+}
@@ -98,7 +98,9 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
                     .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL, it)))
                     .orElse(null);
 
+            // Without an uploaded thumb_half, it is derived from the thumbnail
             final var aThumbHalfMedia = aCommand.getThumbnailHalf()
+                    .or(() -> aCommand.getThumbnail().flatMap(it -> this.mediaResourceGateway.deriveImage(VideoResource.with(VideoMediaType.THUMBNAIL, it), VideoMediaType.THUMBNAIL_HALF)))
                     .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL_HALF, it)))
                     .orElse(null);
 
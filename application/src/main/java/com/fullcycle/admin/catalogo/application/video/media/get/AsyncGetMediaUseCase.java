@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.media.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncGetMediaUseCase extends UseCase<GetMediaCommand, CompletableFuture<MediaOutput>> {
+}
@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.application.video.media.get;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.AsyncMediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class DefaultAsyncGetMediaUseCase extends AsyncGetMediaUseCase {
+
+    private final AsyncMediaResourceGateway mediaResourceGateway;
+
+    public DefaultAsyncGetMediaUseCase(final AsyncMediaResourceGateway mediaResourceGateway) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public CompletableFuture<MediaOutput> execute(final GetMediaCommand aCommand) {
+        final var id = VideoID.from(aCommand.videoId());
+        final var type = VideoMediaType.of(aCommand.mediaType()).orElseThrow(() -> typeNotFound(aCommand.mediaType()));
+
+        return this.mediaResourceGateway.getResource(id, type)
+                .thenApply(resource -> resource.map(MediaOutput::with)
+                        .orElseThrow(() -> notFound(aCommand.videoId(), aCommand.mediaType())));
+    }
+
+    private NotFoundException notFound(final String id, final String type) {
+        return NotFoundException.with(new Error("Resource %s not foun for video %s".formatted(type, id)));
+    }
+
+    private NotFoundException typeNotFound(final String type) {
+        return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type)));
+    }
+}
@@ -18,7 +18,7 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
         final var folder = aCommand.folder();
         final var filename = aCommand.filename();
 
-        final var aVideo = this.videoGateway.findById(id).orElseThrow(() -> notFound(id));
+        final var aVideo = this.videoGateway.findByIdForUpdate(id).orElseThrow(() -> notFound(id));
 
         final var encodedPath = "%s/%s".formatted(folder, filename);
 
@@ -40,8 +40,8 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
     private void updateVideo(final VideoMediaType type, final MediaStatus status, final Video video, final String encodedPath) {
         switch (status) {
             case PENDING -> {}
-            case PROCESSING -> video.processing(type);
-            case COMPLETED -> video.completed(type, encodedPath);
+            case PROCESSING -> this.videoGateway.update(video.processing(type));
+            case COMPLETED -> this.videoGateway.update(video.completed(type, encodedPath));
         }
     }
 
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+public record CompleteUploadCommand(
+        String videoId,
+        String mediaType,
+        String name,
+        String checksum,
+        long size
+) {
+
+    public static CompleteUploadCommand with(
+            final String videoId,
+            final String mediaType,
+            final String name,
+            final String checksum,
+            final long size
+    ) {
+        return new CompleteUploadCommand(videoId, mediaType, name, checksum, size);
+    }
+}
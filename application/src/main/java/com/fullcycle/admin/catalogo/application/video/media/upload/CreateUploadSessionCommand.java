@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+public record CreateUploadSessionCommand(
+        String videoId,
+        String mediaType,
+        String contentType
+) {
+
+    public static CreateUploadSessionCommand with(final String videoId, final String mediaType, final String contentType) {
+        return new CreateUploadSessionCommand(videoId, mediaType, contentType);
+    }
+}
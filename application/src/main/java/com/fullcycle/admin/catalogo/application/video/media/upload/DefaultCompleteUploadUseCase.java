@@ -0,0 +1,87 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceInfo;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.*;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class DefaultCompleteUploadUseCase extends CompleteUploadUseCase {
+
+    private final VideoGateway videoGateway;
+
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultCompleteUploadUseCase(final VideoGateway videoGateway, final MediaResourceGateway mediaResourceGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CompleteUploadCommand aCommand) {
+        final var id = VideoID.from(aCommand.videoId());
+        final var type = VideoMediaType.of(aCommand.mediaType()).orElseThrow(() -> typeNotFound(aCommand.mediaType()));
+
+        final var aVideo = this.videoGateway.findByIdForUpdate(id).orElseThrow(() -> NotFoundException.with(Video.class, id));
+
+        final var uploaded = this.mediaResourceGateway.getResourceInfo(id, type)
+                .orElseThrow(() -> uploadNotFound(aCommand.videoId(), type));
+
+        validate(aCommand, uploaded);
+
+        // Before anything reads the media back, so it resolves to the new upload and not to a previous shared blob
+        this.mediaResourceGateway.releaseResource(id, type);
+
+        switch (type) {
+            case VIDEO -> aVideo.updateVideoMedia(AudioVideoMedia.with(uploaded.checksum(), aCommand.name(), uploaded.name(), probe(id, type)));
+            case TRAILER -> aVideo.updateTrailerMedia(AudioVideoMedia.with(uploaded.checksum(), aCommand.name(), uploaded.name(), probe(id, type)));
+            case BANNER -> aVideo.updateBannerMedia(ImageMedia.with(uploaded.checksum(), aCommand.name(), uploaded.name()));
+            case THUMBNAIL -> {
+                aVideo.updateThumbnailMedia(ImageMedia.with(uploaded.checksum(), aCommand.name(), uploaded.name()));
+                deriveThumbnailHalf(id).ifPresent(aVideo::updateThumbnailHalfMedia);
+            }
+            case THUMBNAIL_HALF -> aVideo.updateThumbnailHalfMedia(ImageMedia.with(uploaded.checksum(), aCommand.name(), uploaded.name()));
+        }
+
+        return UploadMediaOutput.with(this.videoGateway.update(aVideo), type);
+    }
+
+    // The file is only in the bucket; the gateway reads just the container header ranges from there
+    private MediaMetadata probe(final VideoID id, final VideoMediaType type) {
+        return this.mediaResourceGateway.probeMetadata(id, type).orElse(null);
+    }
+
+    // The thumbnail went straight to the bucket, so the half size is derived from the stored copy
+    private Optional<ImageMedia> deriveThumbnailHalf(final VideoID id) {
+        return this.mediaResourceGateway.getResource(id, VideoMediaType.THUMBNAIL)
+                .flatMap(it -> this.mediaResourceGateway.deriveImage(VideoResource.with(VideoMediaType.THUMBNAIL, it), VideoMediaType.THUMBNAIL_HALF))
+                .map(it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(VideoMediaType.THUMBNAIL_HALF, it)));
+    }
+
+    private void validate(final CompleteUploadCommand aCommand, final ResourceInfo uploaded) {
+        final var notification = Notification.create();
+
+        if (uploaded.size() != aCommand.size()) {
+            notification.append(new Error("Uploaded size %d doesn't match the expected %d".formatted(uploaded.size(), aCommand.size())));
+        }
+        if (aCommand.checksum() == null || !aCommand.checksum().equalsIgnoreCase(uploaded.checksum())) {
+            notification.append(new Error("Uploaded checksum %s doesn't match the expected %s".formatted(uploaded.checksum(), aCommand.checksum())));
+        }
+
+        if (notification.hasError()) {
+            throw new NotificationException("Could not complete the upload", notification);
+        }
+    }
+
+    private NotFoundException uploadNotFound(final String id, final VideoMediaType type) {
+        return NotFoundException.with(new Error("No upload of %s found for video %s".formatted(type.name(), id)));
+    }
+
+    private NotFoundException typeNotFound(final String type) {
+        return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type)));
+    }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultCreateUploadSessionUseCase extends CreateUploadSessionUseCase {
+
+    private final VideoGateway videoGateway;
+
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultCreateUploadSessionUseCase(final VideoGateway videoGateway, final MediaResourceGateway mediaResourceGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final CreateUploadSessionCommand aCommand) {
+        final var id = VideoID.from(aCommand.videoId());
+        final var type = VideoMediaType.of(aCommand.mediaType()).orElseThrow(() -> typeNotFound(aCommand.mediaType()));
+
+        if (this.videoGateway.findUpdatedAtById(id).isEmpty()) {
+            throw NotFoundException.with(Video.class, id);
+        }
+
+        final var aSession = this.mediaResourceGateway.createUploadSession(id, type, aCommand.contentType());
+        return UploadSessionOutput.with(id, type, aSession);
+    }
+
+    private NotFoundException typeNotFound(final String type) {
+        return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type)));
+    }
+}
@@ -1,10 +1,9 @@
 package com.fullcycle.admin.catalogo.application.video.media.upload;
 
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
-import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
-import com.fullcycle.admin.catalogo.domain.video.Video;
-import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
-import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.*;
+
+import java.util.Optional;
 
 public class DefaultUploadMediaUseCase extends UploadMediaUseCase {
 
@@ -22,19 +21,28 @@ public class DefaultUploadMediaUseCase extends UploadMediaUseCase {
         final var id = VideoID.from(aCommand.videoId());
         final var resource = aCommand.videoResource();
 
-        final var aVideo = this.videoGateway.findById(id).orElseThrow(() -> notFound(id));
+        final var aVideo = this.videoGateway.findByIdForUpdate(id).orElseThrow(() -> notFound(id));
 
         switch(resource.getType()) {
             case VIDEO -> aVideo.setVideo(mediaResourceGateway.storeAudioVideo(id, resource));
             case TRAILER -> aVideo.setTrailer(mediaResourceGateway.storeAudioVideo(id, resource));
             case BANNER -> aVideo.setBanner(mediaResourceGateway.storeImage(id, resource));
-            case THUMBNAIL -> aVideo.setThumbnail(mediaResourceGateway.storeImage(id, resource));
+            case THUMBNAIL -> {
+                aVideo.setThumbnail(mediaResourceGateway.storeImage(id, resource));
+                deriveThumbnailHalf(id, resource).ifPresent(aVideo::setThumbnailHalf);
+            }
             case THUMBNAIL_HALF -> aVideo.setThumbnailHalf(mediaResourceGateway.storeImage(id, resource));
         }
 
         return UploadMediaOutput.with(videoGateway.update(aVideo), resource.getType());
     }
 
+    // A new thumbnail replaces the half size too, so both stay the same picture
+    private Optional<ImageMedia> deriveThumbnailHalf(VideoID id, VideoResource thumbnail) {
+        return mediaResourceGateway.deriveImage(thumbnail, VideoMediaType.THUMBNAIL_HALF)
+                .map(it -> mediaResourceGateway.storeImage(id, VideoResource.with(VideoMediaType.THUMBNAIL_HALF, it)));
+    }
+
     private NotFoundException notFound(VideoID id) {
         return NotFoundException.with(Video.class, id);
     }
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.time.Instant;
+
+public record UploadSessionOutput(
+        String videoId,
+        VideoMediaType mediaType,
+        String uploadUrl,
+        Instant expiresAt
+) {
+
+    public static UploadSessionOutput with(final VideoID id, final VideoMediaType aType, final MediaUploadSession aSession) {
+        return new UploadSessionOutput(id.getValue(), aType, aSession.uploadUrl(), aSession.expiresAt());
+    }
+}
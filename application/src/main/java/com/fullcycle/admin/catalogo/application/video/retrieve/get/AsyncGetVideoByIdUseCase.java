@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncGetVideoByIdUseCase extends UseCase<String, CompletableFuture<VideoOutput>> {
+}
@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.AsyncVideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class DefaultAsyncGetVideoByIdUseCase extends AsyncGetVideoByIdUseCase {
+
+    private final AsyncVideoGateway videoGateway;
+
+    public DefaultAsyncGetVideoByIdUseCase(final AsyncVideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public CompletableFuture<VideoOutput> execute(final String anId) {
+        final var aVideoId = VideoID.from(anId);
+        return this.videoGateway.findById(aVideoId)
+                .thenApply(aVideo -> aVideo.map(VideoOutput::from)
+                        .orElseThrow(() -> NotFoundException.with(Video.class, aVideoId)));
+    }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class DefaultGetVideoLastModifiedUseCase extends GetVideoLastModifiedUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultGetVideoLastModifiedUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public Optional<Instant> execute(final String anId) {
+        return this.videoGateway.findUpdatedAtById(VideoID.from(anId));
+    }
+}
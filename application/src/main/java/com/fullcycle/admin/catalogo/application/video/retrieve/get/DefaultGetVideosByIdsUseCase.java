@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.BulkOutput;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetVideosByIdsUseCase extends GetVideosByIdsUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultGetVideosByIdsUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public BulkOutput<VideoOutput> execute(final List<String> ids) {
+        final var anIds = ids.stream().map(VideoID::from).toList();
+        final var found = this.videoGateway.findAllByIds(anIds).stream()
+                .collect(Collectors.toMap(it -> it.getId().getValue(), Function.identity()));
+
+        return BulkOutput.of(anIds.stream().map(VideoID::getValue).toList(), found, VideoOutput::from);
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public abstract class GetVideoLastModifiedUseCase extends UseCase<String, Optional<Instant>> {
+}
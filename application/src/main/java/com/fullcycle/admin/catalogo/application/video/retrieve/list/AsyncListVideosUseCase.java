@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncListVideosUseCase extends UseCase<VideoSearchQuery, CompletableFuture<Pagination<VideoListOutput>>> {
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.video.AsyncVideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class DefaultAsyncListVideosUseCase extends AsyncListVideosUseCase {
+
+    private final AsyncVideoGateway videoGateway;
+
+    public DefaultAsyncListVideosUseCase(final AsyncVideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    // No expand here: the name lookups go through the blocking gateways
+    @Override
+    public CompletableFuture<Pagination<VideoListOutput>> execute(final VideoSearchQuery aQuery) {
+        return this.videoGateway.findAll(aQuery)
+                .thenApply(aPage -> aPage.map(VideoListOutput::from));
+    }
+}
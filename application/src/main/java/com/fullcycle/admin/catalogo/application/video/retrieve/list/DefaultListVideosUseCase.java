@@ -1,19 +1,55 @@
 package com.fullcycle.admin.catalogo.application.video.retrieve.list;
 
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public class DefaultListVideosUseCase extends ListVideosUseCase {
 
     private final VideoGateway videoGateway;
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
 
-    public DefaultListVideosUseCase(VideoGateway videoGateway) {
+    public DefaultListVideosUseCase(
+            final VideoGateway videoGateway,
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway
+    ) {
         this.videoGateway = videoGateway;
+        this.categoryGateway = categoryGateway;
+        this.genreGateway = genreGateway;
+        this.castMemberGateway = castMemberGateway;
     }
 
     @Override
     public Pagination<VideoListOutput> execute(VideoSearchQuery aQuery) {
-        return this.videoGateway.findAll(aQuery).map(VideoListOutput::from);
+        final var aPage = this.videoGateway.findAll(aQuery);
+        if (!aQuery.expand() || aPage.items().isEmpty()) {
+            return aPage.map(VideoListOutput::from);
+        }
+
+        // One lookup per association for the whole page instead of one per row
+        final var categoryNames = this.categoryGateway.findNamesByIds(collect(aPage.items(), VideoPreview::categories));
+        final var genreNames = this.genreGateway.findNamesByIds(collect(aPage.items(), VideoPreview::genres));
+        final var castMemberNames = this.castMemberGateway.findNamesByIds(collect(aPage.items(), VideoPreview::castMembers));
+
+        return aPage.map(aVideo -> VideoListOutput.from(aVideo, categoryNames, genreNames, castMemberNames));
+    }
+
+    private static <ID> Set<ID> collect(final Collection<VideoPreview> videos, final Function<VideoPreview, Set<ID>> ids) {
+        return videos.stream()
+                .flatMap(aVideo -> ids.apply(aVideo).stream())
+                .collect(Collectors.toSet());
     }
 }
@@ -1,18 +1,36 @@
 package com.fullcycle.admin.catalogo.application.video.retrieve.list;
 
+import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 
 import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public record VideoListOutput(
         String id,
         String title,
         String description,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        List<Reference> categories,
+        List<Reference> genres,
+        List<Reference> castMembers
 ) {
 
+    public VideoListOutput(
+            final String id,
+            final String title,
+            final String description,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this(id, title, description, createdAt, updatedAt, null, null, null);
+    }
+
     public static VideoListOutput from(final Video aVideo) {
         return new VideoListOutput(
                 aVideo.getId().getValue(),
@@ -32,4 +50,34 @@ public record VideoListOutput(
                 aVideo.updatedAt()
         );
     }
+
+    public static VideoListOutput from(
+            final VideoPreview aVideo,
+            final Map<? extends Identifier, String> categoryNames,
+            final Map<? extends Identifier, String> genreNames,
+            final Map<? extends Identifier, String> castMemberNames
+    ) {
+        return new VideoListOutput(
+                aVideo.id(),
+                aVideo.title(),
+                aVideo.description(),
+                aVideo.createdAt(),
+                aVideo.updatedAt(),
+                Reference.of(aVideo.categories(), categoryNames),
+                Reference.of(aVideo.genres(), genreNames),
+                Reference.of(aVideo.castMembers(), castMemberNames)
+        );
+    }
+
+    public record Reference(String id, String name) {
+
+        // Ids whose aggregate was deleted meanwhile have no name and are left out
+        static List<Reference> of(final Set<? extends Identifier> ids, final Map<? extends Identifier, String> names) {
+            return ids.stream()
+                    .filter(names::containsKey)
+                    .map(id -> new Reference(id.getValue(), names.get(id)))
+                    .sorted(Comparator.comparing(Reference::name))
+                    .toList();
+        }
+    }
 }
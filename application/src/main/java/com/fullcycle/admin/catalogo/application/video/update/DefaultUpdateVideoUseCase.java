@@ -52,7 +52,7 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var genres = toIdentifier(aCommand.genres(), GenreID::from);
         final var members = toIdentifier(aCommand.members(), CastMemberID::from);
 
-        final var aVideo = this.videoGateway.findById(anId).orElseThrow(notFoundException(anId));
+        final var aVideo = this.videoGateway.findByIdForUpdate(anId).orElseThrow(notFoundException(anId));
 
         final var notification = Notification.create();
         notification.append(validateCategories(categories));
@@ -102,7 +102,9 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
                     .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL, it)))
                     .orElse(null);
 
+            // Without an uploaded thumb_half, it is derived from the thumbnail
             final var aThumbHalfMedia = aCommand.getThumbnailHalf()
+                    .or(() -> aCommand.getThumbnail().flatMap(it -> this.mediaResourceGateway.deriveImage(VideoResource.with(VideoMediaType.THUMBNAIL, it), VideoMediaType.THUMBNAIL_HALF)))
                     .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL_HALF, it)))
                     .orElse(null);
 
@@ -44,7 +44,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(aVideo));
 
         when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -52,7 +52,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
+        verify(videoGateway, times(1)).findByIdForUpdate(eq(expectedId));
 
         final var captor = ArgumentCaptor.forClass(Video.class);
 
@@ -85,7 +85,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(aVideo));
 
         when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -93,7 +93,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
+        verify(videoGateway, times(1)).findByIdForUpdate(eq(expectedId));
 
         final var captor = ArgumentCaptor.forClass(Video.class);
 
@@ -126,7 +126,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(aVideo));
 
         final var aCommand = UpdateMediaStatusCommand.with(expectedStatus, expectedId.getValue(), "randomId", expectedFolder, expectedFilename);
 
@@ -149,7 +149,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(aVideo));
 
         when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -157,7 +157,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
+        verify(videoGateway, times(1)).findByIdForUpdate(eq(expectedId));
 
         final var captor = ArgumentCaptor.forClass(Video.class);
 
@@ -190,7 +190,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(aVideo));
 
         when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -198,7 +198,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
+        verify(videoGateway, times(1)).findByIdForUpdate(eq(expectedId));
 
 
         final var captor = ArgumentCaptor.forClass(Video.class);
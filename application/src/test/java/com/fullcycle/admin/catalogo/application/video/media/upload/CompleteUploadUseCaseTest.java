@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.application.Fixture;
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceInfo;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+public class CompleteUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCompleteUploadUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway, videoGateway);
+    }
+
+    @Test
+    public void givenMatchingUpload_whenCallsCompleteUpload_shouldRegisterVideoMediaAndEmitEvent() {
+
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedName = "video.mp4";
+        final var expectedChecksum = IdUtils.uuid();
+        final var expectedSize = 1024L;
+        final var expectedLocation = "videoId-%s/type-VIDEO".formatted(expectedId.getValue());
+
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.of(aVideo));
+        Mockito.when(mediaResourceGateway.getResourceInfo(Mockito.any(), Mockito.any()))
+                .thenReturn(Optional.of(new ResourceInfo(expectedLocation, "video/mp4", expectedChecksum, expectedSize)));
+        Mockito.when(videoGateway.update(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var aCommand = CompleteUploadCommand.with(
+                expectedId.getValue(),
+                expectedType.name(),
+                expectedName,
+                expectedChecksum.toUpperCase(),
+                expectedSize
+        );
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        Assertions.assertEquals(expectedType, actualOutput.mediaType());
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+
+        Mockito.verify(mediaResourceGateway, Mockito.times(1)).getResourceInfo(Mockito.eq(expectedId), Mockito.eq(expectedType));
+        Mockito.verify(mediaResourceGateway, Mockito.times(1)).releaseResource(Mockito.eq(expectedId), Mockito.eq(expectedType));
+        Mockito.verify(mediaResourceGateway, Mockito.never()).storeAudioVideo(Mockito.any(), Mockito.any());
+        Mockito.verify(videoGateway, Mockito.times(1)).update(Mockito.argThat(actualVideo -> {
+            final var actualMedia = actualVideo.getVideo().get();
+            return expectedName.equals(actualMedia.name())
+                    && expectedChecksum.equals(actualMedia.checkSum())
+                    && expectedLocation.equals(actualMedia.rawLocation())
+                    && actualVideo.getDomainEvents().size() == 1
+                    && actualVideo.getDomainEvents().get(0) instanceof VideoMediaCreated;
+        }));
+    }
+
+    @Test
+    public void givenUploadWithDifferentSizeAndChecksum_whenCallsCompleteUpload_shouldReturnNotification() {
+
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedErrorCount = 2;
+
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.of(aVideo));
+        Mockito.when(mediaResourceGateway.getResourceInfo(Mockito.any(), Mockito.any()))
+                .thenReturn(Optional.of(new ResourceInfo("location", "video/mp4", "abc", 10L)));
+
+        final var aCommand = CompleteUploadCommand.with(expectedId.getValue(), "TRAILER", "trailer.mp4", "def", 20L);
+
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Mockito.verify(mediaResourceGateway, Mockito.never()).releaseResource(Mockito.any(), Mockito.any());
+        Mockito.verify(videoGateway, Mockito.never()).update(Mockito.any());
+    }
+
+    @Test
+    public void givenMissingUpload_whenCallsCompleteUpload_shouldReturnNotFound() {
+
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedErrorMessage = "No upload of BANNER found for video %s".formatted(expectedId.getValue());
+
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.of(aVideo));
+        Mockito.when(mediaResourceGateway.getResourceInfo(Mockito.any(), Mockito.any())).thenReturn(Optional.empty());
+
+        final var aCommand = CompleteUploadCommand.with(expectedId.getValue(), "BANNER", "banner.jpg", "abc", 10L);
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -44,7 +44,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedType, expectedResource);
         final var expectedMedia = AudioVideoMedia.with(IdUtils.uuid(), expectedType.name(), IdUtils.uuid());
 
-        Mockito.when(videoGateway.findById(Mockito.any())).thenReturn(Optional.of(aVideo));
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.of(aVideo));
 
         Mockito.when(mediaResourceGateway.storeAudioVideo(Mockito.any(), Mockito.any())).thenReturn(expectedMedia);
 
@@ -57,7 +57,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedType, actualOutput.mediaType());
         Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
 
-        Mockito.verify(videoGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
+        Mockito.verify(videoGateway, Mockito.times(1)).findByIdForUpdate(Mockito.eq(expectedId));
 
         Mockito.verify(mediaResourceGateway, Mockito.times(1)).storeAudioVideo(Mockito.eq(expectedId), Mockito.eq(expectedVideoResource));
 
@@ -80,7 +80,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedType, expectedResource);
         final var expectedMedia = AudioVideoMedia.with(IdUtils.uuid(), expectedType.name(), IdUtils.uuid());
 
-        Mockito.when(videoGateway.findById(Mockito.any())).thenReturn(Optional.of(aVideo));
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.of(aVideo));
 
         Mockito.when(mediaResourceGateway.storeAudioVideo(Mockito.any(), Mockito.any())).thenReturn(expectedMedia);
 
@@ -93,7 +93,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedType, actualOutput.mediaType());
         Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
 
-        Mockito.verify(videoGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
+        Mockito.verify(videoGateway, Mockito.times(1)).findByIdForUpdate(Mockito.eq(expectedId));
 
         Mockito.verify(mediaResourceGateway, Mockito.times(1)).storeAudioVideo(Mockito.eq(expectedId), Mockito.eq(expectedVideoResource));
 
@@ -116,7 +116,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedType, expectedResource);
         final var expectedMedia = ImageMedia.with(IdUtils.uuid(), expectedType.name(), IdUtils.uuid());
 
-        Mockito.when(videoGateway.findById(Mockito.any())).thenReturn(Optional.of(aVideo));
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.of(aVideo));
 
         Mockito.when(mediaResourceGateway.storeImage(Mockito.any(), Mockito.any())).thenReturn(expectedMedia);
 
@@ -129,7 +129,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedType, actualOutput.mediaType());
         Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
 
-        Mockito.verify(videoGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
+        Mockito.verify(videoGateway, Mockito.times(1)).findByIdForUpdate(Mockito.eq(expectedId));
 
         Mockito.verify(mediaResourceGateway, Mockito.times(1)).storeImage(Mockito.eq(expectedId), Mockito.eq(expectedVideoResource));
 
@@ -152,7 +152,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedType, expectedResource);
         final var expectedMedia = ImageMedia.with(IdUtils.uuid(), expectedType.name(), IdUtils.uuid());
 
-        Mockito.when(videoGateway.findById(Mockito.any())).thenReturn(Optional.of(aVideo));
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.of(aVideo));
 
         Mockito.when(mediaResourceGateway.storeImage(Mockito.any(), Mockito.any())).thenReturn(expectedMedia);
 
@@ -165,7 +165,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedType, actualOutput.mediaType());
         Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
 
-        Mockito.verify(videoGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
+        Mockito.verify(videoGateway, Mockito.times(1)).findByIdForUpdate(Mockito.eq(expectedId));
 
         Mockito.verify(mediaResourceGateway, Mockito.times(1)).storeImage(Mockito.eq(expectedId), Mockito.eq(expectedVideoResource));
 
@@ -178,6 +178,43 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         ));
     }
 
+    @Test
+    public void givenThumbnailToUpload_whenHalfSizeIsDerived_shouldStoreAndPersistBoth() {
+
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.THUMBNAIL;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedVideoResource = VideoResource.with(expectedType, expectedResource);
+        final var expectedDerived = Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF);
+        final var expectedDerivedResource = VideoResource.with(VideoMediaType.THUMBNAIL_HALF, expectedDerived);
+        final var expectedMedia = ImageMedia.with(IdUtils.uuid(), expectedType.name(), IdUtils.uuid());
+        final var expectedHalfMedia = ImageMedia.with(IdUtils.uuid(), VideoMediaType.THUMBNAIL_HALF.name(), IdUtils.uuid());
+
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.of(aVideo));
+
+        Mockito.when(mediaResourceGateway.storeImage(Mockito.any(), Mockito.eq(expectedVideoResource))).thenReturn(expectedMedia);
+        Mockito.when(mediaResourceGateway.storeImage(Mockito.any(), Mockito.eq(expectedDerivedResource))).thenReturn(expectedHalfMedia);
+        Mockito.when(mediaResourceGateway.deriveImage(Mockito.any(), Mockito.any())).thenReturn(Optional.of(expectedDerived));
+
+        Mockito.when(videoGateway.update(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var aCommand = UploadMediaCommand.with(expectedId.getValue(), expectedVideoResource);
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        Assertions.assertEquals(expectedType, actualOutput.mediaType());
+
+        Mockito.verify(mediaResourceGateway, Mockito.times(1)).deriveImage(Mockito.eq(expectedVideoResource), Mockito.eq(VideoMediaType.THUMBNAIL_HALF));
+        Mockito.verify(mediaResourceGateway, Mockito.times(1)).storeImage(Mockito.eq(expectedId), Mockito.eq(expectedDerivedResource));
+
+        Mockito.verify(videoGateway, Mockito.times(1)).update(Mockito.argThat(actualVideo ->
+                Objects.equals(expectedMedia, actualVideo.getThumbnail().get())
+                        && Objects.equals(expectedHalfMedia, actualVideo.getThumbnailHalf().get())
+                        && actualVideo.getVideo().isEmpty()
+        ));
+    }
+
     @Test
     public void givenCommandToUpload_whenIsValid_shouldUpdateThumbHalfMediaAndPersistIt() {
 
@@ -188,7 +225,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedType, expectedResource);
         final var expectedMedia = ImageMedia.with(IdUtils.uuid(), expectedType.name(), IdUtils.uuid());
 
-        Mockito.when(videoGateway.findById(Mockito.any())).thenReturn(Optional.of(aVideo));
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.of(aVideo));
 
         Mockito.when(mediaResourceGateway.storeImage(Mockito.any(), Mockito.any())).thenReturn(expectedMedia);
 
@@ -201,7 +238,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedType, actualOutput.mediaType());
         Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
 
-        Mockito.verify(videoGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
+        Mockito.verify(videoGateway, Mockito.times(1)).findByIdForUpdate(Mockito.eq(expectedId));
 
         Mockito.verify(mediaResourceGateway, Mockito.times(1)).storeImage(Mockito.eq(expectedId), Mockito.eq(expectedVideoResource));
 
@@ -224,7 +261,7 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedType, expectedResource);
         final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
 
-        Mockito.when(videoGateway.findById(Mockito.any())).thenReturn(Optional.empty());
+        Mockito.when(videoGateway.findByIdForUpdate(Mockito.any())).thenReturn(Optional.empty());
 
         final var aCommand = UploadMediaCommand.with(expectedId.getValue(), expectedVideoResource);
 
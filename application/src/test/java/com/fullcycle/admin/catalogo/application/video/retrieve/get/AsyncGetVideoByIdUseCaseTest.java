@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.Fixture;
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.AsyncVideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class AsyncGetVideoByIdUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncGetVideoByIdUseCase useCase;
+
+    @Mock
+    private AsyncVideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetVideo_shouldCompleteWithIt() {
+        final var aVideo = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(Fixture.Categories.aulas().getId()),
+                Set.of(Fixture.Genres.tech().getId()),
+                Set.of(Fixture.CastMember.wesley().getId())
+        );
+
+        final var expectedId = aVideo.getId();
+
+        when(videoGateway.findById(any())).thenReturn(CompletableFuture.completedFuture(Optional.of(Video.with(aVideo))));
+
+        final var actualVideo = this.useCase.execute(expectedId.getValue()).join();
+
+        Assertions.assertEquals(expectedId.getValue(), actualVideo.id());
+        Assertions.assertEquals(aVideo.getTitle(), actualVideo.title());
+        Assertions.assertEquals(aVideo.getRating(), actualVideo.rating());
+        Assertions.assertEquals(Set.of(Fixture.Categories.aulas().getId().getValue()), actualVideo.categories());
+    }
+
+    @Test
+    public void givenInvalidId_whenCallsGetVideo_shouldCompleteExceptionallyWithNotFound() {
+        final var expectedErrorMessage = "Video with ID 123 was not found";
+        final var expectedId = VideoID.from("123");
+
+        when(videoGateway.findById(any())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        final var actualError = Assertions.assertThrows(CompletionException.class, () -> this.useCase.execute(expectedId.getValue()).join());
+
+        Assertions.assertInstanceOf(NotFoundException.class, actualError.getCause());
+        Assertions.assertEquals(expectedErrorMessage, actualError.getCause().getMessage());
+    }
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.Fixture;
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class GetVideosByIdsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetVideosByIdsUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenIds_whenCallsGetVideosByIds_shouldKeepRequestOrderAndReportMissing() {
+        final var first = Fixture.Videos.systemDesign();
+        final var second = Fixture.Videos.systemDesign();
+        final var expectedMissing = VideoID.unique().getValue();
+
+        // The gateway answers in storage order, not request order
+        when(videoGateway.findAllByIds(any())).thenReturn(List.of(first, second));
+
+        final var actualOutput = useCase.execute(List.of(
+                second.getId().getValue(),
+                expectedMissing,
+                first.getId().getValue().toUpperCase(),
+                second.getId().getValue()
+        ));
+
+        Assertions.assertEquals(
+                List.of(second.getId().getValue(), first.getId().getValue()),
+                actualOutput.items().stream().map(VideoOutput::id).toList()
+        );
+        Assertions.assertEquals(List.of(expectedMissing), actualOutput.missing());
+
+        Mockito.verify(videoGateway, Mockito.times(1)).findAllByIds(any());
+    }
+
+    @Test
+    public void givenOnlyUnknownIds_whenCallsGetVideosByIds_shouldReturnAllAsMissing() {
+        final var expectedMissing = List.of(VideoID.unique().getValue(), VideoID.unique().getValue());
+
+        when(videoGateway.findAllByIds(any())).thenReturn(List.of());
+
+        final var actualOutput = useCase.execute(expectedMissing);
+
+        Assertions.assertTrue(actualOutput.items().isEmpty());
+        Assertions.assertEquals(expectedMissing, actualOutput.missing());
+    }
+}
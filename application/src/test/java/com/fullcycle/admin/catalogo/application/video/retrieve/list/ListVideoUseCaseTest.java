@@ -4,7 +4,10 @@ import com.fullcycle.admin.catalogo.application.Fixture;
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.video.Video;
@@ -18,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -31,10 +35,18 @@ public class ListVideoUseCaseTest extends UseCaseTest {
     @Mock
     private VideoGateway videoGateway;
 
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway);
+        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway);
     }
 
     @Test
@@ -130,4 +142,57 @@ public class ListVideoUseCaseTest extends UseCaseTest {
         Mockito.verify(videoGateway, Mockito.times(1)).findAll(eq(aQuery));
 
     }
+
+    @Test
+    public void givenExpandedQuery_whenCallsListVideos_shouldLoadNamesOncePerAssociation() {
+        final var aulas = Fixture.Categories.aulas();
+        final var tech = Fixture.Genres.tech();
+        final var wesley = Fixture.CastMember.wesley();
+        final var gabriel = Fixture.CastMember.gabriel();
+
+        final var videos = List.of(
+                new VideoPreview(Fixture.Videos.systemDesign()),
+                new VideoPreview(Fixture.Videos.systemDesign())
+        );
+
+        Mockito.when(videoGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 2, videos));
+        Mockito.when(categoryGateway.findNamesByIds(any())).thenReturn(Map.of(aulas.getId(), aulas.getName()));
+        Mockito.when(genreGateway.findNamesByIds(any())).thenReturn(Map.of(tech.getId(), tech.getName()));
+        Mockito.when(castMemberGateway.findNamesByIds(any())).thenReturn(Map.of(
+                wesley.getId(), wesley.getName(),
+                gabriel.getId(), gabriel.getName()
+        ));
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of(), true);
+
+        final var actualOutput = useCase.execute(aQuery);
+
+        Assertions.assertEquals(2, actualOutput.items().size());
+        for (final var actualItem : actualOutput.items()) {
+            Assertions.assertEquals(List.of(new VideoListOutput.Reference(aulas.getId().getValue(), aulas.getName())), actualItem.categories());
+            Assertions.assertEquals(List.of(new VideoListOutput.Reference(tech.getId().getValue(), tech.getName())), actualItem.genres());
+            Assertions.assertEquals(List.of(
+                    new VideoListOutput.Reference(gabriel.getId().getValue(), gabriel.getName()),
+                    new VideoListOutput.Reference(wesley.getId().getValue(), wesley.getName())
+            ), actualItem.castMembers());
+        }
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).findNamesByIds(eq(Set.of(aulas.getId())));
+        Mockito.verify(genreGateway, Mockito.times(1)).findNamesByIds(eq(Set.of(tech.getId())));
+        Mockito.verify(castMemberGateway, Mockito.times(1)).findNamesByIds(eq(Set.of(wesley.getId(), gabriel.getId())));
+    }
+
+    @Test
+    public void givenQueryWithoutExpand_whenCallsListVideos_shouldNotLoadNames() {
+        final var videos = List.of(new VideoPreview(Fixture.Videos.systemDesign()));
+
+        Mockito.when(videoGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 1, videos));
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of());
+
+        final var actualOutput = useCase.execute(aQuery);
+
+        Assertions.assertNull(actualOutput.items().get(0).categories());
+        Mockito.verifyNoInteractions(categoryGateway, genreGateway, castMemberGateway);
+    }
 }
@@ -87,7 +87,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
         when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
@@ -163,7 +163,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
         when(genreGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedGenres));
@@ -179,7 +179,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.id());
 
-        verify(videoGateway).findById(eq(aVideo.getId()));
+        verify(videoGateway).findByIdForUpdate(eq(aVideo.getId()));
         verify(videoGateway).update(argThat(actualVideo ->
                 Objects.equals(expectedTitle, actualVideo.getTitle())
                         && Objects.equals(expectedDescription, actualVideo.getDescription())
@@ -236,7 +236,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
         when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
@@ -252,7 +252,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.id());
 
-        verify(videoGateway).findById(eq(aVideo.getId()));
+        verify(videoGateway).findByIdForUpdate(eq(aVideo.getId()));
         verify(videoGateway).update(argThat(actualVideo ->
                 Objects.equals(expectedTitle, actualVideo.getTitle())
                         && Objects.equals(expectedDescription, actualVideo.getDescription())
@@ -309,7 +309,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
         when(genreGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedGenres));
@@ -325,7 +325,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.id());
 
-        verify(videoGateway).findById(eq(aVideo.getId()));
+        verify(videoGateway).findByIdForUpdate(eq(aVideo.getId()));
         verify(videoGateway).update(argThat(actualVideo ->
                 Objects.equals(expectedTitle, actualVideo.getTitle())
                         && Objects.equals(expectedDescription, actualVideo.getDescription())
@@ -384,7 +384,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
         when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
@@ -451,7 +451,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
             useCase.execute(aCommand);
@@ -506,7 +506,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
             useCase.execute(aCommand);
@@ -561,7 +561,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
             useCase.execute(aCommand);
@@ -616,7 +616,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
             useCase.execute(aCommand);
@@ -672,7 +672,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
         when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>());
         when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
         when(genreGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedGenres));
@@ -728,7 +728,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findByIdForUpdate(any())).thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
         when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
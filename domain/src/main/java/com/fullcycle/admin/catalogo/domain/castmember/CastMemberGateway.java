@@ -3,8 +3,11 @@ package com.fullcycle.admin.catalogo.domain.castmember;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CastMemberGateway {
 
@@ -14,9 +17,15 @@ public interface CastMemberGateway {
 
     Optional<CastMember> findById(CastMemberID anId);
 
+    Optional<Instant> findUpdatedAtById(CastMemberID anId);
+
     CastMember update(CastMember aCastMember);
 
     Pagination<CastMember> findAll(SearchQuery aQuery);
 
+    List<CastMember> findAllByIds(Iterable<CastMemberID> ids);
+
     List<CastMemberID> existsByIds(Iterable<CastMemberID> ids);
+
+    Map<CastMemberID, String> findNamesByIds(Set<CastMemberID> ids);
 }
@@ -3,8 +3,11 @@ package com.fullcycle.admin.catalogo.domain.category;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CategoryGateway {
 
@@ -14,10 +17,15 @@ public interface CategoryGateway {
 
     Optional<Category> findById(CategoryID anId);
 
+    Optional<Instant> findUpdatedAtById(CategoryID anId);
+
     Category update(Category aCategory);
 
     Pagination<Category> findAll(SearchQuery aQuery);
 
+    List<Category> findAllByIds(Iterable<CategoryID> ids);
+
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
 
+    Map<CategoryID, String> findNamesByIds(Set<CategoryID> ids);
 }
@@ -4,8 +4,11 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface GenreGateway {
 
@@ -15,9 +18,15 @@ public interface GenreGateway {
 
     Optional<Genre> findById(GenreID anId);
 
+    Optional<Instant> findUpdatedAtById(GenreID anId);
+
     Genre update(Genre aGenre);
 
     Pagination<Genre> findAll(SearchQuery aQuery);
 
+    List<Genre> findAllByIds(Iterable<GenreID> ids);
+
     List<GenreID> existsByIds(Iterable<GenreID> ids);
+
+    Map<GenreID, String> findNamesByIds(Set<GenreID> ids);
 }
@@ -2,6 +2,8 @@ package com.fullcycle.admin.catalogo.domain.resource;
 
 import com.fullcycle.admin.catalogo.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -20,6 +22,13 @@ public class  Resource extends ValueObject {
         this.name = Objects.requireNonNull(name);
     }
 
+    protected Resource(final String contentType, final String checksum, final String name) {
+        this.content = null;
+        this.contentType = Objects.requireNonNull(contentType);
+        this.checksum = Objects.requireNonNull(checksum);
+        this.name = Objects.requireNonNull(name);
+    }
+
     public static Resource with(final byte[] content, final String contentType, final String checksum, final String name) {
         return new Resource(content, contentType, checksum, name);
     }
@@ -28,6 +37,14 @@ public class  Resource extends ValueObject {
         return content;
     }
 
+    public InputStream openStream() {
+        return new ByteArrayInputStream(content());
+    }
+
+    public long size() {
+        return content().length;
+    }
+
     public String contentType() {
         return contentType;
     }
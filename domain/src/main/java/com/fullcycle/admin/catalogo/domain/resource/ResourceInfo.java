@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.domain.resource;
+
+public record ResourceInfo(
+        String name,
+        String contentType,
+        String checksum,
+        long size
+) {
+}
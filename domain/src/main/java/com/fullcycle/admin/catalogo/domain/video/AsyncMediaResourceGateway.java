@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncMediaResourceGateway {
+
+    CompletableFuture<Optional<Resource>> getResource(VideoID id, VideoMediaType type);
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncVideoGateway {
+
+    CompletableFuture<Optional<Video>> findById(VideoID id);
+
+    CompletableFuture<Pagination<VideoPreview>> findAll(VideoSearchQuery query);
+
+}
@@ -4,6 +4,7 @@ import com.fullcycle.admin.catalogo.domain.ValueObject;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 
 import java.util.Objects;
+import java.util.Optional;
 
 public class AudioVideoMedia extends ValueObject {
 
@@ -13,24 +14,34 @@ public class AudioVideoMedia extends ValueObject {
     private final String rawLocation;
     private final String encodedLocation;
     private final MediaStatus status;
+    private final MediaMetadata metadata;
 
 
-    private AudioVideoMedia(final String id, final String checkSum, final String name, final String rawLocation, final String encodedLocation, final MediaStatus status) {
+    private AudioVideoMedia(final String id, final String checkSum, final String name, final String rawLocation, final String encodedLocation, final MediaStatus status, final MediaMetadata metadata) {
         this.id = id;
         this.checkSum = Objects.requireNonNull(checkSum);
         this.name = Objects.requireNonNull(name);
         this.rawLocation = Objects.requireNonNull(rawLocation);
         this.encodedLocation = Objects.requireNonNull(encodedLocation);
         this.status = Objects.requireNonNull(status);
+        this.metadata = metadata;
     }
 
     public static AudioVideoMedia with(final String checkSum, final String name, final String rawLocation) {
-        return new AudioVideoMedia(IdUtils.uuid(), checkSum, name, rawLocation, "", MediaStatus.PENDING);
+        return with(checkSum, name, rawLocation, null);
+    }
+
+    public static AudioVideoMedia with(final String checkSum, final String name, final String rawLocation, final MediaMetadata metadata) {
+        return new AudioVideoMedia(IdUtils.uuid(), checkSum, name, rawLocation, "", MediaStatus.PENDING, metadata);
     }
 
 
     public static AudioVideoMedia with(final String id, final String checkSum, final String name, final String rawLocation, final String encodedLocation, final MediaStatus status) {
-        return new AudioVideoMedia(id, checkSum, name, rawLocation, encodedLocation, status);
+        return with(id, checkSum, name, rawLocation, encodedLocation, status, null);
+    }
+
+    public static AudioVideoMedia with(final String id, final String checkSum, final String name, final String rawLocation, final String encodedLocation, final MediaStatus status, final MediaMetadata metadata) {
+        return new AudioVideoMedia(id, checkSum, name, rawLocation, encodedLocation, status, metadata);
     }
 
     public String getId() {
@@ -57,6 +68,10 @@ public class AudioVideoMedia extends ValueObject {
         return status;
     }
 
+    public Optional<MediaMetadata> metadata() {
+        return Optional.ofNullable(metadata);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -71,11 +86,11 @@ public class AudioVideoMedia extends ValueObject {
     }
 
     public AudioVideoMedia processing() {
-        return AudioVideoMedia.with(getId(), checkSum(), name(), rawLocation(), encodedLocation(), MediaStatus.PROCESSING);
+        return AudioVideoMedia.with(getId(), checkSum(), name(), rawLocation(), encodedLocation(), MediaStatus.PROCESSING, this.metadata);
     }
 
     public AudioVideoMedia completed(String encodedPath) {
-        return AudioVideoMedia.with(getId(), checkSum(), name(), rawLocation(), encodedPath, MediaStatus.COMPLETED);
+        return AudioVideoMedia.with(getId(), checkSum(), name(), rawLocation(), encodedPath, MediaStatus.COMPLETED, this.metadata);
     }
 
     public boolean isPendingEncode() {
@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.ValueObject;
+
+import java.util.Objects;
+
+// What the container header says about an uploaded file; any field the probe couldn't find is null
+public class MediaMetadata extends ValueObject {
+
+    private final String container;
+    private final Double duration;
+    private final String videoCodec;
+    private final String audioCodec;
+    private final Long bitrate;
+    private final Integer width;
+    private final Integer height;
+
+    private MediaMetadata(
+            final String container,
+            final Double duration,
+            final String videoCodec,
+            final String audioCodec,
+            final Long bitrate,
+            final Integer width,
+            final Integer height
+    ) {
+        this.container = Objects.requireNonNull(container);
+        this.duration = duration;
+        this.videoCodec = videoCodec;
+        this.audioCodec = audioCodec;
+        this.bitrate = bitrate;
+        this.width = width;
+        this.height = height;
+    }
+
+    public static MediaMetadata with(
+            final String container,
+            final Double duration,
+            final String videoCodec,
+            final String audioCodec,
+            final Long bitrate,
+            final Integer width,
+            final Integer height
+    ) {
+        return new MediaMetadata(container, duration, videoCodec, audioCodec, bitrate, width, height);
+    }
+
+    public String container() {
+        return container;
+    }
+
+    // In seconds
+    public Double duration() {
+        return duration;
+    }
+
+    public String videoCodec() {
+        return videoCodec;
+    }
+
+    public String audioCodec() {
+        return audioCodec;
+    }
+
+    // Average over the whole file, in bits per second
+    public Long bitrate() {
+        return bitrate;
+    }
+
+    public Integer width() {
+        return width;
+    }
+
+    public Integer height() {
+        return height;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MediaMetadata that = (MediaMetadata) o;
+        return Objects.equals(container, that.container) && Objects.equals(duration, that.duration) && Objects.equals(videoCodec, that.videoCodec) && Objects.equals(audioCodec, that.audioCodec) && Objects.equals(bitrate, that.bitrate) && Objects.equals(width, that.width) && Objects.equals(height, that.height);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(container, duration, videoCodec, audioCodec, bitrate, width, height);
+    }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.domain.video;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceInfo;
 
 import java.util.Optional;
 
@@ -10,7 +11,17 @@ public interface MediaResourceGateway {
 
     ImageMedia storeImage(VideoID id, VideoResource resource);
 
+    Optional<Resource> deriveImage(VideoResource source, VideoMediaType type);
+
     Optional<Resource> getResource(VideoID id, VideoMediaType type);
 
+    MediaUploadSession createUploadSession(VideoID id, VideoMediaType type, String contentType);
+
+    Optional<ResourceInfo> getResourceInfo(VideoID id, VideoMediaType type);
+
+    Optional<MediaMetadata> probeMetadata(VideoID id, VideoMediaType type);
+
+    void releaseResource(VideoID id, VideoMediaType type);
+
     void clearResources(VideoID id);
 }
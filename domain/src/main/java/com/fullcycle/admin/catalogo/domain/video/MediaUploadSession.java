@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.time.Instant;
+
+public record MediaUploadSession(
+        String uploadUrl,
+        String location,
+        Instant expiresAt
+) {
+}
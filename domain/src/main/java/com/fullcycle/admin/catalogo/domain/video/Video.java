@@ -322,9 +322,9 @@ public class Video extends AggregateRoot<VideoID> {
 
     public Video processing(final VideoMediaType type) {
         if (VideoMediaType.VIDEO == type) {
-            getVideo().ifPresent(media -> updateTrailerMedia(media.processing()));
+            getVideo().ifPresent(media -> setVideo(media.processing()));
         } else if(VideoMediaType.TRAILER == type) {
-            getTrailer().ifPresent(media -> updateTrailerMedia(media.processing()));
+            getTrailer().ifPresent(media -> setTrailer(media.processing()));
         }
 
         return this;
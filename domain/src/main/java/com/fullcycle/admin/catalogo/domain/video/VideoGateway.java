@@ -2,6 +2,8 @@ package com.fullcycle.admin.catalogo.domain.video;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoGateway {
@@ -14,6 +16,13 @@ public interface VideoGateway {
 
     Optional<Video> findById(VideoID id);
 
+    // For reads that are changed and saved back: always the latest committed copy, never a lagging replica's
+    Optional<Video> findByIdForUpdate(VideoID id);
+
+    Optional<Instant> findUpdatedAtById(VideoID id);
+
+    List<Video> findAllByIds(Iterable<VideoID> ids);
+
     Pagination<VideoPreview> findAll(VideoSearchQuery query);
 
 }
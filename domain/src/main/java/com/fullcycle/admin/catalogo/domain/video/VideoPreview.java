@@ -1,23 +1,44 @@
 package com.fullcycle.admin.catalogo.domain.video;
 
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
 import java.time.Instant;
+import java.util.Set;
 
 public record VideoPreview(
         String id,
         String title,
         String description,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        Set<CategoryID> categories,
+        Set<GenreID> genres,
+        Set<CastMemberID> castMembers
 
 ) {
 
+    public VideoPreview(
+            final String id,
+            final String title,
+            final String description,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this(id, title, description, createdAt, updatedAt, Set.of(), Set.of(), Set.of());
+    }
+
     public VideoPreview(final Video aVideo) {
         this(
                 aVideo.getId().getValue(),
                 aVideo.getTitle(),
                 aVideo.getDescription(),
                 aVideo.getCreatedAt(),
-                aVideo.getUpdatedAt()
+                aVideo.getUpdatedAt(),
+                aVideo.getCategories(),
+                aVideo.getGenres(),
+                aVideo.getCastMembers()
         );
     }
 }
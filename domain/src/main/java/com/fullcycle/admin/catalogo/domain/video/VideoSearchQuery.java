@@ -14,10 +14,20 @@ public record VideoSearchQuery(
         String direction,
         Set<CastMemberID> castMembers,
         Set<CategoryID> categories,
-        Set<GenreID> genres
-
-
+        Set<GenreID> genres,
+        boolean expand
 ) {
-}
-
 
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, false);
+    }
+}
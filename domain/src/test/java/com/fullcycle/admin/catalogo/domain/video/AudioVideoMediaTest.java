@@ -27,4 +27,18 @@ public class AudioVideoMediaTest extends UnitTest {
         Assertions.assertEquals(expectedRawLocation, actualVideo.encodedLocation());
         Assertions.assertEquals(expectedStatus, actualVideo.status());
     }
+
+    @Test
+    public void givenMediaWithMetadata_whenChangesStatus_shouldKeepMetadata() {
+
+        final var expectedMetadata = MediaMetadata.with("mp4", 120.5, "avc1", "mp4a", 4_000_000L, 1920, 1080);
+
+        final var actualMedia = AudioVideoMedia.with("abc", "video.mp4", "/videos/abc", expectedMetadata)
+                .processing()
+                .completed("/videos/abc/encoded");
+
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualMedia.status());
+        Assertions.assertEquals(expectedMetadata, actualMedia.metadata().orElseThrow());
+        Assertions.assertTrue(AudioVideoMedia.with("abc", "video.mp4", "/videos/abc").metadata().isEmpty());
+    }
 }
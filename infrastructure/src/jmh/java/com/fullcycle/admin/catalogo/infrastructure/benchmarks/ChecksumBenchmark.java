@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalogo.infrastructure.benchmarks;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.Crc32c;
+import com.google.common.hash.Hashing;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew :infrastructure:jmh -Djmh.includes=ChecksumBenchmark
+// Guava's crc32c is a table-driven Java loop; java.util.zip.CRC32C is an intrinsic (SSE4.2 crc32 / ARMv8 crc32c)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ChecksumBenchmark {
+
+    private static final int MB = 1024 * 1024;
+
+    @Param({"1", "16", "256", "1024"})
+    private int sizeInMb;
+
+    private byte[] content;
+    private ByteBuffer direct;
+
+    @Setup
+    public void setUp() {
+        this.content = new byte[sizeInMb * MB];
+        new Random(42).nextBytes(this.content);
+        this.direct = ByteBuffer.allocateDirect(this.content.length).put(this.content).flip();
+
+        // Guava prints the CRC little-endian, GCS and Crc32c big-endian
+        final var guava = HexFormat.of().formatHex(Hashing.crc32c().hashBytes(this.content).asBytes());
+        final var jdk = crc32cHeap();
+        if (!guava.equals(reverse(jdk)) || !jdk.equals(crc32cDirect())) {
+            throw new IllegalStateException("Checksums disagree: %s / %s".formatted(guava, jdk));
+        }
+    }
+
+    @Benchmark
+    public int guava() {
+        return Hashing.crc32c().hashBytes(this.content).asInt();
+    }
+
+    @Benchmark
+    public String crc32cHeap() {
+        final var crc = new Crc32c();
+        // Same 64KB chunks HashingUtils reads from a stream
+        for (int offset = 0; offset < this.content.length; offset += 64 * 1024) {
+            crc.update(this.content, offset, Math.min(64 * 1024, this.content.length - offset));
+        }
+        return crc.hex();
+    }
+
+    @Benchmark
+    public String crc32cDirect() {
+        return new Crc32c().update(this.direct.duplicate()).hex();
+    }
+
+    private static String reverse(final String hex) {
+        final var sb = new StringBuilder();
+        for (int i = hex.length(); i > 0; i -= 2) {
+            sb.append(hex, i - 2, i);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaCreated;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderResult;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMetadata;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew :infrastructure:jmh -Djmh.includes=JsonBenchmark
+// The "copied" benchmarks replay the old path: a private ObjectMapper copy and a String in between
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    private ObjectMapper copied;
+
+    private VideoMediaCreated event;
+
+    private byte[] result;
+
+    @Setup
+    public void setUp() {
+        this.copied = Json.mapper().copy();
+        this.event = new VideoMediaCreated("0b8a4f7ad5a64b2ea6a1b0f8e3b1f2c4", "videoId-0b8a4f7ad5a64b2ea6a1b0f8e3b1f2c4/type-VIDEO");
+        this.result = Json.writeValueAsBytes(new VideoEncoderCompleted(
+                "0b8a4f7ad5a64b2ea6a1b0f8e3b1f2c4",
+                "codeeducationtest",
+                new VideoMetadata("anyfolder", "0b8a4f7ad5a64b2ea6a1b0f8e3b1f2c4", "any.mp4")
+        ));
+    }
+
+    @Benchmark
+    public byte[] writeEventCopied() throws IOException {
+        return this.copied.writeValueAsString(this.event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] writeEventShared() {
+        return Json.writeValueAsBytes(this.event);
+    }
+
+    @Benchmark
+    public VideoEncoderResult readResultCopied() throws IOException {
+        return this.copied.readValue(new String(this.result, StandardCharsets.UTF_8), VideoEncoderResult.class);
+    }
+
+    @Benchmark
+    public VideoEncoderResult readResultShared() {
+        return Json.readValue(this.result, VideoEncoderResult.class);
+    }
+}
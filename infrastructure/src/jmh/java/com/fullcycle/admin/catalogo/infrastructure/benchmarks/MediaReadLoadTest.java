@@ -0,0 +1,126 @@
+package com.fullcycle.admin.catalogo.infrastructure.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Keeps load.concurrency media downloads in flight for load.duration against a running app and prints throughput,
+// status codes and latency percentiles. Started by ./gradlew :infrastructure:mediaLoadTest, which boots the app with
+// the load-test profile (in-memory storage with a read latency) on platform or, with -Pjdk21, virtual threads.
+public final class MediaReadLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(final String[] args) throws Exception {
+        final var baseUrl = System.getProperty("load.base-url", "http://127.0.0.1:8080/api");
+        final var concurrency = Integer.getInteger("load.concurrency", 10_000);
+        final var duration = Duration.parse(System.getProperty("load.duration", "PT60S"));
+
+        final var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        final var mediaUri = URI.create(baseUrl + "/videos/%s/medias/VIDEO".formatted(seed(client, baseUrl)));
+        final var request = HttpRequest.newBuilder(mediaUri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        final var permits = new Semaphore(concurrency);
+        final var statuses = new ConcurrentHashMap<Integer, LongAdder>();
+        final var latencies = new ConcurrentLinkedQueue<Long>();
+        final var errors = new ConcurrentHashMap<String, LongAdder>();
+
+        System.out.printf("%d concurrent reads of %s for %s%n", concurrency, mediaUri, duration);
+
+        final var start = System.nanoTime();
+        final var deadline = start + duration.toNanos();
+        while (System.nanoTime() < deadline) {
+            permits.acquire();
+            final var sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                if (error != null) {
+                    final var cause = error.getCause() != null ? error.getCause() : error;
+                    errors.computeIfAbsent(cause.getClass().getSimpleName() + ": " + cause.getMessage(), name -> new LongAdder()).increment();
+                } else {
+                    statuses.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+                    latencies.add(System.nanoTime() - sent);
+                }
+                permits.release();
+            });
+        }
+        permits.acquire(concurrency);
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        report(statuses, latencies, errors, elapsed);
+    }
+
+    private static String seed(final HttpClient client, final String baseUrl) throws IOException, InterruptedException {
+        final var video = """
+                {"title":"Load test","description":"Media read load test","year_launched":2024,"duration":120.0,
+                 "opened":false,"published":false,"rating":"L","categories":[],"genres":[],"cast_members":[]}
+                """;
+        final var created = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/videos"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(video))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        final var matcher = ID.matcher(created.body());
+        if (created.statusCode() != 201 || !matcher.find()) {
+            throw new IllegalStateException("Could not create the video: %d %s".formatted(created.statusCode(), created.body()));
+        }
+        final var id = matcher.group(1);
+
+        final var boundary = UUID.randomUUID().toString();
+        final var content = new byte[16 * 1024];
+        Arrays.fill(content, (byte) 'x');
+        final var body = new ByteArrayOutputStream();
+        body.writeBytes(("--%s\r\nContent-Disposition: form-data; name=\"media_file\"; filename=\"video.mp4\"\r\n"
+                + "Content-Type: video/mp4\r\n\r\n").formatted(boundary).getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes("\r\n--%s--\r\n".formatted(boundary).getBytes(StandardCharsets.UTF_8));
+
+        final var uploaded = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/videos/%s/medias/VIDEO".formatted(id)))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (uploaded.statusCode() != 201) {
+            throw new IllegalStateException("Could not upload the media: %d %s".formatted(uploaded.statusCode(), uploaded.body()));
+        }
+        return id;
+    }
+
+    private static void report(
+            final Map<Integer, LongAdder> statuses,
+            final ConcurrentLinkedQueue<Long> latencies,
+            final Map<String, LongAdder> errors,
+            final Duration elapsed
+    ) {
+        final var sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        final var ok = statuses.getOrDefault(200, new LongAdder()).sum();
+
+        System.out.printf("elapsed=%.1fs responses=%d errors=%s%n", elapsed.toMillis() / 1000.0, sorted.length, new TreeMap<>(errors));
+        System.out.printf("status codes: %s%n", new TreeMap<>(statuses));
+        System.out.printf("throughput: %.1f req/s (%.1f ok/s)%n",
+                sorted.length * 1000.0 / elapsed.toMillis(), ok * 1000.0 / elapsed.toMillis());
+        if (sorted.length > 0) {
+            System.out.printf("latency ms: p50=%d p90=%d p99=%d max=%d%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1_000_000);
+        }
+    }
+
+    private static long percentile(final long[] sorted, final double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1_000_000;
+    }
+}
@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Runs against an already started app with a fixed worker pool, e.g. --server.undertow.threads.worker=16, so the
+// blocking endpoints saturate at that many in-flight reads while the /reactive ones do not:
+// ./gradlew :infrastructure:jmh -Djmh.includes=ReadPathConcurrencyBenchmark -Dbenchmark.base-url=http://localhost:8080/api -Dbenchmark.video-id=<id>
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(256)
+@Fork(1)
+public class ReadPathConcurrencyBenchmark {
+
+    @Param({"", "/reactive"})
+    private String prefix;
+
+    private HttpClient client;
+    private HttpRequest getById;
+    private HttpRequest list;
+
+    @Setup
+    public void setUp() {
+        final var baseUrl = System.getProperty("benchmark.base-url", "http://localhost:8080/api");
+        final var videoId = System.getProperty("benchmark.video-id");
+        if (videoId == null) {
+            throw new IllegalStateException("-Dbenchmark.video-id is required");
+        }
+
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.getById = request(baseUrl + prefix + "/videos/" + videoId);
+        this.list = request(baseUrl + prefix + "/videos?perPage=25");
+    }
+
+    @Benchmark
+    public int getById() throws IOException, InterruptedException {
+        return send(this.getById);
+    }
+
+    @Benchmark
+    public int list() throws IOException, InterruptedException {
+        return send(this.list);
+    }
+
+    private int send(final HttpRequest request) throws IOException, InterruptedException {
+        final var response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("%s answered %d".formatted(request.uri(), response.statusCode()));
+        }
+        return response.statusCode();
+    }
+
+    private static HttpRequest request(final String uri) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.fullcycle.admin.catalogo.infrastructure.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+// ./gradlew :infrastructure:jmh -Djmh.includes=ResponseFormatBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    @Param({"25", "100"})
+    private int perPage;
+
+    @Param({"false", "true"})
+    private boolean expand;
+
+    private Pagination<VideoListResponse> page;
+
+    private ObjectWriter json;
+    private ObjectWriter cbor;
+    private ObjectWriter smile;
+    private ObjectWriter protobuf;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.page = new Pagination<>(0, perPage, 10_000, IntStream.range(0, perPage).mapToObj(this::video).toList());
+
+        this.json = Json.mapper().writer();
+        this.cbor = Json.mapper(new CBORFactory()).writer();
+        this.smile = Json.mapper(new SmileFactory()).writer();
+        try (final var in = new ClassPathResource("protobuf/catalogo.proto").getInputStream()) {
+            this.protobuf = Json.mapper(new ProtobufFactory())
+                    .writer(ProtobufSchemaLoader.std.loadNative(in, false).forType("VideoListResponsePage"));
+        }
+
+        System.out.printf("%nperPage=%d expand=%s payload bytes (raw / gzip): json=%s cbor=%s smile=%s protobuf=%s%n",
+                perPage, expand, sizes(json), sizes(cbor), sizes(smile), sizes(protobuf));
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return this.json.writeValueAsBytes(this.page);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return this.cbor.writeValueAsBytes(this.page);
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return this.smile.writeValueAsBytes(this.page);
+    }
+
+    @Benchmark
+    public byte[] protobuf() throws IOException {
+        return this.protobuf.writeValueAsBytes(this.page);
+    }
+
+    private String sizes(final ObjectWriter writer) throws IOException {
+        final var raw = writer.writeValueAsBytes(this.page);
+        final var gzipped = new ByteArrayOutputStream();
+        try (final var out = new GZIPOutputStream(gzipped)) {
+            out.write(raw);
+        }
+        return "%d/%d".formatted(raw.length, gzipped.size());
+    }
+
+    private VideoListResponse video(final int index) {
+        final var now = Instant.now();
+        return new VideoListResponse(
+                UUID.randomUUID().toString().replace("-", ""),
+                "Video %d".formatted(index),
+                "Descrição do video %d com um texto de tamanho parecido com o de produção".formatted(index),
+                now,
+                now,
+                expand ? references("Categoria") : null,
+                expand ? references("Genero") : null,
+                expand ? references("Membro") : null
+        );
+    }
+
+    private static List<VideoListResponse.Reference> references(final String prefix) {
+        return IntStream.range(0, 3)
+                .mapToObj(i -> new VideoListResponse.Reference(UUID.randomUUID().toString().replace("-", ""), "%s %d".formatted(prefix, i)))
+                .toList();
+    }
+}
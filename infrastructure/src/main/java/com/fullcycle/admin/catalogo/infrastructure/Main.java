@@ -3,13 +3,15 @@ package com.fullcycle.admin.catalogo.infrastructure;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.core.env.AbstractEnvironment;
 
-@SpringBootApplication
+// The reactive read pool is built from persistence.reactive.*, not spring.r2dbc.*
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class Main {
 
     public static void main(String[] args) {
         System.setProperty(AbstractEnvironment.DEFAULT_PROFILES_PROPERTY_NAME, "development");
-        SpringApplication.run(WebServerConfig.class);
+        SpringApplication.run(WebServerConfig.class, args);
     }
 }
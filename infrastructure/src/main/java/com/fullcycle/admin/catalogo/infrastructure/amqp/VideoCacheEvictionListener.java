@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.video.cache.VideoOutputCache;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoCacheEvicted;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VideoCacheEvictionListener {
+
+    public static final String LISTENER_ID = "videoCacheEvictionListener";
+    private final VideoOutputCache videoCache;
+
+    public VideoCacheEvictionListener(final VideoOutputCache videoCache) {
+        this.videoCache = videoCache;
+    }
+
+    // The queue name is resolved from the bean, since its random per-pod suffix changes on every property lookup
+    @RabbitListener(id = LISTENER_ID, queues = "#{videoCacheEvictionsQueue.name}", admin = "videoCacheEvictionsAdmin")
+    public void onVideoCacheEvicted(@Payload final String message) {
+        final var anEvent = Json.readValue(message, VideoCacheEvicted.class);
+        this.videoCache.evictLocal(VideoID.from(anEvent.videoId()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import org.springframework.http.MediaType;
+
+public final class ApiMediaTypes {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+
+    public static final MediaType SMILE = MediaType.valueOf(SMILE_VALUE);
+    public static final MediaType PROTOBUF = MediaType.valueOf(PROTOBUF_VALUE);
+
+    private ApiMediaTypes() {}
+}
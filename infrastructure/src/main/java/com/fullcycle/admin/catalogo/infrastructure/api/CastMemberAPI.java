@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
+import com.fullcycle.admin.catalogo.application.BulkOutput;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
@@ -13,6 +14,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members")
@@ -44,14 +48,23 @@ public interface CastMemberAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
     );
 
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get many cast members by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found cast members retrieved in the requested order, unknown ids listed as missing"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkOutput<CastMemberResponse> getByIds(@RequestParam(name = "ids") List<String> ids);
+
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member retrieved"),
+            @ApiResponse(responseCode = "304", description = "Cast member was not modified"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CastMemberResponse getById(@PathVariable String id);
+    CastMemberResponse getById(@PathVariable String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
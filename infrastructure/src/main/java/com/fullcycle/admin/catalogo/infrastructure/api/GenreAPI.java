@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
+import com.fullcycle.admin.catalogo.application.BulkOutput;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
@@ -13,6 +14,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
@@ -30,7 +34,7 @@ public interface GenreAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiMediaTypes.SMILE_VALUE, ApiMediaTypes.PROTOBUF_VALUE})
     @Operation(summary = "List all genres paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
@@ -42,20 +46,33 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "active", required = false) final Boolean active
     );
 
     @GetMapping(
-            value = "{id}",
+            params = "ids",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
+    @Operation(summary = "Get many genres by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found genres retrieved in the requested order, unknown ids listed as missing"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkOutput<GenreResponse> getByIds(@RequestParam(name = "ids") List<String> ids);
+
+    @GetMapping(
+            value = "{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiMediaTypes.SMILE_VALUE, ApiMediaTypes.PROTOBUF_VALUE}
+    )
     @Operation(summary = "Get a genre by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Genre was not modified"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    GenreResponse getById(@PathVariable(name = "id") String id);
+    GenreResponse getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.StreamingPagination;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@RequestMapping(value = "reactive/videos")
+@Tag(name = "Video (non-blocking reads)")
+public interface ReactiveVideoAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List all videos paginated without holding a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Videos listed"),
+            @ApiResponse(responseCode = "422", description = "A query param was invalid"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CompletableFuture<StreamingPagination<VideoListOutput, VideoListResponse>> list(
+            @RequestParam(name = "search", required = false, defaultValue = "") String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "25") int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "title") String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+            @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
+            @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+    );
+
+    @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a video by it's identifier without holding a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Video retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CompletableFuture<VideoResponse> getById(@PathVariable(name = "id") String id);
+
+    @GetMapping(value = "{id}/medias/{type}")
+    @Operation(summary = "Get a video media by it's type without holding a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "503", description = "Too many media transfers in progress"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CompletableFuture<ResponseEntity<byte[]>> getMediaByType(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type
+    );
+}
@@ -1,6 +1,10 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
-import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.application.BulkOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.StreamingPagination;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CompleteUploadRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateUploadSessionRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
@@ -13,22 +17,25 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @RequestMapping(value = "videos")
 @Tag(name = "Video")
 public interface VideoAPI {
 
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiMediaTypes.SMILE_VALUE, ApiMediaTypes.PROTOBUF_VALUE})
     @Operation(summary = "List all videos paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Videos listed"),
             @ApiResponse(responseCode = "422", description = "A query param was invalid"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    Pagination<VideoListResponse> list(
+    StreamingPagination<VideoListOutput, VideoListResponse> list(
             @RequestParam(name = "search", required = false, defaultValue = "") String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "25") int perPage,
@@ -36,7 +43,8 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+            @RequestParam(name = "expand", required = false, defaultValue = "false") boolean expand
     );
 
     @PostMapping(
@@ -79,14 +87,23 @@ public interface VideoAPI {
     })
     ResponseEntity<?> createPartial(@RequestBody CreateVideoRequest payload);
 
-    @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get many videos by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found videos retrieved in the requested order, unknown ids listed as missing"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkOutput<VideoResponse> getByIds(@RequestParam(name = "ids") List<String> ids);
+
+    @GetMapping(value = "{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiMediaTypes.SMILE_VALUE, ApiMediaTypes.PROTOBUF_VALUE})
     @Operation(summary = "Get a video by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Video retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Video was not modified"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    VideoResponse getById(@PathVariable(name = "id") String id);
+    VideoResponse getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -119,9 +136,10 @@ public interface VideoAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "503", description = "Too many media transfers in progress"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<byte[]> getMediaByType(
+    CompletableFuture<ResponseEntity<byte[]>> getMediaByType(
             @PathVariable(name = "id") String id,
             @PathVariable(name = "type") String type
     );
@@ -131,12 +149,48 @@ public interface VideoAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Media created successfully"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "503", description = "Too many media transfers in progress"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> uploadMediaByType(
+    CompletableFuture<ResponseEntity<?>> uploadMediaByType(
             @PathVariable(name = "id") String id,
             @PathVariable(name = "type") String type,
             @RequestParam(name = "media_file") MultipartFile media
     );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/upload-session",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Open a signed direct-to-storage upload for a video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> createUploadSession(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateUploadSessionRequest payload
+    );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/upload-session/complete",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Register a media uploaded through a signed upload session")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or uploaded media was not found"),
+            @ApiResponse(responseCode = "422", description = "Uploaded media doesn't match the expected checksum or size"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> completeUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CompleteUploadRequest payload
+    );
 }
 
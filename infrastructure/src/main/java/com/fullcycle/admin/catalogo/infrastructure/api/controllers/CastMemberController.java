@@ -1,9 +1,12 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.BulkOutput;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMembersByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
@@ -15,10 +18,13 @@ import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberR
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
@@ -26,22 +32,28 @@ public class CastMemberController implements CastMemberAPI {
 
     private final CreateCastMemberUseCase createCastMemberUseCase;
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
+    private final GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final GetCastMembersByIdsUseCase getCastMembersByIdsUseCase;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
+            final GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final GetCastMembersByIdsUseCase getCastMembersByIdsUseCase
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
+        this.getCastMemberLastModifiedUseCase = Objects.requireNonNull(getCastMemberLastModifiedUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.getCastMembersByIdsUseCase = Objects.requireNonNull(getCastMembersByIdsUseCase);
     }
 
     @Override
@@ -67,7 +79,15 @@ public class CastMemberController implements CastMemberAPI {
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
+    public BulkOutput<CastMemberResponse> getByIds(final List<String> ids) {
+        return this.getCastMembersByIdsUseCase.execute(ids).map(CastMemberPresenter::present);
+    }
+
+    @Override
+    public CastMemberResponse getById(final String id, final WebRequest request) {
+        if (ETagUtils.isNotModified(request, id, this.getCastMemberLastModifiedUseCase.execute(id))) {
+            return null;
+        }
         return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
     }
 
@@ -1,10 +1,13 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.BulkOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
@@ -18,10 +21,13 @@ import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryRespo
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -30,22 +36,28 @@ public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryLastModifiedUseCase = Objects.requireNonNull(getCategoryLastModifiedUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
     }
 
     @Override
@@ -72,14 +84,23 @@ public class CategoryController implements CategoryAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final Boolean active
     ) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, active))
                 .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
+    public BulkOutput<CategoryResponse> getByIds(final List<String> ids) {
+        return this.getCategoriesByIdsUseCase.execute(ids).map(CategoryApiPresenter::present);
+    }
+
+    @Override
+    public CategoryResponse getById(final String id, final WebRequest request) {
+        if (ETagUtils.isNotModified(request, id, this.getCategoryLastModifiedUseCase.execute(id))) {
+            return null;
+        }
         return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
     }
 
@@ -1,9 +1,12 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.BulkOutput;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
@@ -15,10 +18,13 @@ import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListRespons
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 public class GenreController implements GenreAPI {
@@ -26,21 +32,27 @@ public class GenreController implements GenreAPI {
     private final CreateGenreUseCase createGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final GetGenreLastModifiedUseCase getGenreLastModifiedUseCase;
     private final ListGenreUseCase listGenreUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
+    private final GetGenresByIdsUseCase getGenresByIdsUseCase;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
+            final GetGenreLastModifiedUseCase getGenreLastModifiedUseCase,
             final ListGenreUseCase listGenreUseCase,
-            final UpdateGenreUseCase updateGenreUseCase
+            final UpdateGenreUseCase updateGenreUseCase,
+            final GetGenresByIdsUseCase getGenresByIdsUseCase
     ) {
         this.createGenreUseCase = createGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
+        this.getGenreLastModifiedUseCase = getGenreLastModifiedUseCase;
         this.listGenreUseCase = listGenreUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
+        this.getGenresByIdsUseCase = getGenresByIdsUseCase;
     }
 
     @Override
@@ -62,14 +74,23 @@ public class GenreController implements GenreAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final Boolean active
     ) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, active))
                 .map(GenreApiPresenter::present);
     }
 
     @Override
-    public GenreResponse getById(final String id) {
+    public BulkOutput<GenreResponse> getByIds(final List<String> ids) {
+        return this.getGenresByIdsUseCase.execute(ids).map(GenreApiPresenter::present);
+    }
+
+    @Override
+    public GenreResponse getById(final String id, final WebRequest request) {
+        if (ETagUtils.isNotModified(request, id, this.getGenreLastModifiedUseCase.execute(id))) {
+            return null;
+        }
         return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
     }
 
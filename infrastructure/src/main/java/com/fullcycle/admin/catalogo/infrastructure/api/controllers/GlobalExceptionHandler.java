@@ -3,12 +3,16 @@ package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -23,6 +27,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = MaxUploadSizeExceededException.class)
+    public ResponseEntity<?> handleMaxUploadSizeExceededException(final MaxUploadSizeExceededException ex) {
+        final var message = "Maximum upload size exceeded";
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(new ApiError(message, List.of(new Error(message))));
+    }
+
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<?> handleRejectedExecutionException(final RejectedExecutionException ex) {
+        final var message = "Service is busy, try again later";
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiError(message, List.of(new Error(message))));
+    }
+
+    @ExceptionHandler(value = TimeoutException.class)
+    public ResponseEntity<?> handleTimeoutException(final TimeoutException ex) {
+        final var message = "The request took too long to complete";
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(new ApiError(message, List.of(new Error(message))));
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(final DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.application.video.media.get.AsyncGetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.AsyncGetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.AsyncListVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.api.ReactiveVideoAPI;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.web.PaginationProperties;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.StreamingPagination;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+// The request thread returns to Undertow as soon as the future is handed back; the response is written on completion
+@RestController
+public class ReactiveVideoController implements ReactiveVideoAPI {
+
+    private final AsyncGetVideoByIdUseCase getVideoByIdUseCase;
+    private final AsyncListVideosUseCase listVideosUseCase;
+    private final AsyncGetMediaUseCase getMediaUseCase;
+    private final PaginationProperties paginationProperties;
+
+    public ReactiveVideoController(
+            final AsyncGetVideoByIdUseCase getVideoByIdUseCase,
+            final AsyncListVideosUseCase listVideosUseCase,
+            final AsyncGetMediaUseCase getMediaUseCase,
+            final PaginationProperties paginationProperties
+    ) {
+        this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
+        this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
+        this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
+        this.paginationProperties = Objects.requireNonNull(paginationProperties);
+    }
+
+    @Override
+    public CompletableFuture<StreamingPagination<VideoListOutput, VideoListResponse>> list(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        if (perPage > this.paginationProperties.getMaxPerPage()) {
+            throw DomainException.with(new Error("'perPage' must not be greater than %d".formatted(this.paginationProperties.getMaxPerPage())));
+        }
+
+        final var aQuery = new VideoSearchQuery(
+                page,
+                perPage,
+                search,
+                sort,
+                direction,
+                mapTo(castMembers, CastMemberID::from),
+                mapTo(categories, CategoryID::from),
+                mapTo(genres, GenreID::from)
+        );
+
+        return this.listVideosUseCase.execute(aQuery).thenApply(VideoApiPresenter::present);
+    }
+
+    @Override
+    public CompletableFuture<VideoResponse> getById(final String id) {
+        return this.getVideoByIdUseCase.execute(id).thenApply(VideoApiPresenter::present);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<byte[]>> getMediaByType(final String id, final String type) {
+        return this.getMediaUseCase.execute(GetMediaCommand.with(id, type))
+                .thenApply(aMedia -> ResponseEntity.ok()
+                        .contentType(MediaType.valueOf(aMedia.contentType()))
+                        .contentLength(aMedia.content().length)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
+                        .body(aMedia.content()));
+    }
+}
@@ -1,42 +1,69 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.BulkOutput;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CompleteUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CompleteUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateUploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateUploadSessionUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideosByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoCommand;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoUseCase;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
-import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.VideoAPI;
-import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.StorageExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageExecutorProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.web.PaginationProperties;
+import com.fullcycle.admin.catalogo.infrastructure.multipart.MultipartResourceFactory;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.StreamingPagination;
+import com.fullcycle.admin.catalogo.infrastructure.utils.AsyncUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CompleteUploadRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateUploadSessionRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
 
@@ -45,32 +72,56 @@ public class VideoController implements VideoAPI {
 
     private final CreateVideoUseCase createVideoUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
+    private final GetVideoLastModifiedUseCase getVideoLastModifiedUseCase;
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideosUseCase listVideosUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final CreateUploadSessionUseCase createUploadSessionUseCase;
+    private final CompleteUploadUseCase completeUploadUseCase;
+    private final MultipartResourceFactory multipartResourceFactory;
+    private final ExecutorService storageExecutor;
+    private final Duration storageTimeout;
+    private final GetVideosByIdsUseCase getVideosByIdsUseCase;
+    private final PaginationProperties paginationProperties;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
             final GetVideoByIdUseCase getVideoByIdUseCase,
+            final GetVideoLastModifiedUseCase getVideoLastModifiedUseCase,
             final UpdateVideoUseCase updateVideoUseCase,
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final UploadMediaUseCase uploadMediaUseCase,
+            final CreateUploadSessionUseCase createUploadSessionUseCase,
+            final CompleteUploadUseCase completeUploadUseCase,
+            final MultipartResourceFactory multipartResourceFactory,
+            @StorageExecutor final ExecutorService storageExecutor,
+            final StorageExecutorProperties storageExecutorProperties,
+            final GetVideosByIdsUseCase getVideosByIdsUseCase,
+            final PaginationProperties paginationProperties
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
+        this.getVideoLastModifiedUseCase = Objects.requireNonNull(getVideoLastModifiedUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.createUploadSessionUseCase = Objects.requireNonNull(createUploadSessionUseCase);
+        this.completeUploadUseCase = Objects.requireNonNull(completeUploadUseCase);
+        this.multipartResourceFactory = Objects.requireNonNull(multipartResourceFactory);
+        this.storageExecutor = Objects.requireNonNull(storageExecutor);
+        this.storageTimeout = storageExecutorProperties.getTimeout();
+        this.getVideosByIdsUseCase = Objects.requireNonNull(getVideosByIdsUseCase);
+        this.paginationProperties = Objects.requireNonNull(paginationProperties);
     }
 
     @Override
-    public Pagination<VideoListResponse> list(
+    public StreamingPagination<VideoListOutput, VideoListResponse> list(
             final String search,
             final int page,
             final int perPage,
@@ -78,14 +129,19 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final boolean expand
     ) {
+        if (perPage > this.paginationProperties.getMaxPerPage()) {
+            throw DomainException.with(new Error("'perPage' must not be greater than %d".formatted(this.paginationProperties.getMaxPerPage())));
+        }
+
         final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
         final var categoriesIDs = mapTo(categories, CategoryID::from);
         final var genresIDs = mapTo(genres, GenreID::from);
 
         final var aQuery =
-                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs, expand);
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
     }
@@ -152,7 +208,15 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public VideoResponse getById(final String anId) {
+    public BulkOutput<VideoResponse> getByIds(final List<String> ids) {
+        return this.getVideosByIdsUseCase.execute(ids).map(VideoApiPresenter::present);
+    }
+
+    @Override
+    public VideoResponse getById(final String anId, final WebRequest request) {
+        if (ETagUtils.isNotModified(request, anId, this.getVideoLastModifiedUseCase.execute(anId))) {
+            return null;
+        }
         return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(anId));
     }
 
@@ -185,26 +249,67 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
-        final var aMedia =
-                this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+    public CompletableFuture<ResponseEntity<byte[]>> getMediaByType(final String id, final String type) {
+        final var work = AsyncUtils.submit(() -> this.getMediaUseCase.execute(GetMediaCommand.with(id, type)), this.storageExecutor, this.storageTimeout);
+        AsyncUtils.holdUntil(currentRequest(), work.done());
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+        return work.result()
+                .thenApply(aMedia -> ResponseEntity.ok()
+                        .contentType(MediaType.valueOf(aMedia.contentType()))
+                        .contentLength(aMedia.content().length)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
+                        .body(aMedia.content()));
     }
 
     @Override
-    public ResponseEntity<?> uploadMediaByType(final String id, final String type, final MultipartFile media) {
+    public CompletableFuture<ResponseEntity<?>> uploadMediaByType(final String id, final String type, final MultipartFile media) {
         final var aType = VideoMediaType.of(type)
                 .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
 
+        // Parsed on the request thread, but the temp file must outlive it until the storage write is done
+        final var aResource = this.multipartResourceFactory.detachedResourceOf(media);
         final var aCmd =
-                UploadMediaCommand.with(id, VideoResource.with(aType, resourceOf(media)));
+                UploadMediaCommand.with(id, VideoResource.with(aType, aResource));
+
+        final AsyncUtils.Work<UploadMediaOutput> work;
+        try {
+            work = AsyncUtils.submit(() -> this.uploadMediaUseCase.execute(aCmd), this.storageExecutor, this.storageTimeout);
+        } catch (RejectedExecutionException e) {
+            this.multipartResourceFactory.release(aResource);
+            throw e;
+        }
+
+        // A timed out upload may still be reading the temp file until the interrupt reaches it
+        work.done().whenComplete((ignored, ex) -> this.multipartResourceFactory.release(aResource));
+        AsyncUtils.holdUntil(currentRequest(), work.done());
+
+        return work.result()
+                .thenApply(it -> ResponseEntity
+                        .created(URI.create("/videos/%s/medias/%s".formatted(id, type)))
+                        .body(VideoApiPresenter.present(it)));
+    }
 
-        final var output = this.uploadMediaUseCase.execute(aCmd);
+    @Override
+    public ResponseEntity<?> createUploadSession(final String id, final String type, final CreateUploadSessionRequest payload) {
+        final var aCmd = CreateUploadSessionCommand.with(id, type, payload.contentType());
+
+        final var output = this.createUploadSessionUseCase.execute(aCmd);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> completeUpload(final String id, final String type, final CompleteUploadRequest payload) {
+        final var aCmd = CompleteUploadCommand.with(
+                id,
+                type,
+                payload.name(),
+                payload.checksum(),
+                payload.size() != null ? payload.size() : -1
+        );
+
+        final var output = this.completeUploadUseCase.execute(aCmd);
 
         return ResponseEntity
                 .created(URI.create("/videos/%s/medias/%s".formatted(id, type)))
@@ -212,19 +317,10 @@ public class VideoController implements VideoAPI {
     }
 
     private Resource resourceOf(final MultipartFile part) {
-        if (part == null) {
-            return null;
-        }
+        return this.multipartResourceFactory.resourceOf(part);
+    }
 
-        try {
-            return Resource.with(
-                    part.getBytes(),
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
-        }
+    private static HttpServletRequest currentRequest() {
+        return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.infrastructure.bulkhead;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class Bulkhead {
+
+    private final GradientLimit limit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private int inflight;
+    private int waiting;
+
+    public Bulkhead(final GradientLimit limit, final int maxQueue, final Duration maxWait) {
+        this.limit = Objects.requireNonNull(limit);
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public boolean tryAcquire() {
+        this.lock.lock();
+        try {
+            if (this.inflight < this.limit.current()) {
+                this.inflight++;
+                return true;
+            }
+            if (this.waiting >= this.maxQueue) {
+                return false;
+            }
+
+            // The caller's servlet worker is parked while it waits, which is why max-queue must stay small
+            this.waiting++;
+            try {
+                var nanos = this.maxWaitNanos;
+                while (this.inflight >= this.limit.current()) {
+                    if (nanos <= 0) {
+                        return false;
+                    }
+                    nanos = this.released.awaitNanos(nanos);
+                }
+                this.inflight++;
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                this.waiting--;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void release(final long rttNanos) {
+        this.lock.lock();
+        try {
+            this.limit.onSample(rttNanos, this.inflight);
+            this.inflight--;
+            this.released.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int limit() {
+        return this.limit.current();
+    }
+
+    public int inflight() {
+        this.lock.lock();
+        try {
+            return this.inflight;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int waiting() {
+        this.lock.lock();
+        try {
+            return this.waiting;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.infrastructure.bulkhead;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.AsyncUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    static final String LIMIT_METRIC = "http.bulkhead.limit";
+    static final String INFLIGHT_METRIC = "http.bulkhead.inflight";
+    static final String QUEUED_METRIC = "http.bulkhead.queued";
+    static final String REJECTED_METRIC = "http.bulkhead.rejected";
+
+    private final Map<EndpointFamily, Bulkhead> bulkheads;
+    private final Map<EndpointFamily, Counter> rejections;
+    private final Duration retryAfter;
+
+    public BulkheadFilter(final Map<EndpointFamily, Bulkhead> bulkheads, final Duration retryAfter, final MeterRegistry registry) {
+        this.bulkheads = Collections.unmodifiableMap(new EnumMap<>(bulkheads));
+        this.rejections = new EnumMap<>(EndpointFamily.class);
+        this.retryAfter = retryAfter;
+
+        Objects.requireNonNull(registry);
+        this.bulkheads.forEach((family, bulkhead) -> {
+            final var tags = Tags.of("family", family.tag());
+            registry.gauge(LIMIT_METRIC, tags, bulkhead, Bulkhead::limit);
+            registry.gauge(INFLIGHT_METRIC, tags, bulkhead, Bulkhead::inflight);
+            registry.gauge(QUEUED_METRIC, tags, bulkhead, Bulkhead::waiting);
+            this.rejections.put(family, registry.counter(REJECTED_METRIC, tags));
+        });
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final var family = EndpointFamily.of(request).orElse(null);
+        final var bulkhead = family != null ? this.bulkheads.get(family) : null;
+
+        if (bulkhead == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            this.rejections.get(family).increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, this.retryAfter.toSeconds())));
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is overloaded, try again later");
+            return;
+        }
+
+        final var start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            AsyncUtils.whenWorkCompletes(request, () -> bulkhead.release(System.nanoTime() - start));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.infrastructure.bulkhead;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public enum EndpointFamily {
+
+    MEDIA("media"),
+    SEARCH("search"),
+    WRITES("writes");
+
+    private static final Pattern MEDIA_PATH = Pattern.compile("^(/reactive)?/videos/[^/]+/medias/[^/]+/?$");
+    private static final String VIDEOS_PATH = "/videos";
+    private static final Set<String> LIST_PATHS = Set.of("/categories", "/genres", "/cast_members", "/videos");
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final String tag;
+
+    EndpointFamily(final String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    // Lookups by id are cheap and stay outside every bulkhead
+    public static Optional<EndpointFamily> of(final HttpServletRequest request) {
+        final var path = pathOf(request);
+        final var method = request.getMethod();
+
+        if (MEDIA_PATH.matcher(path).matches() || isMultipartVideoCreate(request, method, path)) {
+            return Optional.of(MEDIA);
+        }
+        if (!READ_METHODS.contains(method)) {
+            return Optional.of(WRITES);
+        }
+        if (LIST_PATHS.contains(path)) {
+            return Optional.of(SEARCH);
+        }
+        return Optional.empty();
+    }
+
+    // Unlike the JSON POST /videos, the multipart one carries the media files in its body
+    private static boolean isMultipartVideoCreate(final HttpServletRequest request, final String method, final String path) {
+        final var contentType = request.getContentType();
+        return "POST".equals(method)
+                && VIDEOS_PATH.equals(path)
+                && contentType != null
+                && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/");
+    }
+
+    private static String pathOf(final HttpServletRequest request) {
+        final var path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+}
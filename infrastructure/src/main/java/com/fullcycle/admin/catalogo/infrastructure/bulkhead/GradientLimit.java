@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.infrastructure.bulkhead;
+
+public class GradientLimit {
+
+    private static final double LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private double limit;
+    private double longRtt;
+
+    public GradientLimit(final int minLimit, final int maxLimit, final double tolerance, final double smoothing) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = this.maxLimit;
+    }
+
+    public static GradientLimit fixed(final int limit) {
+        return new GradientLimit(limit, limit, 1.0, 0.0);
+    }
+
+    public synchronized int current() {
+        return (int) this.limit;
+    }
+
+    // Gradient2-style: compare each sample with a slow moving average and shrink the limit while latency climbs
+    public synchronized void onSample(final long rttNanos, final int inflight) {
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        this.longRtt = this.longRtt == 0 ? rttNanos : this.longRtt + (rttNanos - this.longRtt) / LONG_WINDOW;
+
+        // Once latency recovers the average is pulled down faster, so the limit can grow back
+        if (this.longRtt / rttNanos > 2) {
+            this.longRtt *= 0.95;
+        }
+
+        // Too few requests in flight to say anything about the limit
+        if (inflight < this.limit / 2) {
+            return;
+        }
+
+        final var gradient = Math.max(0.5, Math.min(1.0, this.tolerance * this.longRtt / rttNanos));
+        final var queueSize = Math.sqrt(this.limit);
+        final var target = this.limit * gradient + queueSize;
+
+        final var smoothed = this.limit * (1 - this.smoothing) + target * this.smoothing;
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, smoothed));
+    }
+}
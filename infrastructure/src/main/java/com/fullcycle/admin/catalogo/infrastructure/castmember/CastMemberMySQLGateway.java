@@ -7,17 +7,26 @@ import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.IdAndName;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
@@ -33,6 +42,7 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional
     public void deleteById(final CastMemberID aMemberId) {
         final var anId = aMemberId.getValue();
         if (this.castMemberRepository.existsById(anId)) {
@@ -41,17 +51,24 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<CastMember> findById(final CastMemberID anId) {
         return this.castMemberRepository.findById(anId.getValue())
                 .map(CastMemberJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CastMemberID anId) {
+        return this.castMemberRepository.findUpdatedAtById(anId.getValue());
+    }
+
     @Override
     public CastMember update(final CastMember aCastMember) {
         return save(aCastMember);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
         final var page = PageRequest.of(
                 aQuery.page(),
@@ -76,6 +93,21 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<CastMember> findAllByIds(final Iterable<CastMemberID> ids) {
+        final var values = StreamSupport.stream(ids.spliterator(), false)
+                .map(CastMemberID::getValue)
+                .distinct()
+                .toList();
+
+        return SqlUtils.inChunks(values).stream()
+                .flatMap(chunk -> this.castMemberRepository.findAllById(chunk).stream())
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> castMemberIDS) {
         final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
                 .map(CastMemberID::getValue)
@@ -93,4 +125,14 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
         return SpecificationUtils.like("name", terms);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<CastMemberID, String> findNamesByIds(final Set<CastMemberID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        return this.castMemberRepository.findNamesByIds(mapTo(ids, CastMemberID::getValue)).stream()
+                .collect(Collectors.toMap(it -> CastMemberID.from(it.getId()), IdAndName::getName));
+    }
+}
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.persistence.IdAndName;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -7,7 +8,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
 
@@ -15,4 +19,10 @@ public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity,
 
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
-}
\ No newline at end of file
+
+    @Query(value = "select c.updatedAt from CastMember c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Query(value = "select c.id as id, c.name as name from CastMember c where c.id in :ids")
+    List<IdAndName> findNamesByIds(@Param("ids") Collection<String> ids);
+}
@@ -3,24 +3,39 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.IdAndName;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    // Each one is backed by a (column) index for the unfiltered listing and an (active, column) one for the
+    // active filter, anything else would sort the whole table
+    private static final Set<String> SORT_FIELDS = Set.of("name", "createdAt");
+
     private final CategoryRepository repository;
 
     public CategoryMySQLGateway(final CategoryRepository repository) {
@@ -34,6 +49,7 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    @Transactional
     public void deleteById(CategoryID anId) {
         final String anIdValue = anId.getValue();
         if (this.repository.existsById(anIdValue)) {
@@ -42,22 +58,29 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Category> findById(final CategoryID anId) {
         return this.repository.findById(anId.getValue())
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        return this.repository.findUpdatedAtById(anId.getValue());
+    }
+
     @Override
     public Category update(Category aCategory) {
         return null;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(SearchQuery aQuery) {
 
         final var page = PageRequest.of(aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                Sort.by(Sort.Direction.fromString(aQuery.direction()), sortField(aQuery.sort()))
         );
 
         final var specifications = Optional.ofNullable(aQuery.terms())
@@ -68,7 +91,11 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 )
                 .orElse(null);
 
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+        final var active = Optional.ofNullable(aQuery.active())
+                .map(value -> SpecificationUtils.<CategoryJpaEntity>equal("active", value))
+                .orElse(null);
+
+        final var pageResult = this.repository.findAll(Specification.where(active).and(specifications), page);
 
         return new Pagination<>(pageResult.getNumber(),
                                 pageResult.getSize(),
@@ -77,7 +104,29 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
+    private static String sortField(final String sort) {
+        if (!SORT_FIELDS.contains(sort)) {
+            throw DomainException.with(new Error("Unsupported sort field: %s".formatted(sort)));
+        }
+        return sort;
+    }
+
     @Override
+    @Transactional(readOnly = true)
+    public List<Category> findAllByIds(final Iterable<CategoryID> ids) {
+        final var values = StreamSupport.stream(ids.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .toList();
+
+        return SqlUtils.inChunks(values).stream()
+                .flatMap(chunk -> this.repository.findAllById(chunk).stream())
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIds) {
         final var ids = StreamSupport.stream(categoryIds.spliterator(), false)
                 .map(CategoryID::getValue)
@@ -85,4 +134,14 @@ public class CategoryMySQLGateway implements CategoryGateway {
         return this.repository.existsByIds(ids).stream()
                 .map(CategoryID::from).toList();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<CategoryID, String> findNamesByIds(final Set<CategoryID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        return this.repository.findNamesByIds(mapTo(ids, CategoryID::getValue)).stream()
+                .collect(Collectors.toMap(it -> CategoryID.from(it.getId()), IdAndName::getName));
+    }
 }
@@ -1,10 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.VideoCacheEvictions;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.VideoEvents;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +30,13 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @VideoCacheEvictions
+    @ConfigurationProperties("amqp.queues.video-cache-evictions")
+    public QueueProperties videoCacheEvictionsQueueProperties() {
+        return new QueueProperties();
+    }
+
     @Configuration
     static class Admin {
 
@@ -59,4 +70,43 @@ public class AmqpConfig {
             return new Queue(props.getQueue());
         }
     }
+
+    // Each pod binds its own exclusive queue, which can't be provisioned up front, so these are always declared here by
+    // an admin that touches nothing else, even when amqp.admin.auto-create is off
+    @Configuration
+    static class CacheEvictions {
+
+        static final String ADMIN = "videoCacheEvictionsAdmin";
+
+        @Bean(ADMIN)
+        public RabbitAdmin videoCacheEvictionsAdmin(final ConnectionFactory connectionFactory) {
+            final var admin = new RabbitAdmin(connectionFactory);
+            admin.setExplicitDeclarationsOnly(true);
+            return admin;
+        }
+
+        @Bean
+        @VideoCacheEvictions
+        public FanoutExchange videoCacheEvictionsExchange(@VideoCacheEvictions QueueProperties props, @Qualifier(ADMIN) RabbitAdmin admin) {
+            final var exchange = new FanoutExchange(props.getExchange());
+            exchange.setAdminsThatShouldDeclare(admin);
+            return exchange;
+        }
+
+        @Bean
+        @VideoCacheEvictions
+        public Queue videoCacheEvictionsQueue(@VideoCacheEvictions QueueProperties props, @Qualifier(ADMIN) RabbitAdmin admin) {
+            final var queue = new Queue(props.getQueue(), false, true, true);
+            queue.setAdminsThatShouldDeclare(admin);
+            return queue;
+        }
+
+        @Bean
+        @VideoCacheEvictions
+        public Binding videoCacheEvictionsBinding(@VideoCacheEvictions FanoutExchange exchange, @VideoCacheEvictions Queue queue, @Qualifier(ADMIN) RabbitAdmin admin) {
+            final var binding = BindingBuilder.bind(queue).to(exchange);
+            binding.setAdminsThatShouldDeclare(admin);
+            return binding;
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.StorageExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageExecutorProperties;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ThreadUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    @ConfigurationProperties("storage.executor")
+    public StorageExecutorProperties storageExecutorProperties() {
+        return new StorageExecutorProperties();
+    }
+
+    // Media transfers wait on object storage here instead of on Undertow workers; a full queue is rejected, not grown.
+    // With virtual threads the pool keeps its size and queue, so `threads` is still the cap on concurrent transfers.
+    @Bean(destroyMethod = "shutdown")
+    @StorageExecutor
+    public ExecutorService storageExecutor(
+            final StorageExecutorProperties props,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final var executor = new ThreadPoolExecutor(
+                props.getThreads(), props.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                props.isVirtualThreads() ? ThreadUtils.virtualThreadFactory("storage-io-") : new CustomizableThreadFactory("storage-io-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        final var registry = meterRegistry.getIfAvailable();
+        return registry != null ? ExecutorServiceMetrics.monitor(registry, executor, "storage") : executor;
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.bulkhead.Bulkhead;
+import com.fullcycle.admin.catalogo.infrastructure.bulkhead.BulkheadFilter;
+import com.fullcycle.admin.catalogo.infrastructure.bulkhead.EndpointFamily;
+import com.fullcycle.admin.catalogo.infrastructure.bulkhead.GradientLimit;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.web.BulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.EnumMap;
+
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    @ConfigurationProperties("bulkhead")
+    public BulkheadProperties bulkheadProperties() {
+        return new BulkheadProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(
+            final BulkheadProperties props,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final var bulkheads = new EnumMap<EndpointFamily, Bulkhead>(EndpointFamily.class);
+        bulkheads.put(EndpointFamily.MEDIA, bulkhead(props, props.getMedia()));
+        bulkheads.put(EndpointFamily.SEARCH, bulkhead(props, props.getSearch()));
+        bulkheads.put(EndpointFamily.WRITES, bulkhead(props, props.getWrites()));
+
+        final var registration = new FilterRegistrationBean<>(new BulkheadFilter(
+                bulkheads,
+                props.getRetryAfter(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        ));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    private static Bulkhead bulkhead(final BulkheadProperties props, final BulkheadProperties.Limits limits) {
+        final var limit = props.isAdaptive()
+                ? new GradientLimit(limits.getMinConcurrent(), limits.getMaxConcurrent(), props.getTolerance(), props.getSmoothing())
+                : GradientLimit.fixed(limits.getMaxConcurrent());
+        return new Bulkhead(limit, limits.getMaxQueue(), limits.getMaxWait());
+    }
+}
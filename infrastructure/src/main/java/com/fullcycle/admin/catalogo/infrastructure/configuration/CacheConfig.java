@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.VideoCacheEvictions;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.cache.VideoCacheProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.video.cache.InMemorySharedVideoCache;
+import com.fullcycle.admin.catalogo.infrastructure.video.cache.SharedVideoCache;
+import com.fullcycle.admin.catalogo.infrastructure.video.cache.VideoOutputCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConfigurationProperties("cache.videos")
+    public VideoCacheProperties videoCacheProperties() {
+        return new VideoCacheProperties();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(value = "cache.videos.shared-enabled", havingValue = "true")
+    public SharedVideoCache inMemorySharedVideoCache() {
+        return new InMemorySharedVideoCache();
+    }
+
+    @Bean
+    public VideoOutputCache videoOutputCache(
+            final VideoCacheProperties props,
+            final ObjectProvider<SharedVideoCache> sharedCache,
+            @VideoCacheEvictions final ObjectProvider<EventService> evictions,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final var cache = new VideoOutputCache(
+                props.getMaximumSize(),
+                props.getTtl(),
+                sharedCache.getIfAvailable(),
+                evictions.getIfAvailable()
+        );
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache.local(), "videos"));
+        return cache;
+    }
+}
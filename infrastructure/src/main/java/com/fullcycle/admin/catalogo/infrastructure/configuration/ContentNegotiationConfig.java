@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.JacksonProtobufHttpMessageConverter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    private static final String PROTOBUF_SCHEMA = "protobuf/catalogo.proto";
+
+    // Replace the default binary converters in place (after JSON), built with the same settings as Json
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(Json.mapper(new CBORFactory()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(Json.mapper(new SmileFactory()));
+    }
+
+    // Appended last so error bodies and endpoints without produces keep defaulting to JSON
+    @Override
+    public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+        converters.add(new JacksonProtobufHttpMessageConverter(Json.mapper(new ProtobufFactory()), protobufSchema()));
+    }
+
+    // Caches in front of us must key negotiated responses on Accept, or a CBOR client could be served cached JSON
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+                // Not HandlerMapping's producible attribute: that only keeps the types this request's Accept matched
+                if (handler instanceof HandlerMethod method) {
+                    final var mapping = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), RequestMapping.class);
+                    if (mapping != null && mapping.produces().length > 1) {
+                        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                    }
+                }
+                return true;
+            }
+        });
+    }
+
+    static NativeProtobufSchema protobufSchema() {
+        try (final var in = new ClassPathResource(PROTOBUF_SCHEMA).getInputStream()) {
+            return ProtobufSchemaLoader.std.loadNative(in, false);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.persistence.SlowQueryProperties;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.SlowQueryLogListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("persistence.slow-query")
+    public SlowQueryProperties slowQueryProperties() {
+        return new SlowQueryProperties();
+    }
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(
+            final ObjectProvider<SlowQueryProperties> props,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                // Only the physical pools are proxied, so routing/lazy wrappers don't log each statement twice
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                        || bean instanceof AbstractRoutingDataSource || bean instanceof DelegatingDataSource) {
+                    return bean;
+                }
+
+                final var slowQuery = props.getObject();
+                if (!slowQuery.isEnabled()) {
+                    return bean;
+                }
+
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new SlowQueryLogListener(
+                                slowQuery.getThreshold(),
+                                slowQuery.getSampleRate(),
+                                // Looking up the MeterRegistry bean now would cycle through the pool metrics binder back to this DataSource,
+                                // so it is only resolved when the first slow statement is counted
+                                () -> meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)
+                        ))
+                        .build();
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.VideoCacheEvictions;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
@@ -27,5 +28,14 @@ public class EventConfig {
         return new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
     }
 
+    @Bean
+    @VideoCacheEvictions
+    EventService videoCacheEvictionsEventService(
+            @VideoCacheEvictions final QueueProperties props,
+            final RabbitOperations ops
+    ) {
+        return new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
+    }
+
 
 }
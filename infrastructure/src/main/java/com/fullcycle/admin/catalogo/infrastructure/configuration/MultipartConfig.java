@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.web.UploadProperties;
+import com.fullcycle.admin.catalogo.infrastructure.multipart.MultipartResourceFactory;
+import com.fullcycle.admin.catalogo.infrastructure.multipart.UploadLimitFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Configuration
+public class MultipartConfig {
+
+    @Bean
+    @ConfigurationProperties("uploads")
+    public UploadProperties uploadProperties() {
+        return new UploadProperties();
+    }
+
+    // Parts above the container's file-size-threshold are already on disk, so only those are kept as files
+    @Bean
+    public MultipartResourceFactory multipartResourceFactory(
+            final UploadProperties props,
+            final ObjectProvider<MultipartProperties> multipartProperties
+    ) throws IOException {
+        final var threshold = multipartProperties.getIfAvailable(MultipartProperties::new).getFileSizeThreshold().toBytes();
+        final var tempDir = Files.createDirectories(Path.of(props.getTempDir()));
+        return new MultipartResourceFactory(threshold, tempDir);
+    }
+
+    @Bean
+    public FilterRegistrationBean<UploadLimitFilter> uploadLimitFilter(
+            final UploadProperties props,
+            final ObjectProvider<MultipartProperties> multipartProperties
+    ) {
+        final var maxRequestSize = multipartProperties.getIfAvailable(MultipartProperties::new).getMaxRequestSize().toBytes();
+
+        final var registration = new FilterRegistrationBean<>(
+                new UploadLimitFilter(maxRequestSize, props.getMaxConcurrent(), props.getRetryAfter())
+        );
+        registration.addUrlPatterns("/videos", "/videos/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
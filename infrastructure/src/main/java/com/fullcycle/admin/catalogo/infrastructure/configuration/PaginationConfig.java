@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.web.PaginationProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PaginationConfig {
+
+    @Bean
+    @ConfigurationProperties("pagination")
+    public PaginationProperties paginationProperties() {
+        return new PaginationProperties();
+    }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.persistence.ReactiveProperties;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReactiveDatabase;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReactiveDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("persistence.reactive")
+    public ReactiveProperties reactiveProperties() {
+        return new ReactiveProperties();
+    }
+
+    // Connections are only opened on the first reactive read, so startup never waits on this pool
+    @Bean
+    public ReactiveDatabase reactiveDatabase(final ReactiveProperties props) {
+        final var options = ConnectionFactoryOptions.parse(props.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, props.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, props.getPassword())
+                .build();
+
+        final var configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive")
+                .initialSize(props.getInitialSize())
+                .maxSize(props.getMaxSize())
+                .maxAcquireTime(props.getMaxAcquireTime())
+                .maxIdleTime(props.getMaxIdleTime())
+                .build();
+
+        return new ReactiveDatabase(new ConnectionPool(configuration));
+    }
+}
@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.persistence.ReplicaProperties;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReplicaLagMonitor;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(value = "persistence.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("persistence.replica")
+    public ReplicaProperties replicaProperties() {
+        return new ReplicaProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public DataSource primaryDataSource(final DataSourceProperties props) {
+        return props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("persistence.replica.hikari")
+    public DataSource replicaDataSource(final ReplicaProperties props) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(props.getUrl())
+                .username(props.getUsername())
+                .password(props.getPassword())
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") final DataSource replica, final ReplicaProperties props) {
+        return new ReplicaLagMonitor(replica, props.getLagQuery(), props.getMaxLag());
+    }
+
+    // Bound once the registry exists: asking for the registry while the routing dataSource is being built would cycle
+    // through the pool metrics binder back to it
+    @Bean
+    public MeterBinder replicaLagMetrics(final ReplicaLagMonitor monitor) {
+        return registry -> Gauge.builder("replica.lag", monitor, ReplicaLagMonitor::lagSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    // The lazy proxy defers borrowing a connection until the first statement, after the read-only flag is known
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primary,
+            @Qualifier("replicaDataSource") final DataSource replica,
+            final ReplicaLagMonitor lagMonitor
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, lagMonitor));
+    }
+}
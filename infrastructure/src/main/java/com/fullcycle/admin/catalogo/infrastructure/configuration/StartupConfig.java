@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Configuration
+public class StartupConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupConfig.class);
+
+    // With spring.main.lazy-initialization on, only beans from startup.lazy-packages are deferred; the rest start eagerly
+    @Bean
+    public static LazyInitializationExcludeFilter eagerOutsideLazyPackages(final Environment environment) {
+        final var packages = Binder.get(environment)
+                .bind("startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+
+        return (beanName, definition, beanType) -> !packages.isEmpty()
+                && packages.stream().noneMatch(pkg -> inPackage(pkg, beanType, definition));
+    }
+
+    private static boolean inPackage(final String pkg, final Class<?> beanType, final BeanDefinition definition) {
+        final var prefix = pkg + ".";
+        if (beanType != null && beanType.getName().startsWith(prefix)) {
+            return true;
+        }
+        if (definition.getBeanClassName() != null && definition.getBeanClassName().startsWith(prefix)) {
+            return true;
+        }
+        return definition instanceof AnnotatedBeanDefinition annotated
+                && annotated.getFactoryMethodMetadata() != null
+                && annotated.getFactoryMethodMetadata().getDeclaringClassName().startsWith(prefix);
+    }
+
+    // Training run for the CDS archive baked into the image: boot the whole context once, then exit so the JVM dumps it
+    @Configuration
+    @Profile("cds-training")
+    static class CdsTraining {
+
+        @Bean
+        public ApplicationListener<ApplicationReadyEvent> exitAfterStartup() {
+            return event -> {
+                log.info("CDS training run started in {}, exiting", event.getTimeTaken());
+                System.exit(SpringApplication.exit(event.getApplicationContext()));
+            };
+        }
+    }
+}
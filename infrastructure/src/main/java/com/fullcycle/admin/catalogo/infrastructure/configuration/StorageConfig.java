@@ -1,18 +1,35 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.google.GoogleStorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.ImageDerivationProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.MediaPurgeProperties;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.impl.GCStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.InstrumentedStorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.ImageDerivationService;
+import com.fullcycle.admin.catalogo.infrastructure.video.MediaPurgeService;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaPurgeRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.probe.MediaProbe;
 import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.GlobalOpenTelemetry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableScheduling
 public class StorageConfig {
 
     @Bean
@@ -25,15 +42,69 @@ public class StorageConfig {
     @Profile({"development", "production"})
     public StorageService gcStorageService(
             final GoogleStorageProperties props,
-            final Storage storage
-
+            final StorageProperties storageProperties,
+            final Storage storage,
+            final MeterRegistry meterRegistry
             ) {
-        return new GCStorageService(props.getBucket(), storage);
+        return new InstrumentedStorageService(
+                new GCStorageService(props.getBucket(), storage),
+                storageProperties.getFilenamePattern(),
+                meterRegistry,
+                GlobalOpenTelemetry.getTracer("catalogo-videos.storage")
+        );
     }
 
     @Bean(name = "storageService")
     @ConditionalOnMissingBean
-    public StorageService inMemoryStorageService() {
-        return new InMemoryStorageService();
+    public StorageService inMemoryStorageService(final StorageProperties storageProperties) {
+        return new InMemoryStorageService(storageProperties.getInMemoryReadLatency());
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.purge")
+    public MediaPurgeProperties mediaPurgeProperties() {
+        return new MediaPurgeProperties();
+    }
+
+    @Bean
+    public MediaPurgeService mediaPurgeService(
+            final MediaPurgeProperties props,
+            final StorageService storageService,
+            final MediaPurgeRepository purgeRepository
+    ) {
+        // One purge runs at a time; its batches fan out to the bounded worker pool
+        final var dispatcher = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.getPollSize() * 2),
+                new CustomizableThreadFactory("media-purge-")
+        );
+        final var workers = Executors.newFixedThreadPool(
+                props.getParallelism(),
+                new CustomizableThreadFactory("media-purge-worker-")
+        );
+        return new MediaPurgeService(props, storageService, purgeRepository, dispatcher, workers);
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.images")
+    public ImageDerivationProperties imageDerivationProperties() {
+        return new ImageDerivationProperties();
+    }
+
+    @Bean
+    public ImageDerivationService imageDerivationService(final ImageDerivationProperties props) {
+        // Resampling is CPU work: a few threads, and a full queue skips the derivation instead of piling up
+        final var workers = new ThreadPoolExecutor(
+                props.getThreads(), props.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                new CustomizableThreadFactory("image-derivation-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        return new ImageDerivationService(props, workers);
+    }
+
+    @Bean
+    public MediaProbe mediaProbe() {
+        return new MediaProbe();
     }
 }
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+
+// Same property Spring Boot 3.2 reads natively, so the switch carries over once the app moves past 2.7.
+// Only where threads are spent waiting changes: Hikari's maximum-pool-size, the storage executor and the bulkheads
+// remain the concurrency bounds.
+@Configuration
+@ConditionalOnProperty(value = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService requestExecutor() {
+        log.info("Dispatching requests and AMQP consumers on virtual threads");
+        return ThreadUtils.newVirtualThreadPerTaskExecutor("http-");
+    }
+
+    // Servlet invocations leave Undertow's fixed worker pool; the IO threads still accept and parse
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadDispatch(final ExecutorService requestExecutor) {
+        return factory -> factory.addDeploymentInfoCustomizers(deployment -> deployment
+                .setExecutor(requestExecutor)
+                .setAsyncExecutor(requestExecutor));
+    }
+
+    // Each consumer of a @RabbitListener container runs on its own virtual thread
+    @Bean
+    public ContainerCustomizer<SimpleMessageListenerContainer> virtualThreadConsumers() {
+        return container -> container.setTaskExecutor(new TaskExecutorAdapter(
+                ThreadUtils.newVirtualThreadPerTaskExecutor("amqp-consumer-")));
+    }
+}
@@ -1,10 +1,23 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @Configuration
 @ComponentScan("com.fullcycle.admin.catalogo")
 public class WebServerConfig {
 
+    // A page has no single updated_at, so list responses get a weak ETag hashed from the body. Not /videos: hashing
+    // needs the whole body buffered, which would undo the streamed video listing
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listETagFilter() {
+        final var filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
 
+        final var registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/categories", "/genres", "/cast_members");
+        return registration;
+    }
 }
@@ -0,0 +1,101 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.api.ApiMediaTypes;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.StreamingPagination;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Writes the regular response records against a .proto schema, the message is picked by the record's simple name
+public class JacksonProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final String PAGE_SUFFIX = "Page";
+
+    private final ObjectMapper mapper;
+    private final NativeProtobufSchema schema;
+    private final Map<Type, Optional<ObjectWriter>> writers;
+
+    public JacksonProtobufHttpMessageConverter(final ObjectMapper mapper, final NativeProtobufSchema schema) {
+        super(ApiMediaTypes.PROTOBUF);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.schema = Objects.requireNonNull(schema);
+        this.writers = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public boolean canRead(final Type type, final Class<?> contextClass, final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(final Class<?> clazz, final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(final Type type, final Class<?> clazz, final MediaType mediaType) {
+        return canWrite(mediaType) && writerFor(type, clazz).isPresent();
+    }
+
+    @Override
+    protected void writeInternal(final Object body, final Type type, final HttpOutputMessage outputMessage) throws IOException {
+        final var writer = writerFor(type, body.getClass())
+                .orElseThrow(() -> new HttpMessageNotWritableException("No protobuf message for %s".formatted(body.getClass().getName())));
+        writer.writeValue(outputMessage.getBody(), body);
+    }
+
+    @Override
+    public Object read(final Type type, final Class<?> contextClass, final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(final Class<?> clazz, final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    private Optional<ObjectWriter> writerFor(final Type type, final Class<?> clazz) {
+        final var resolved = type != null ? ResolvableType.forType(type) : ResolvableType.NONE;
+        final var target = resolved.resolve() == null || Object.class.equals(resolved.resolve())
+                ? ResolvableType.forClass(clazz)
+                : resolved;
+
+        return this.writers.computeIfAbsent(target.getType(), ignored ->
+                Optional.ofNullable(messageName(target))
+                        .filter(this.schema::hasMessageType)
+                        .map(name -> this.mapper.writer(this.schema.forType(name))));
+    }
+
+    private static String messageName(final ResolvableType type) {
+        final var raw = type.resolve();
+        if (raw == null) {
+            return null;
+        }
+        if (Pagination.class.equals(raw) || StreamingPagination.class.equals(raw)) {
+            final var generics = type.getGenerics();
+            final var item = generics.length == 0 ? null : generics[generics.length - 1].resolve();
+            return item == null ? null : item.getSimpleName() + PAGE_SUFFIX;
+        }
+        return raw.getSimpleName();
+    }
+}
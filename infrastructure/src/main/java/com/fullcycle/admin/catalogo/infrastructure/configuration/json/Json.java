@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -7,22 +8,49 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum Json {
     INSTANCE;
 
+    // Shared with the Spring context, so HTTP, AMQP and persistence reuse the same serializer caches
     public static ObjectMapper mapper() {
-        return INSTANCE.mapper.copy();
+        return INSTANCE.mapper;
+    }
+
+    // Same settings as the JSON mapper, so binary formats carry the exact same fields
+    public static ObjectMapper mapper(final JsonFactory factory) {
+        return INSTANCE.builder().factory(factory).build();
+    }
+
+    public static ObjectReader readerFor(final Class<?> type) {
+        return INSTANCE.readers.computeIfAbsent(type, INSTANCE.mapper::readerFor);
+    }
+
+    public static ObjectWriter writerFor(final Class<?> type) {
+        return INSTANCE.writers.computeIfAbsent(type, INSTANCE.mapper::writerFor);
     }
 
     public static String writeValueAsString(final Object obj) {
-        return invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
+        return invoke(() -> writerOf(obj).writeValueAsString(obj));
+    }
 
+    public static byte[] writeValueAsBytes(final Object obj) {
+        return invoke(() -> writerOf(obj).writeValueAsBytes(obj));
     }
 
     public static <T> T readValue(final String json, final Class<T> clazz) {
-        return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
+        return invoke(() -> readerFor(clazz).readValue(json));
+    }
+
+    public static <T> T readValue(final byte[] json, final Class<T> clazz) {
+        return invoke(() -> readerFor(clazz).readValue(json));
+    }
+
+    private static ObjectWriter writerOf(final Object obj) {
+        return obj == null ? INSTANCE.mapper.writer() : writerFor(obj.getClass());
     }
 
     private static <T> T invoke(final Callable<T> callable) {
@@ -32,15 +60,21 @@ public enum Json {
             throw new RuntimeException(e);
         }
     }
-    private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
-            .dateFormat(new StdDateFormat())
-            .featuresToDisable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
-                    DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
-                    DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
-                    SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-            .modules(new JavaTimeModule(), new Jdk8Module(), afterburnerModule())
-            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-            .build();
+
+    private final ObjectMapper mapper = builder().build();
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private Jackson2ObjectMapperBuilder builder() {
+        return new Jackson2ObjectMapperBuilder()
+                .dateFormat(new StdDateFormat())
+                .featuresToDisable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                        DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
+                        DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modules(new JavaTimeModule(), new Jdk8Module(), afterburnerModule())
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
 
     private AfterburnerModule afterburnerModule() {
         var module = new AfterburnerModule();
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class VideoCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoCacheProperties.class);
+
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofSeconds(30);
+    private boolean sharedEnabled = false;
+
+    public VideoCacheProperties() {
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public boolean isSharedEnabled() {
+        return sharedEnabled;
+    }
+
+    public void setSharedEnabled(boolean sharedEnabled) {
+        this.sharedEnabled = sharedEnabled;
+    }
+
+    @Override
+    public String toString() {
+        return "VideoCacheProperties{" +
+                "maximumSize=" + maximumSize +
+                ", ttl=" + ttl +
+                ", sharedEnabled=" + sharedEnabled +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+}
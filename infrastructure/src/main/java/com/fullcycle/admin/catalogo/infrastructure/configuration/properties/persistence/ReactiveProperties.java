@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ReactiveProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveProperties.class);
+
+    private String url;
+    private String username;
+    private String password;
+    private int initialSize = 0;
+    private int maxSize = 20;
+    private Duration maxAcquireTime = Duration.ofMillis(250);
+    private Duration maxIdleTime = Duration.ofMinutes(10);
+
+    public ReactiveProperties() {
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getInitialSize() {
+        return initialSize;
+    }
+
+    public void setInitialSize(int initialSize) {
+        this.initialSize = initialSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getMaxAcquireTime() {
+        return maxAcquireTime;
+    }
+
+    public void setMaxAcquireTime(Duration maxAcquireTime) {
+        this.maxAcquireTime = maxAcquireTime;
+    }
+
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(Duration maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    @Override
+    public String toString() {
+        return "ReactiveProperties{" +
+                "url='" + url + '\'' +
+                ", username='" + username + '\'' +
+                ", initialSize=" + initialSize +
+                ", maxSize=" + maxSize +
+                ", maxAcquireTime=" + maxAcquireTime +
+                ", maxIdleTime=" + maxIdleTime +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+}
@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ReplicaProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaProperties.class);
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private Duration maxLag = Duration.ofSeconds(5);
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    public ReplicaProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaProperties{" +
+                "enabled=" + enabled +
+                ", url='" + url + '\'' +
+                ", username='" + username + '\'' +
+                ", maxLag=" + maxLag +
+                ", lagQuery='" + lagQuery + '\'' +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class SlowQueryProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryProperties.class);
+
+    private boolean enabled = true;
+    private long threshold = 200;
+    private double sampleRate = 1.0;
+
+    public SlowQueryProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(long threshold) {
+        this.threshold = threshold;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQueryProperties{" +
+                "enabled=" + enabled +
+                ", threshold=" + threshold +
+                ", sampleRate=" + sampleRate +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+}
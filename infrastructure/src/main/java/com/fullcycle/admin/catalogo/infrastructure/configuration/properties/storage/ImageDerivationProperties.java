@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ImageDerivationProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivationProperties.class);
+
+    private boolean enabled = true;
+    private int threads = 2;
+    private int queueCapacity = 50;
+    private Duration timeout = Duration.ofSeconds(10);
+    private long maxPixels = 40_000_000;
+
+    public ImageDerivationProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getMaxPixels() {
+        return maxPixels;
+    }
+
+    public void setMaxPixels(long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    @Override
+    public String toString() {
+        return "ImageDerivationProperties{" +
+                "enabled=" + enabled +
+                ", threads=" + threads +
+                ", queueCapacity=" + queueCapacity +
+                ", timeout=" + timeout +
+                ", maxPixels=" + maxPixels +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+}
@@ -0,0 +1,97 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class MediaPurgeProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaPurgeProperties.class);
+
+    private int batchSize = 100;
+    private int parallelism = 4;
+    private int maxAttempts = 10;
+    private Duration initialBackoff = Duration.ofSeconds(5);
+    private Duration maxBackoff = Duration.ofMinutes(10);
+    private Duration lease = Duration.ofMinutes(5);
+    private int pollSize = 50;
+
+    public MediaPurgeProperties() {
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public int getPollSize() {
+        return pollSize;
+    }
+
+    public void setPollSize(int pollSize) {
+        this.pollSize = pollSize;
+    }
+
+    @Override
+    public String toString() {
+        return "MediaPurgeProperties{" +
+                "batchSize=" + batchSize +
+                ", parallelism=" + parallelism +
+                ", maxAttempts=" + maxAttempts +
+                ", initialBackoff=" + initialBackoff +
+                ", maxBackoff=" + maxBackoff +
+                ", lease=" + lease +
+                ", pollSize=" + pollSize +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class StorageExecutorProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageExecutorProperties.class);
+
+    private int threads = 16;
+    private int queueCapacity = 100;
+    private boolean virtualThreads = false;
+    private Duration timeout = Duration.ofMinutes(5);
+
+    public StorageExecutorProperties() {
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String toString() {
+        return "StorageExecutorProperties{" +
+                "threads=" + threads +
+                ", queueCapacity=" + queueCapacity +
+                ", virtualThreads=" + virtualThreads +
+                ", timeout=" + timeout +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+}
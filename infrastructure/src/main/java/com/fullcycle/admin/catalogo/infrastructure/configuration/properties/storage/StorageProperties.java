@@ -4,12 +4,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 
+import java.time.Duration;
+
 public class StorageProperties implements InitializingBean {
 
     private static final Logger log = LoggerFactory.getLogger(StorageProperties.class);
 
     private String locationPattern;
     private String filenamePattern;
+    private boolean contentAddressed;
+    private String blobPattern;
+    private Duration uploadSessionTtl;
+    private Duration inMemoryReadLatency = Duration.ZERO;
 
     public StorageProperties() {
 
@@ -30,11 +36,47 @@ public class StorageProperties implements InitializingBean {
         this.filenamePattern = filenamePattern;
     }
 
+    public boolean isContentAddressed() {
+        return contentAddressed;
+    }
+
+    public void setContentAddressed(boolean contentAddressed) {
+        this.contentAddressed = contentAddressed;
+    }
+
+    public String getBlobPattern() {
+        return blobPattern;
+    }
+
+    public void setBlobPattern(String blobPattern) {
+        this.blobPattern = blobPattern;
+    }
+
+    public Duration getUploadSessionTtl() {
+        return uploadSessionTtl;
+    }
+
+    public void setUploadSessionTtl(Duration uploadSessionTtl) {
+        this.uploadSessionTtl = uploadSessionTtl;
+    }
+
+    public Duration getInMemoryReadLatency() {
+        return inMemoryReadLatency;
+    }
+
+    public void setInMemoryReadLatency(Duration inMemoryReadLatency) {
+        this.inMemoryReadLatency = inMemoryReadLatency;
+    }
+
     @Override
     public String toString() {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
                 ", filenamePattern='" + filenamePattern + '\'' +
+                ", contentAddressed=" + contentAddressed +
+                ", blobPattern='" + blobPattern + '\'' +
+                ", uploadSessionTtl=" + uploadSessionTtl +
+                ", inMemoryReadLatency=" + inMemoryReadLatency +
                 '}';
     }
 
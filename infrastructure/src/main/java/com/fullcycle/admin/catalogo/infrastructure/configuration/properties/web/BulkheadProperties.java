@@ -0,0 +1,158 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class BulkheadProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadProperties.class);
+
+    private boolean enabled = true;
+    private boolean adaptive = true;
+    private double tolerance = 1.5;
+    private double smoothing = 0.2;
+    private Duration retryAfter = Duration.ofSeconds(2);
+    private Limits media = new Limits();
+    private Limits search = new Limits();
+    private Limits writes = new Limits();
+
+    public BulkheadProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public Limits getMedia() {
+        return media;
+    }
+
+    public void setMedia(Limits media) {
+        this.media = media;
+    }
+
+    public Limits getSearch() {
+        return search;
+    }
+
+    public void setSearch(Limits search) {
+        this.search = search;
+    }
+
+    public Limits getWrites() {
+        return writes;
+    }
+
+    public void setWrites(Limits writes) {
+        this.writes = writes;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkheadProperties{" +
+                "enabled=" + enabled +
+                ", adaptive=" + adaptive +
+                ", tolerance=" + tolerance +
+                ", smoothing=" + smoothing +
+                ", retryAfter=" + retryAfter +
+                ", media=" + media +
+                ", search=" + search +
+                ", writes=" + writes +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    public static class Limits {
+
+        private int maxConcurrent = 16;
+        private int minConcurrent = 2;
+        // Waiters block a servlet worker, so the queue stays small and the wait short
+        private int maxQueue = 2;
+        private Duration maxWait = Duration.ofMillis(250);
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public int getMinConcurrent() {
+            return minConcurrent;
+        }
+
+        public void setMinConcurrent(int minConcurrent) {
+            this.minConcurrent = minConcurrent;
+        }
+
+        public int getMaxQueue() {
+            return maxQueue;
+        }
+
+        public void setMaxQueue(int maxQueue) {
+            this.maxQueue = maxQueue;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        @Override
+        public String toString() {
+            return "Limits{" +
+                    "maxConcurrent=" + maxConcurrent +
+                    ", minConcurrent=" + minConcurrent +
+                    ", maxQueue=" + maxQueue +
+                    ", maxWait=" + maxWait +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class PaginationProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PaginationProperties.class);
+
+    private int maxPerPage = 100;
+
+    public PaginationProperties() {
+    }
+
+    public int getMaxPerPage() {
+        return maxPerPage;
+    }
+
+    public void setMaxPerPage(int maxPerPage) {
+        this.maxPerPage = maxPerPage;
+    }
+
+    @Override
+    public String toString() {
+        return "PaginationProperties{" +
+                "maxPerPage=" + maxPerPage +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+}
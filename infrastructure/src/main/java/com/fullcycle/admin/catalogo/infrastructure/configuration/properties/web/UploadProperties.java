@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class UploadProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadProperties.class);
+
+    private int maxConcurrent = 8;
+    private Duration retryAfter = Duration.ofSeconds(5);
+    private String tempDir = System.getProperty("java.io.tmpdir");
+
+    public UploadProperties() {
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public String getTempDir() {
+        return tempDir;
+    }
+
+    public void setTempDir(String tempDir) {
+        this.tempDir = tempDir;
+    }
+
+    @Override
+    public String toString() {
+        return "UploadProperties{" +
+                "maxConcurrent=" + maxConcurrent +
+                ", retryAfter=" + retryAfter +
+                ", tempDir='" + tempDir + '\'' +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+}
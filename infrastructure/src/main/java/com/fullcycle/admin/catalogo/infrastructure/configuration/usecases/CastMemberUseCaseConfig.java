@@ -5,7 +5,11 @@ import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateC
 import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMembersByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMembersByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
@@ -42,6 +46,16 @@ public class CastMemberUseCaseConfig {
         return new DefaultGetCastMemberByIdUseCase(castMemberGateway);
     }
 
+    @Bean
+    public GetCastMembersByIdsUseCase getCastMembersByIdsUseCase() {
+        return new DefaultGetCastMembersByIdsUseCase(castMemberGateway);
+    }
+
+    @Bean
+    public GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase() {
+        return new DefaultGetCastMemberLastModifiedUseCase(castMemberGateway);
+    }
+
     @Bean
     public ListCastMembersUseCase listCastMembersUseCase() {
         return new DefaultListCastMembersUseCase(castMemberGateway);
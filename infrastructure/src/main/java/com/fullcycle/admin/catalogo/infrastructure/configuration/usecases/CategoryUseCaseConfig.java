@@ -5,7 +5,11 @@ import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCat
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
@@ -38,6 +42,16 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+    }
+
+    @Bean
+    public GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase() {
+        return new DefaultGetCategoryLastModifiedUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(categoryGateway);
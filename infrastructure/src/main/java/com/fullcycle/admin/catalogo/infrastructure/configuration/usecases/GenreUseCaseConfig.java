@@ -5,7 +5,11 @@ import com.fullcycle.admin.catalogo.application.genre.create.DefaultCreateGenreU
 import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.DefaultGetGenresByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
@@ -44,6 +48,16 @@ public class GenreUseCaseConfig {
         return new DefaultGetGenreByIdUseCase(genreGateway);
     }
 
+    @Bean
+    public GetGenresByIdsUseCase getGenresByIdsUseCase() {
+        return new DefaultGetGenresByIdsUseCase(genreGateway);
+    }
+
+    @Bean
+    public GetGenreLastModifiedUseCase getGenreLastModifiedUseCase() {
+        return new DefaultGetGenreLastModifiedUseCase(genreGateway);
+    }
+
     @Bean
     public ListGenreUseCase listGenreUseCase() {
         return new DefaultListGenreUseCase(genreGateway);
@@ -4,14 +4,28 @@ import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.DefaultCreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DefaultDeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.AsyncGetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.DefaultAsyncGetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CompleteUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultCompleteUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultCreateUploadSessionUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultUploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.AsyncGetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.DefaultAsyncGetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.DefaultGetVideosByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.DefaultGetVideoLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideosByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoLastModifiedUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.AsyncListVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.DefaultAsyncListVideosUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.DefaultListVideosUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
 import com.fullcycle.admin.catalogo.application.video.update.DefaultUpdateVideoUseCase;
@@ -19,8 +33,13 @@ import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoUseCase;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.AsyncMediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.AsyncVideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.video.cache.CachedGetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.video.cache.CachedGetVideoLastModifiedUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.video.cache.VideoOutputCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -34,19 +53,28 @@ public class VideoUseCaseConfig {
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final VideoOutputCache videoCache;
+    private final AsyncVideoGateway asyncVideoGateway;
+    private final AsyncMediaResourceGateway asyncMediaResourceGateway;
 
     public VideoUseCaseConfig(
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway
+            final VideoGateway videoGateway,
+            final VideoOutputCache videoCache,
+            final AsyncVideoGateway asyncVideoGateway,
+            final AsyncMediaResourceGateway asyncMediaResourceGateway
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.videoCache = Objects.requireNonNull(videoCache);
+        this.asyncVideoGateway = Objects.requireNonNull(asyncVideoGateway);
+        this.asyncMediaResourceGateway = Objects.requireNonNull(asyncMediaResourceGateway);
     }
 
     @Bean
@@ -61,7 +89,17 @@ public class VideoUseCaseConfig {
 
     @Bean
     public GetVideoByIdUseCase getVideoByIdUseCase() {
-        return new DefaultGetVideoByIdUseCase(videoGateway);
+        return new CachedGetVideoByIdUseCase(new DefaultGetVideoByIdUseCase(videoGateway), videoCache);
+    }
+
+    @Bean
+    public GetVideosByIdsUseCase getVideosByIdsUseCase() {
+        return new DefaultGetVideosByIdsUseCase(videoGateway);
+    }
+
+    @Bean
+    public GetVideoLastModifiedUseCase getVideoLastModifiedUseCase() {
+        return new CachedGetVideoLastModifiedUseCase(new DefaultGetVideoLastModifiedUseCase(videoGateway), videoCache);
     }
 
     @Bean
@@ -71,7 +109,7 @@ public class VideoUseCaseConfig {
 
     @Bean
     public ListVideosUseCase listVideosUseCase() {
-        return new DefaultListVideosUseCase(videoGateway);
+        return new DefaultListVideosUseCase(videoGateway, categoryGateway, genreGateway, castMemberGateway);
     }
 
     @Bean
@@ -84,8 +122,33 @@ public class VideoUseCaseConfig {
         return new DefaultUploadMediaUseCase(videoGateway, mediaResourceGateway);
     }
 
+    @Bean
+    public CreateUploadSessionUseCase createUploadSessionUseCase() {
+        return new DefaultCreateUploadSessionUseCase(videoGateway, mediaResourceGateway);
+    }
+
+    @Bean
+    public CompleteUploadUseCase completeUploadUseCase() {
+        return new DefaultCompleteUploadUseCase(videoGateway, mediaResourceGateway);
+    }
+
     @Bean
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public AsyncGetVideoByIdUseCase asyncGetVideoByIdUseCase() {
+        return new DefaultAsyncGetVideoByIdUseCase(asyncVideoGateway);
+    }
+
+    @Bean
+    public AsyncListVideosUseCase asyncListVideosUseCase() {
+        return new DefaultAsyncListVideosUseCase(asyncVideoGateway);
+    }
+
+    @Bean
+    public AsyncGetMediaUseCase asyncGetMediaUseCase() {
+        return new DefaultAsyncGetMediaUseCase(asyncMediaResourceGateway);
+    }
+}
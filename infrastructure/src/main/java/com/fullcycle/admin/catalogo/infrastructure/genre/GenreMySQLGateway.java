@@ -1,27 +1,42 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.IdAndName;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
+    // Each one is backed by a (column) index for the unfiltered listing and an (active, column) one for the
+    // active filter, anything else would sort the whole table
+    private static final Set<String> SORT_FIELDS = Set.of("name", "createdAt");
+
     private final GenreRepository genreRepository;
 
     public GenreMySQLGateway(GenreRepository genreRepository) {
@@ -34,6 +49,7 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    @Transactional
     public void deleteById(final GenreID anId) {
         final var aGenreId = anId.getValue();
         if (this.genreRepository.existsById((aGenreId))) {
@@ -42,27 +58,51 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Genre> findById(final GenreID anId) {
         return this.genreRepository.findById(anId.getValue()).map(GenreJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Instant> findUpdatedAtById(final GenreID anId) {
+        return this.genreRepository.findUpdatedAtById(anId.getValue());
+    }
+
     @Override
     public Genre update(Genre aGenre) {
         return save(aGenre);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Genre> findAll(SearchQuery aQuery) {
-        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()));
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), Sort.by(Sort.Direction.fromString(aQuery.direction()), sortField(aQuery.sort())));
 
         final var where = Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank()).map(this::assembleSpecification).orElse(null);
 
-        final var results = this.genreRepository.findAll(Specification.where(where), page);
+        final var active = Optional.ofNullable(aQuery.active()).map(value -> SpecificationUtils.<GenreJpaEntity>equal("active", value)).orElse(null);
+
+        final var results = this.genreRepository.findAll(Specification.where(active).and(where), page);
 
         return new Pagination<>(results.getNumber(), results.getSize(), results.getTotalElements(), results.map(GenreJpaEntity::toAggregate).toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Genre> findAllByIds(final Iterable<GenreID> ids) {
+        final var values = StreamSupport.stream(ids.spliterator(), false)
+                .map(GenreID::getValue)
+                .distinct()
+                .toList();
+
+        return SqlUtils.inChunks(values).stream()
+                .flatMap(chunk -> this.genreRepository.findAllById(chunk).stream())
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<GenreID> existsByIds(final Iterable<GenreID> genreIDS) {
         final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
                 .map(GenreID::getValue)
@@ -78,4 +118,21 @@ public class GenreMySQLGateway implements GenreGateway {
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
         return SpecificationUtils.like("name", terms);
     }
+
+    private static String sortField(final String sort) {
+        if (!SORT_FIELDS.contains(sort)) {
+            throw DomainException.with(new Error("Unsupported sort field: %s".formatted(sort)));
+        }
+        return sort;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<GenreID, String> findNamesByIds(final Set<GenreID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        return this.genreRepository.findNamesByIds(mapTo(ids, GenreID::getValue)).stream()
+                .collect(Collectors.toMap(it -> GenreID.from(it.getId()), IdAndName::getName));
+    }
 }
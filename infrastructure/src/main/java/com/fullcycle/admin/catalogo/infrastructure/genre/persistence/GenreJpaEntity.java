@@ -3,6 +3,8 @@ package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -27,6 +29,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
+    @BatchSize(size = SqlUtils.MAX_IN_CLAUSE_SIZE)
     @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.IdAndName;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -8,7 +9,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
 
@@ -16,4 +20,10 @@ public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
 
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select c.updatedAt from GenreJpaEntity c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Query(value = "select c.id as id, c.name as name from GenreJpaEntity c where c.id in :ids")
+    List<IdAndName> findNamesByIds(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalogo.infrastructure.multipart;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+public class FileBackedResource extends Resource {
+
+    private final Path path;
+    private final long size;
+
+    private FileBackedResource(
+            final Path path,
+            final long size,
+            final String contentType,
+            final String checksum,
+            final String name
+    ) {
+        super(contentType, checksum, name);
+        this.path = Objects.requireNonNull(path);
+        this.size = size;
+    }
+
+    public static FileBackedResource with(
+            final Path path,
+            final String contentType,
+            final String checksum,
+            final String name
+    ) {
+        try {
+            return new FileBackedResource(path, Files.size(path), contentType, checksum, name);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    // Only for callers that really need the bytes in heap; storage should stream from path()
+    @Override
+    public byte[] content() {
+        try {
+            return Files.readAllBytes(this.path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            return Files.newInputStream(this.path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FileBackedResource that = (FileBackedResource) o;
+        return Objects.equals(path, that.path) && Objects.equals(contentType(), that.contentType()) && Objects.equals(getChecksum(), that.getChecksum()) && Objects.equals(getName(), that.getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, contentType(), getChecksum(), getName());
+    }
+}
@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.multipart;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+public class MultipartResourceFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(MultipartResourceFactory.class);
+
+    private final long spillThreshold;
+    private final Path tempDir;
+
+    public MultipartResourceFactory(final long spillThreshold, final Path tempDir) {
+        this.spillThreshold = spillThreshold;
+        this.tempDir = Objects.requireNonNull(tempDir);
+    }
+
+    public Resource resourceOf(final MultipartFile part) {
+        return resourceOf(part, true);
+    }
+
+    // For work that outlives the request thread: the temp file survives the request and the caller frees it with release()
+    public Resource detachedResourceOf(final MultipartFile part) {
+        return resourceOf(part, false);
+    }
+
+    public void release(final Resource resource) {
+        if (resource instanceof FileBackedResource file) {
+            delete(file.path());
+        }
+    }
+
+    private Resource resourceOf(final MultipartFile part, final boolean requestScoped) {
+        if (part == null) {
+            return null;
+        }
+
+        try {
+            if (part.getSize() <= this.spillThreshold) {
+                final var content = part.getBytes();
+                return Resource.with(content, part.getContentType(), HashingUtils.checksum(content), part.getOriginalFilename());
+            }
+            return spill(part, requestScoped);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Resource spill(final MultipartFile part, final boolean requestScoped) throws IOException {
+        // The target must not exist yet: the container moves its own temp file there instead of copying
+        final var file = this.tempDir.resolve("upload-" + IdUtils.uuid());
+        if (requestScoped) {
+            deleteAtRequestEnd(file);
+        }
+
+        try {
+            part.transferTo(file.toFile());
+            return FileBackedResource.with(
+                    file,
+                    part.getContentType(),
+                    HashingUtils.checksum(file),
+                    part.getOriginalFilename()
+            );
+        } catch (IOException | RuntimeException e) {
+            delete(file);
+            throw e;
+        }
+    }
+
+    private static void deleteAtRequestEnd(final Path file) {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.registerDestructionCallback(file.toString(), () -> delete(file), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete upload temp file {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.infrastructure.multipart;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.AsyncUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+public class UploadLimitFilter extends OncePerRequestFilter {
+
+    private final long maxRequestSize;
+    private final Semaphore slots;
+    private final Duration retryAfter;
+
+    public UploadLimitFilter(final long maxRequestSize, final int maxConcurrent, final Duration retryAfter) {
+        this.maxRequestSize = maxRequestSize;
+        this.slots = new Semaphore(maxConcurrent);
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        final var contentType = request.getContentType();
+        return contentType == null || !contentType.toLowerCase().startsWith("multipart/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        // Rejected before the body is read; chunked requests are still capped by the multipart parser
+        if (this.maxRequestSize > 0 && request.getContentLengthLong() > this.maxRequestSize) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value(), "Maximum upload size of %d bytes exceeded".formatted(this.maxRequestSize));
+            return;
+        }
+
+        if (!this.slots.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, this.retryAfter.toSeconds())));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many concurrent uploads");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Async media uploads keep the slot until the storage write has stopped, even if the request timed out first
+            AsyncUtils.whenWorkCompletes(request, this.slots::release);
+        }
+    }
+
+    public int availableSlots() {
+        return this.slots.availablePermits();
+    }
+}
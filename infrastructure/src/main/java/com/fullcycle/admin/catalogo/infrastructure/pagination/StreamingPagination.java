@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalogo.infrastructure.pagination;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.Function;
+
+// Same JSON shape as Pagination, but items are mapped one at a time while the generator writes them
+public final class StreamingPagination<T, R> implements JsonSerializable {
+
+    private final Pagination<T> page;
+    private final Function<T, R> mapper;
+
+    private StreamingPagination(final Pagination<T> page, final Function<T, R> mapper) {
+        this.page = Objects.requireNonNull(page);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    public static <T, R> StreamingPagination<T, R> of(final Pagination<T> page, final Function<T, R> mapper) {
+        return new StreamingPagination<>(page, mapper);
+    }
+
+    public int currentPage() {
+        return page.currentPage();
+    }
+
+    public int perPage() {
+        return page.perPage();
+    }
+
+    public long total() {
+        return page.total();
+    }
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        gen.writeStartObject(this);
+        writeFields(gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(final JsonGenerator gen, final SerializerProvider provider, final TypeSerializer typeSer) throws IOException {
+        final var typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_OBJECT));
+        writeFields(gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private void writeFields(final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        gen.writeNumberField(name(provider, "currentPage"), page.currentPage());
+        gen.writeNumberField(name(provider, "perPage"), page.perPage());
+        gen.writeNumberField(name(provider, "total"), page.total());
+
+        gen.writeArrayFieldStart(name(provider, "items"));
+        for (final T item : page.items()) {
+            provider.defaultSerializeValue(mapper.apply(item), gen);
+        }
+        gen.writeEndArray();
+    }
+
+    private static String name(final SerializerProvider provider, final String property) {
+        if (provider.getConfig().getPropertyNamingStrategy() instanceof PropertyNamingStrategies.NamingBase naming) {
+            return naming.translate(property);
+        }
+        return property;
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+// Spring Data projection for lookups that only need an aggregate's display name
+public interface IdAndName {
+
+    String getId();
+
+    String getName();
+}
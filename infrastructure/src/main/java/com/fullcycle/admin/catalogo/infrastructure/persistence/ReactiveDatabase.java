@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.Objects;
+
+// Owns the R2DBC pool without exposing it as a ConnectionFactory bean, which would switch off the JDBC DataSource auto-configuration
+public class ReactiveDatabase implements DisposableBean {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public ReactiveDatabase(final ConnectionPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+        this.client = DatabaseClient.create(pool);
+    }
+
+    public DatabaseClient client() {
+        return client;
+    }
+
+    @Override
+    public void destroy() {
+        this.pool.dispose();
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+public final class ReadYourWrites {
+
+    private static final String WROTE_ATTRIBUTE = ReadYourWrites.class.getName() + ".WROTE";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    // Scoped to the HTTP request; work outside a request (listeners, schedulers) never sticks
+    public static void markWrite() {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    // For reads whose result outlives the request, like cache fills: a lagging replica would be served for the whole TTL
+    public static <T> T onPrimary(final Supplier<T> action) {
+        final var outermost = PINNED.get() == null;
+        PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (outermost) {
+                PINNED.remove();
+            }
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    public static boolean hasWritten() {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final List<String> LAG_COLUMNS = List.of("Seconds_Behind_Source", "Seconds_Behind_Master");
+    private static final long UNKNOWN = -1;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final AtomicLong lagSeconds;
+
+    public ReplicaLagMonitor(final DataSource replica, final String lagQuery, final Duration maxLag) {
+        this.replica = Objects.requireNonNull(replica);
+        this.lagQuery = Objects.requireNonNull(lagQuery);
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.lagSeconds = new AtomicLong(UNKNOWN);
+    }
+
+    // Until the first successful probe the lag is unknown and every read stays on the primary
+    public boolean isReplicaUsable() {
+        final var lag = this.lagSeconds.get();
+        return lag != UNKNOWN && lag <= this.maxLagSeconds;
+    }
+
+    public long lagSeconds() {
+        return this.lagSeconds.get();
+    }
+
+    @Scheduled(fixedDelayString = "${persistence.replica.probe-interval:1000}")
+    public void probe() {
+        final var previous = this.lagSeconds.get();
+        final var current = readLag().orElse(UNKNOWN);
+        this.lagSeconds.set(current);
+
+        final var wasUsable = previous != UNKNOWN && previous <= this.maxLagSeconds;
+        if (wasUsable != isReplicaUsable()) {
+            log.warn("Replica {} for reads (lag: {}s, max: {}s)", isReplicaUsable() ? "enabled" : "disabled", current, this.maxLagSeconds);
+        }
+    }
+
+    private OptionalLong readLag() {
+        try (final var conn = this.replica.getConnection();
+             final var stmt = conn.createStatement();
+             final var rs = stmt.executeQuery(this.lagQuery)) {
+
+            // No row means the server isn't replicating at all
+            if (!rs.next()) {
+                return OptionalLong.empty();
+            }
+
+            final var lag = rs.getLong(lagColumn(rs));
+            return rs.wasNull() ? OptionalLong.empty() : OptionalLong.of(lag);
+        } catch (SQLException e) {
+            log.debug("Could not read replica lag", e);
+            return OptionalLong.empty();
+        }
+    }
+
+    private static int lagColumn(final ResultSet rs) throws SQLException {
+        final var metadata = rs.getMetaData();
+        for (int i = 1; i <= metadata.getColumnCount(); i++) {
+            final var label = metadata.getColumnLabel(i);
+            if (LAG_COLUMNS.stream().anyMatch(label::equalsIgnoreCase)) {
+                return i;
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(final DataSource primary, final DataSource replica, final ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = Objects.requireNonNull(lagMonitor);
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRole();
+    }
+
+    DataSourceRole currentRole() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.markWrite();
+            }
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (ReadYourWrites.hasWritten() || ReadYourWrites.isPinnedToPrimary() || !this.lagMonitor.isReplicaUsable()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+}
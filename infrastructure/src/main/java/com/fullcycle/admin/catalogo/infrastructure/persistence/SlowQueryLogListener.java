@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class SlowQueryLogListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLogListener.class);
+
+    static final String SLOW_QUERIES_METRIC = "jdbc.slow.queries";
+
+    private static final String CALL_SITE_PACKAGE = "com.fullcycle.admin.catalogo.infrastructure";
+    private static final String CALL_SITE_SUFFIX = "Gateway";
+    private static final String UNKNOWN_CALL_SITE = "unknown";
+
+    private final long threshold;
+    private final double sampleRate;
+    private final Supplier<MeterRegistry> registry;
+
+    public SlowQueryLogListener(final long threshold, final double sampleRate, final MeterRegistry registry) {
+        this(threshold, sampleRate, () -> registry);
+        Objects.requireNonNull(registry);
+    }
+
+    // The registry is resolved on the first slow statement, not while the DataSource is being built
+    public SlowQueryLogListener(final long threshold, final double sampleRate, final Supplier<MeterRegistry> registry) {
+        this.threshold = threshold;
+        this.sampleRate = sampleRate;
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        final var elapsed = execInfo.getElapsedTime();
+        if (elapsed < this.threshold) {
+            return;
+        }
+
+        // Only slow statements pay for the stack walk, the fast path is a single comparison
+        final var callSite = callSite();
+
+        Counter.builder(SLOW_QUERIES_METRIC)
+                .tag("call_site", callSite)
+                .register(this.registry.get())
+                .increment();
+
+        if (this.sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= this.sampleRate) {
+            return;
+        }
+
+        for (final var query : queryInfoList) {
+            log.warn("[message:slow.query] [elapsed:{}ms] [callSite:{}] [query:{}] [params:{}]",
+                    elapsed, callSite, query.getQuery(), params(query));
+        }
+    }
+
+    static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(CALL_SITE_PACKAGE))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .filter(frame -> frame.getClassName().endsWith(CALL_SITE_SUFFIX))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse(UNKNOWN_CALL_SITE));
+    }
+
+    private static String simpleName(final String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String params(final QueryInfo query) {
+        return query.getParametersList().stream()
+                .map(SlowQueryLogListener::params)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String params(final List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .map(ParameterSetOperation::getArgs)
+                .filter(args -> args != null && args.length > 1)
+                .map(args -> args[0] + "=" + args[1])
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
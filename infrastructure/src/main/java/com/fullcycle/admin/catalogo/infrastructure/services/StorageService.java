@@ -1,7 +1,9 @@
 package com.fullcycle.admin.catalogo.infrastructure.services;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceInfo;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -12,9 +14,16 @@ public interface StorageService {
 
     Optional<Resource> get(String name);
 
+    // At most length bytes from offset, fewer only at the end of the object; empty when it doesn't exist
+    Optional<byte[]> read(String name, long offset, int length);
+
     void deleteAll(Collection<String> names);
 
     List<String> list(String prefix);
 
+    String signUpload(String name, String contentType, Duration ttl);
+
+    Optional<ResourceInfo> info(String name);
+
 
 }
@@ -1,20 +1,37 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceInfo;
+import com.fullcycle.admin.catalogo.infrastructure.multipart.FileBackedResource;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.Crc32c;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.google.common.collect.Lists;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.StreamSupport;
 
 
 public class GCStorageService implements StorageService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final String bucket;
     private final Storage storage;
 
@@ -29,7 +46,30 @@ public class GCStorageService implements StorageService {
                 .setContentType(resource.contentType())
                 .setCrc32cFromHexString(resource.getChecksum())
                 .build();
-        this.storage.create(blobInfo, resource.content());
+
+        verify(name, resource.getChecksum(), upload(blobInfo, resource));
+    }
+
+    private Blob upload(final BlobInfo blobInfo, final Resource resource) {
+        // Spilled uploads go through a resumable upload read from disk instead of a single in-heap request;
+        // crc32cMatch makes the bucket reject the object if what it received doesn't hash to our CRC32C
+        if (resource instanceof FileBackedResource file) {
+            try {
+                return this.storage.createFrom(blobInfo, file.path(), Storage.BlobWriteOption.crc32cMatch());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this.storage.create(blobInfo, resource.content());
+    }
+
+    // The stored object's CRC32C has to be the one computed while the upload was received, otherwise it is not kept
+    private void verify(final String name, final String expectedChecksum, final Blob blob) {
+        final var actualChecksum = blob.getCrc32cToHexString();
+        if (!Crc32c.sameChecksum(expectedChecksum, actualChecksum)) {
+            this.storage.delete(BlobId.of(this.bucket, name));
+            throw new IllegalStateException("Checksum mismatch for %s: expected %s, stored %s".formatted(name, expectedChecksum, actualChecksum));
+        }
     }
 
     @Override
@@ -37,18 +77,52 @@ public class GCStorageService implements StorageService {
         return Optional.ofNullable(this.storage.get(this.bucket, name))
                 .map(blob -> Resource.with(
                         blob.getContent(),
-                        blob.getCrc32cToHexString(),
                         blob.getContentType(),
+                        blob.getCrc32cToHexString(),
                         blob.getName()
                 ));
     }
 
+    // Ranged GET: only [offset, offset + length) leaves the bucket, whatever the object's size
+    @Override
+    public Optional<byte[]> read(String name, long offset, int length) {
+        try (final var reader = this.storage.reader(BlobId.of(this.bucket, name))) {
+            reader.seek(offset);
+            reader.limit(offset + length);
+            reader.setChunkSize(length);
+
+            final var buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (reader.read(buffer) < 0) {
+                    break;
+                }
+            }
+            return Optional.of(Arrays.copyOf(buffer.array(), buffer.position()));
+        } catch (StorageException e) {
+            if (isNotFound(e)) {
+                return Optional.empty();
+            }
+            throw e;
+        } catch (IOException e) {
+            // The channel only talks to the bucket on the first read, which wraps the 404 in an IOException
+            if (isNotFound(e.getCause())) {
+                return Optional.empty();
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isNotFound(final Throwable error) {
+        return error instanceof StorageException storageEx && storageEx.getCode() == HttpURLConnection.HTTP_NOT_FOUND;
+    }
+
     @Override
     public void deleteAll(Collection<String> names) {
 
        final var blobs =  names.stream().map(name -> BlobId.of(this.bucket, name)).toList();
 
-       this.storage.delete(blobs);
+       // One batch request per 100 objects, the most a GCS batch accepts
+       Lists.partition(blobs, MAX_BATCH_SIZE).forEach(this.storage::delete);
 
     }
 
@@ -61,4 +135,39 @@ public class GCStorageService implements StorageService {
                 .map(BlobId::getName)
                 .toList();
     }
+
+    // V4 signed POST that opens a resumable session; the client then streams the bytes straight to the bucket
+    @Override
+    public String signUpload(String name, String contentType, Duration ttl) {
+        final var blobInfo = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(contentType)
+                .build();
+
+        return this.storage.signUrl(
+                blobInfo,
+                ttl.toSeconds(),
+                TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.POST),
+                Storage.SignUrlOption.withExtHeaders(Map.of("x-goog-resumable", "start", "Content-Type", contentType)),
+                Storage.SignUrlOption.withV4Signature()
+        ).toString();
+    }
+
+    @Override
+    public Optional<ResourceInfo> info(String name) {
+        final var fields = Storage.BlobGetOption.fields(
+                Storage.BlobField.NAME,
+                Storage.BlobField.CONTENT_TYPE,
+                Storage.BlobField.CRC32C,
+                Storage.BlobField.SIZE
+        );
+
+        return Optional.ofNullable(this.storage.get(this.bucket, name, fields))
+                .map(blob -> new ResourceInfo(
+                        blob.getName(),
+                        blob.getContentType(),
+                        blob.getCrc32cToHexString(),
+                        blob.getSize()
+                ));
+    }
 }
@@ -0,0 +1,207 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceInfo;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.google.cloud.storage.StorageException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class InstrumentedStorageService implements StorageService {
+
+    static final String OPERATION_METRIC = "storage.operation";
+    static final String BYTES_METRIC = "storage.bytes";
+    static final String IN_FLIGHT_METRIC = "storage.inflight";
+    static final String ERRORS_METRIC = "storage.errors";
+    static final String RETRYABLE_METRIC = "storage.retryable";
+
+    private static final String UNKNOWN_TYPE = "UNKNOWN";
+    private static final String ALL_TYPES = "ALL";
+
+    private final StorageService delegate;
+    private final MeterRegistry registry;
+    private final Tracer tracer;
+    private final Map<String, String> typesByFilename;
+    private final Map<Tags, AtomicInteger> inFlight;
+
+    public InstrumentedStorageService(
+            final StorageService delegate,
+            final String filenamePattern,
+            final MeterRegistry registry,
+            final Tracer tracer
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.registry = Objects.requireNonNull(registry);
+        this.tracer = Objects.requireNonNull(tracer);
+        this.typesByFilename = typesByFilename(Objects.requireNonNull(filenamePattern));
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void store(final String name, final Resource resource) {
+        final var type = mediaTypeOf(name);
+        final var bytes = resource.size();
+
+        instrument(Operation.STORE, type, name, () -> {
+            this.delegate.store(name, resource);
+            return null;
+        });
+
+        bytes(Operation.STORE, type).increment(bytes);
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var type = mediaTypeOf(name);
+        final var result = instrument(Operation.GET, type, name, () -> this.delegate.get(name));
+
+        result.ifPresent(resource -> bytes(Operation.GET, type).increment(resource.size()));
+        return result;
+    }
+
+    @Override
+    public Optional<byte[]> read(final String name, final long offset, final int length) {
+        final var type = mediaTypeOf(name);
+        final var result = instrument(Operation.READ, type, name, () -> this.delegate.read(name, offset, length));
+
+        result.ifPresent(bytes -> bytes(Operation.READ, type).increment(bytes.length));
+        return result;
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        instrument(Operation.DELETE_ALL, ALL_TYPES, null, () -> {
+            this.delegate.deleteAll(names);
+            return null;
+        });
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return instrument(Operation.LIST, ALL_TYPES, prefix, () -> this.delegate.list(prefix));
+    }
+
+    @Override
+    public String signUpload(final String name, final String contentType, final Duration ttl) {
+        return instrument(Operation.SIGN_UPLOAD, mediaTypeOf(name), name, () -> this.delegate.signUpload(name, contentType, ttl));
+    }
+
+    @Override
+    public Optional<ResourceInfo> info(final String name) {
+        return instrument(Operation.INFO, mediaTypeOf(name), name, () -> this.delegate.info(name));
+    }
+
+    private <T> T instrument(final Operation operation, final String type, final String name, final Supplier<T> call) {
+        final var tags = Tags.of("operation", operation.tag(), "media_type", type);
+        final var gauge = inFlight(tags);
+
+        final var span = this.tracer.spanBuilder("storage." + operation.tag())
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("storage.operation", operation.tag())
+                .setAttribute("storage.media_type", type)
+                .startSpan();
+
+        if (name != null) {
+            span.setAttribute("storage.object", name);
+        }
+
+        final var sample = Timer.start(this.registry);
+        gauge.incrementAndGet();
+
+        var outcome = "success";
+        try (final var ignored = span.makeCurrent()) {
+            return call.get();
+        } catch (final RuntimeException ex) {
+            outcome = "error";
+            recordError(tags, span, ex);
+            throw ex;
+        } finally {
+            gauge.decrementAndGet();
+            sample.stop(Timer.builder(OPERATION_METRIC)
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(this.registry));
+            span.end();
+        }
+    }
+
+    private void recordError(final Tags tags, final Span span, final RuntimeException ex) {
+        span.recordException(ex);
+        span.setStatus(StatusCode.ERROR);
+
+        Counter.builder(ERRORS_METRIC)
+                .tags(tags)
+                .tag("exception", ex.getClass().getSimpleName())
+                .register(this.registry)
+                .increment();
+
+        // Client-side retries happen inside the storage client; a retryable failure means they were exhausted
+        if (ex instanceof StorageException storageEx && storageEx.isRetryable()) {
+            Counter.builder(RETRYABLE_METRIC)
+                    .tags(tags)
+                    .register(this.registry)
+                    .increment();
+        }
+    }
+
+    private Counter bytes(final Operation operation, final String type) {
+        return Counter.builder(BYTES_METRIC)
+                .baseUnit("bytes")
+                .tags("operation", operation.tag(), "media_type", type)
+                .register(this.registry);
+    }
+
+    private AtomicInteger inFlight(final Tags tags) {
+        return this.inFlight.computeIfAbsent(tags, t -> this.registry.gauge(IN_FLIGHT_METRIC, t, new AtomicInteger()));
+    }
+
+    private String mediaTypeOf(final String name) {
+        if (name == null) {
+            return UNKNOWN_TYPE;
+        }
+        final var filename = name.substring(name.lastIndexOf('/') + 1);
+        return this.typesByFilename.getOrDefault(filename, UNKNOWN_TYPE);
+    }
+
+    private static Map<String, String> typesByFilename(final String filenamePattern) {
+        final var types = new HashMap<String, String>();
+        for (final var type : VideoMediaType.values()) {
+            types.put(filenamePattern.replace("{type}", type.name()), type.name());
+        }
+        return Collections.unmodifiableMap(types);
+    }
+
+    private enum Operation {
+        STORE("store"),
+        GET("get"),
+        READ("read"),
+        LIST("list"),
+        DELETE_ALL("delete_all"),
+        SIGN_UPLOAD("sign_upload"),
+        INFO("info");
+
+        private final String tag;
+
+        Operation(final String tag) {
+            this.tag = tag;
+        }
+
+        String tag() {
+            return tag;
+        }
+    }
+}
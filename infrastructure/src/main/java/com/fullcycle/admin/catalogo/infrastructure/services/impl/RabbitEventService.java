@@ -2,8 +2,12 @@ package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 
+import java.nio.charset.StandardCharsets;
+
 public class RabbitEventService implements EventService {
 
     private final String exchange;
@@ -19,6 +23,12 @@ public class RabbitEventService implements EventService {
 
     @Override
     public void send(final Object event) {
-        this.ops.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event));
+        // Serialized straight into the message body, without an intermediate String
+        final var message = MessageBuilder.withBody(Json.writeValueAsBytes(event))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .build();
+
+        this.ops.send(this.exchange, this.routingKey, message);
     }
 }
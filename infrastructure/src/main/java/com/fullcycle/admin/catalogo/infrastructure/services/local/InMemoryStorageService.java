@@ -1,17 +1,41 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceInfo;
+import com.fullcycle.admin.catalogo.infrastructure.multipart.FileBackedResource;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class InMemoryStorageService implements StorageService {
 
+    private static final String SIGNING_ALGORITHM = "HmacSHA256";
+
     private final Map<String, Resource> storage;
+    private final byte[] signingKey;
+    private final Duration readLatency;
 
     public InMemoryStorageService() {
+        this(Duration.ZERO);
+    }
+
+    // A read latency makes the in-memory bucket behave like a remote one, e.g. for the media load test
+    public InMemoryStorageService(final Duration readLatency) {
+        this.readLatency = Objects.requireNonNull(readLatency);
         this.storage = new ConcurrentHashMap<>();
+        this.signingKey = new byte[32];
+        new SecureRandom().nextBytes(this.signingKey);
     }
 
     public Map<String, Resource> storage() {
@@ -23,14 +47,34 @@ public class InMemoryStorageService implements StorageService {
 
     @Override
     public void store(String name, Resource resource) {
+        // A spilled upload's temp file is gone once the request ends
+        if (resource instanceof FileBackedResource) {
+            resource = Resource.with(resource.content(), resource.contentType(), resource.getChecksum(), resource.getName());
+        }
         this.storage.put(name, resource);
     }
 
     @Override
     public Optional<Resource> get(String name) {
+        if (!this.readLatency.isZero()) {
+            try {
+                Thread.sleep(this.readLatency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         return Optional.ofNullable(this.storage.get(name));
     }
 
+    @Override
+    public Optional<byte[]> read(String name, long offset, int length) {
+        return get(name).map(resource -> {
+            final var content = resource.content();
+            final var from = (int) Math.min(offset, content.length);
+            return Arrays.copyOfRange(content, from, (int) Math.min((long) from + length, content.length));
+        });
+    }
+
     @Override
     public void deleteAll(Collection<String> names) {
         names.forEach(this.storage::remove);
@@ -42,4 +86,72 @@ public class InMemoryStorageService implements StorageService {
         return this.storage.keySet().stream().filter(it -> it.startsWith(prefix))
                 .toList();
     }
+
+    @Override
+    public String signUpload(String name, String contentType, Duration ttl) {
+        final var expires = Instant.now().plus(ttl).getEpochSecond();
+
+        return UriComponentsBuilder.newInstance()
+                .scheme("memory")
+                .host("storage")
+                .path("/" + name)
+                .queryParam("content_type", contentType)
+                .queryParam("expires", expires)
+                .queryParam("signature", sign(name, contentType, expires))
+                .encode()
+                .toUriString();
+    }
+
+    @Override
+    public Optional<ResourceInfo> info(String name) {
+        return get(name).map(resource -> new ResourceInfo(
+                name,
+                resource.contentType(),
+                resource.getChecksum(),
+                resource.size()
+        ));
+    }
+
+    // Plays the bucket side of a signed upload, so tests can exercise the direct upload flow end to end
+    public void upload(String signedUrl, Resource resource) {
+        final var name = verify(signedUrl)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid or expired signed URL"));
+        store(name, resource);
+    }
+
+    public Optional<String> verify(String signedUrl) {
+        final var uri = UriComponentsBuilder.fromUriString(signedUrl).build();
+        final var params = uri.getQueryParams();
+
+        final var name = Optional.ofNullable(uri.getPath()).map(path -> path.substring(1)).orElse("");
+        final var contentType = decode(params.getFirst("content_type"));
+        final var expires = params.getFirst("expires");
+        final var signature = params.getFirst("signature");
+
+        if (expires == null || signature == null || !expires.matches("\\d+")
+                || Long.parseLong(expires) < Instant.now().getEpochSecond()) {
+            return Optional.empty();
+        }
+
+        final var expected = sign(decode(name), contentType, Long.parseLong(expires));
+        if (!MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), signature.getBytes(StandardCharsets.UTF_8))) {
+            return Optional.empty();
+        }
+        return Optional.of(decode(name));
+    }
+
+    private String sign(String name, String contentType, long expires) {
+        try {
+            final var mac = Mac.getInstance(SIGNING_ALGORITHM);
+            mac.init(new SecretKeySpec(this.signingKey, SIGNING_ALGORITHM));
+            final var payload = "%s\n%s\n%d".formatted(name, contentType, expires);
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String decode(String value) {
+        return value == null ? null : UriUtils.decode(value, StandardCharsets.UTF_8);
+    }
 }
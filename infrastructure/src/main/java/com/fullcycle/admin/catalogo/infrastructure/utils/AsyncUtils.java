@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+public final class AsyncUtils {
+
+    static final String PENDING_WORK_ATTRIBUTE = AsyncUtils.class.getName() + ".PENDING_WORK";
+
+    private AsyncUtils() {}
+
+    // Unlike CompletableFuture.supplyAsync the task is interrupted once the timeout fires, and `done` only completes
+    // when it has really stopped (or was dropped from the queue), which is what a slot held for it must wait for
+    public static <T> Work<T> submit(final Supplier<T> supplier, final ExecutorService executor, final Duration timeout) {
+        final var result = new CompletableFuture<T>();
+        final var done = new CompletableFuture<Void>();
+        final var started = new AtomicBoolean();
+
+        final var task = executor.submit(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(supplier.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                done.complete(null);
+            }
+        });
+
+        result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((ignored, ex) -> {
+            if (ex instanceof TimeoutException) {
+                if (started.compareAndSet(false, true)) {
+                    done.complete(null);
+                } else {
+                    task.cancel(true);
+                }
+            }
+        });
+
+        return new Work<>(result, done);
+    }
+
+    // Filters that hold a slot for this request give it back when the work stops, not when the async request ends
+    public static void holdUntil(final HttpServletRequest request, final CompletableFuture<?> work) {
+        request.setAttribute(PENDING_WORK_ATTRIBUTE, work);
+    }
+
+    public static void whenWorkCompletes(final HttpServletRequest request, final Runnable action) {
+        if (request.getAttribute(PENDING_WORK_ATTRIBUTE) instanceof CompletableFuture<?> work) {
+            work.whenComplete((ignored, ex) -> action.run());
+            return;
+        }
+        whenRequestCompletes(request, action);
+    }
+
+    // Runs once the request is really done: right away for a plain dispatch, on completion/timeout/error for async ones
+    public static void whenRequestCompletes(final HttpServletRequest request, final Runnable action) {
+        if (!request.isAsyncStarted()) {
+            action.run();
+            return;
+        }
+        request.getAsyncContext().addListener(new OnceListener(action));
+    }
+
+    private static final class OnceListener implements AsyncListener {
+
+        private final Runnable action;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private OnceListener(final Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void run() {
+            if (this.done.compareAndSet(false, true)) {
+                this.action.run();
+            }
+        }
+    }
+
+    public record Work<T>(CompletableFuture<T> result, CompletableFuture<Void> done) {}
+}
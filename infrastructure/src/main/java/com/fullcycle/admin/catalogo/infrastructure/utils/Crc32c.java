@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.zip.CRC32C;
+
+// Incremental CRC32C over chunks as they arrive. java.util.zip.CRC32C is a JIT intrinsic (SSE4.2 / ARMv8 crc32c),
+// and direct buffers are read in place. hex() and base64() are the big-endian forms GCS uses for the crc32c field.
+public final class Crc32c {
+
+    private final CRC32C crc = new CRC32C();
+    private long bytes;
+
+    public Crc32c update(final ByteBuffer buffer) {
+        this.bytes += buffer.remaining();
+        this.crc.update(buffer);
+        return this;
+    }
+
+    public Crc32c update(final byte[] content, final int offset, final int length) {
+        this.bytes += length;
+        this.crc.update(content, offset, length);
+        return this;
+    }
+
+    public long bytes() {
+        return this.bytes;
+    }
+
+    public int value() {
+        return (int) this.crc.getValue();
+    }
+
+    // Same form as BlobInfo#setCrc32cFromHexString / Blob#getCrc32cToHexString
+    public String hex() {
+        return "%08x".formatted(this.crc.getValue());
+    }
+
+    // Same form as the crc32c field of the GCS JSON API (BlobInfo#getCrc32c)
+    public String base64() {
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(Integer.BYTES).putInt(value()).array());
+    }
+
+    public static boolean sameChecksum(final String expectedHex, final String actualHex) {
+        return expectedHex != null && expectedHex.equalsIgnoreCase(actualHex);
+    }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    public static String weak(final String id, final Instant updatedAt, final MediaType variant) {
+        return "W/\"%s-%x.%x-%s\"".formatted(id, updatedAt.getEpochSecond(), updatedAt.getNano(), variant.getSubtype());
+    }
+
+    // Sets ETag/Last-Modified on the response and answers 304 without touching the aggregate when nothing changed
+    public static boolean isNotModified(final WebRequest request, final String id, final Optional<Instant> updatedAt) {
+        return updatedAt
+                .map(lastModified -> request.checkNotModified(weak(id, lastModified, variantOf(request)), lastModified.toEpochMilli()))
+                .orElse(false);
+    }
+
+    // The same row renders as JSON, CBOR, Smile or Protobuf, so the tag names the type Accept negotiates. Spring has
+    // already narrowed the producible types to the ones Accept matches; this picks among them the way it will when
+    // writing the body
+    @SuppressWarnings("unchecked")
+    static MediaType variantOf(final WebRequest request) {
+        final var producible = (Set<MediaType>) request.getAttribute(
+                HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST
+        );
+        if (producible == null || producible.isEmpty()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        final var accept = request.getHeader(HttpHeaders.ACCEPT);
+        final List<MediaType> acceptable = accept == null || accept.isBlank()
+                ? List.of(MediaType.ALL)
+                : new ArrayList<>(MediaType.parseMediaTypes(accept));
+        MediaType.sortBySpecificityAndQuality(acceptable);
+
+        for (final var anAcceptable : acceptable) {
+            if (anAcceptable.getQualityValue() == 0) {
+                continue;
+            }
+            for (final var aProducible : producible) {
+                if (anAcceptable.isCompatibleWith(aProducible)) {
+                    return aProducible;
+                }
+            }
+        }
+        return producible.iterator().next();
+    }
+}
@@ -1,17 +1,76 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.google.common.hash.Funnels;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 public final class HashingUtils {
 
-    private static final HashFunction CHECKSUM = Hashing.crc32c();
+    private static final HashFunction CONTENT_HASH = Hashing.sha256();
+    private static final int STREAM_CHUNK = 64 * 1024;
+    private static final int FILE_CHUNK = 1024 * 1024;
 
     private HashingUtils() {}
 
+    // CRC32C in GCS's hex form, so it can be sent as the object's crc32c and compared with what the bucket reports
     public static String checksum(final byte[] content) {
-        return CHECKSUM.hashBytes(content).toString();
+        return new Crc32c().update(ByteBuffer.wrap(content)).hex();
     }
 
+    public static String checksum(final InputStream content) {
+        final var crc = new Crc32c();
+        final var buffer = new byte[STREAM_CHUNK];
+        try (content) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return crc.hex();
+    }
 
+    // Spilled uploads are read through a direct buffer, which CRC32C consumes without copying onto the heap
+    public static String checksum(final Path file) {
+        final var crc = new Crc32c();
+        final var buffer = ByteBuffer.allocateDirect(FILE_CHUNK);
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return crc.hex();
+    }
+
+    public static String contentHash(final byte[] content) {
+        return CONTENT_HASH.hashBytes(content).toString();
+    }
+
+    public static String contentHash(final InputStream content) {
+        return hash(CONTENT_HASH, content);
+    }
+
+    private static String hash(final HashFunction function, final InputStream content) {
+        final var hasher = function.newHasher();
+        try (content) {
+            ByteStreams.copy(content, Funnels.asOutputStream(hasher));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return hasher.hash().toString();
+    }
 }
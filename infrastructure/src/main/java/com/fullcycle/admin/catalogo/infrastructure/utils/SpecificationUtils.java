@@ -10,4 +10,8 @@ public final class SpecificationUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), "%" + SqlUtils.like(term.toUpperCase()));
     }
 
+    public static <T> Specification<T> equal(final String prop, final Object value) {
+        return (root, query, cb) -> cb.equal(root.get(prop), value);
+    }
+
 }
@@ -1,7 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.google.common.collect.Lists;
+
+import java.util.List;
+
 public final class SqlUtils {
 
+    // Keeps IN lists well below driver and optimizer limits for very large id batches
+    public static final int MAX_IN_CLAUSE_SIZE = 500;
+
     private SqlUtils() {}
 
     public static String like(final String term) {
@@ -14,4 +21,7 @@ public final class SqlUtils {
         return term.toUpperCase();
     }
 
+    public static <T> List<List<T>> inChunks(final List<T> values) {
+        return Lists.partition(values, MAX_IN_CLAUSE_SIZE);
+    }
 }
@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+public final class ThreadUtils {
+
+    private ThreadUtils() {}
+
+    public static boolean virtualThreadsSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    // The sources still target 17, so the JDK 21 builder API is reached reflectively
+    public static ThreadFactory virtualThreadFactory(final String prefix) {
+        requireVirtualThreads();
+        try {
+            final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final var named = Class.forName("java.lang.Thread$Builder$OfVirtual")
+                    .getMethod("name", String.class, long.class)
+                    .invoke(builder, prefix, 0L);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+                    .getMethod("factory")
+                    .invoke(named);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create a virtual thread factory", e);
+        }
+    }
+
+    // One new virtual thread per task; whatever the task calls into is what bounds concurrency
+    public static ExecutorService newVirtualThreadPerTaskExecutor(final String prefix) {
+        final var factory = virtualThreadFactory(prefix);
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create a virtual thread executor", e);
+        }
+    }
+
+    public static boolean isVirtual(final Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (final NoSuchMethodException e) {
+            return false;
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void requireVirtualThreads() {
+        if (!virtualThreadsSupported()) {
+            throw new IllegalStateException("spring.threads.virtual.enabled needs a JDK 21+ runtime, running on %s".formatted(Runtime.version()));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceInfo;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.probe.MediaProbe;
+import com.fullcycle.admin.catalogo.infrastructure.video.probe.RangeSource;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceID;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "storage.catalogo-videos.content-addressed", havingValue = "true")
+public class ContentAddressedMediaResourceGateway implements MediaResourceGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedMediaResourceGateway.class);
+
+    private final String blobPattern;
+    private final String filenamePattern;
+    private final String locationPattern;
+    private final Duration uploadSessionTtl;
+    private final StorageService storageService;
+    private final MediaBlobRepository blobRepository;
+    private final MediaBlobReferenceRepository referenceRepository;
+    private final MediaPurgeService purgeService;
+    private final ImageDerivationService imageDerivationService;
+    private final MediaProbe mediaProbe;
+    private final TransactionTemplate claimTransaction;
+    private final TransactionTemplate collectTransaction;
+
+    public ContentAddressedMediaResourceGateway(
+            final StorageProperties props,
+            final StorageService storageService,
+            final MediaBlobRepository blobRepository,
+            final MediaBlobReferenceRepository referenceRepository,
+            final MediaPurgeService purgeService,
+            final ImageDerivationService imageDerivationService,
+            final MediaProbe mediaProbe,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.blobPattern = props.getBlobPattern();
+        this.filenamePattern = props.getFilenamePattern();
+        this.locationPattern = props.getLocationPattern();
+        this.uploadSessionTtl = props.getUploadSessionTtl();
+        this.storageService = storageService;
+        this.blobRepository = blobRepository;
+        this.referenceRepository = referenceRepository;
+        this.purgeService = purgeService;
+        this.imageDerivationService = imageDerivationService;
+        this.mediaProbe = mediaProbe;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.collectTransaction = new TransactionTemplate(transactionManager);
+        this.collectTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // No transaction: the upload and the probe must not hold a connection, only the claim in store() does
+    @Override
+    public AudioVideoMedia storeAudioVideo(final VideoID id, final VideoResource videoResource) {
+        final var aResource = videoResource.getResource();
+        final var filepath = store(id, videoResource.getType(), aResource);
+        final var metadata = this.mediaProbe.probe(RangeSource.of(aResource), aResource.size()).orElse(null);
+        return AudioVideoMedia.with(aResource.getChecksum(), aResource.getName(), filepath, metadata);
+    }
+
+    @Override
+    public ImageMedia storeImage(final VideoID id, final VideoResource videoResource) {
+        final var aResource = videoResource.getResource();
+        final var filepath = store(id, videoResource.getType(), aResource);
+        return ImageMedia.with(aResource.getChecksum(), aResource.getName(), filepath);
+    }
+
+    // No transaction: the resampling must not hold a connection, the derived image is stored through storeImage
+    @Override
+    public Optional<Resource> deriveImage(final VideoResource source, final VideoMediaType type) {
+        return this.imageDerivationService.derive(source, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Resource> getResource(final VideoID id, final VideoMediaType type) {
+        return this.referenceRepository.findById(MediaBlobReferenceID.from(id.getValue(), type.name()))
+                .map(ref -> blobpath(ref.getHash()))
+                .or(() -> Optional.of(filepath(id, type)))
+                .flatMap(this.storageService::get);
+    }
+
+    // The hash is only known once the bytes are in the bucket, so direct uploads land on the per-video path
+    @Override
+    public MediaUploadSession createUploadSession(final VideoID id, final VideoMediaType type, final String contentType) {
+        final var filepath = filepath(id, type);
+        final var expiresAt = Instant.now().plus(uploadSessionTtl);
+        final var uploadUrl = this.storageService.signUpload(filepath, contentType, uploadSessionTtl);
+        return new MediaUploadSession(uploadUrl, filepath, expiresAt);
+    }
+
+    @Override
+    public Optional<ResourceInfo> getResourceInfo(final VideoID id, final VideoMediaType type) {
+        return this.storageService.info(filepath(id, type));
+    }
+
+    // For direct uploads, which land on the per-video path: only the container header ranges are fetched
+    @Override
+    public Optional<MediaMetadata> probeMetadata(final VideoID id, final VideoMediaType type) {
+        final var filepath = filepath(id, type);
+        return this.storageService.info(filepath)
+                .flatMap(info -> this.mediaProbe.probe(RangeSource.of(this.storageService, filepath), info.size()));
+    }
+
+    // A direct upload replaces the media on the per-video path, so the blob it used to point to is released
+    @Override
+    @Transactional
+    public void releaseResource(final VideoID id, final VideoMediaType type) {
+        this.referenceRepository.findById(MediaBlobReferenceID.from(id.getValue(), type.name())).ifPresent(ref -> {
+            this.referenceRepository.delete(ref);
+            release(ref.getHash());
+        });
+    }
+
+    @Override
+    @Transactional
+    public void clearResources(final VideoID id) {
+        final var references = this.referenceRepository.findAllByIdVideoId(id.getValue());
+        this.referenceRepository.deleteAll(references);
+        references.forEach(ref -> release(ref.getHash()));
+
+        // Objects written before the content-addressed mode was switched on (or uploaded directly) still live under
+        // the video folder; shared blobs are collected after commit, under their row lock, so a concurrent upload can't lose them
+        this.purgeService.schedule(folder(id));
+    }
+
+    private String store(final VideoID id, final VideoMediaType type, final Resource resource) {
+        final var hash = HashingUtils.contentHash(resource.openStream());
+        final var filepath = blobpath(hash);
+
+        // The path is derived from the content, so the upload is idempotent and an object without a row is harmless
+        upload(filepath, resource);
+
+        this.claimTransaction.executeWithoutResult(status -> {
+            this.blobRepository.retain(hash, Instant.now());
+
+            final var referenceId = MediaBlobReferenceID.from(id.getValue(), type.name());
+            this.referenceRepository.findById(referenceId)
+                    .ifPresent(previous -> release(previous.getHash()));
+            this.referenceRepository.save(MediaBlobReferenceJpaEntity.from(id, type, hash));
+        });
+
+        // A collection of the last reference that held the row lock before the claim has deleted the object
+        upload(filepath, resource);
+        return filepath;
+    }
+
+    private void upload(final String filepath, final Resource resource) {
+        if (this.storageService.info(filepath).isEmpty()) {
+            this.storageService.store(filepath, resource);
+        }
+    }
+
+    // The object is only deleted once the caller's transaction has committed the decrement
+    private void release(final String hash) {
+        this.blobRepository.release(hash, Instant.now());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    collect(hash);
+                }
+            });
+        } else {
+            collect(hash);
+        }
+    }
+
+    // Under the row lock: a concurrent claim of the same content either committed first, so the count is back above
+    // zero, or waits for this one and uploads the object again
+    private void collect(final String hash) {
+        try {
+            this.collectTransaction.executeWithoutResult(status -> this.blobRepository.findByIdForUpdate(hash)
+                    .filter(MediaBlobJpaEntity::isUnreferenced)
+                    .ifPresent(blob -> {
+                        this.storageService.deleteAll(List.of(blobpath(hash)));
+                        this.blobRepository.delete(blob);
+                    }));
+        } catch (RuntimeException e) {
+            log.warn("Could not collect unreferenced blob {}", hash, e);
+        }
+    }
+
+    private String blobpath(final String hash) {
+        return blobPattern.replace("{hash}", hash);
+    }
+
+    private String folder(final VideoID id) {
+        return locationPattern.replace("{videoId}", id.getValue());
+    }
+
+    private String filepath(final VideoID id, final VideoMediaType type) {
+        return folder(id).concat("/").concat(filenamePattern.replace("{type}", type.name()));
+    }
+}
@@ -1,24 +1,39 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceInfo;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.probe.MediaProbe;
+import com.fullcycle.admin.catalogo.infrastructure.video.probe.RangeSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 @Component
+@ConditionalOnProperty(name = "storage.catalogo-videos.content-addressed", havingValue = "false", matchIfMissing = true)
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
     private final String filenamePattern;
     private final String locationPattern;
+    private final Duration uploadSessionTtl;
     private final StorageService storageService;
+    private final MediaPurgeService purgeService;
+    private final ImageDerivationService imageDerivationService;
+    private final MediaProbe mediaProbe;
 
-    public DefaultMediaResourceGateway(StorageProperties props, StorageService storageService) {
+    public DefaultMediaResourceGateway(StorageProperties props, StorageService storageService, MediaPurgeService purgeService, ImageDerivationService imageDerivationService, MediaProbe mediaProbe) {
         this.filenamePattern = props.getFilenamePattern();
         this.locationPattern = props.getLocationPattern();
+        this.uploadSessionTtl = props.getUploadSessionTtl();
         this.storageService = storageService;
+        this.purgeService = purgeService;
+        this.imageDerivationService = imageDerivationService;
+        this.mediaProbe = mediaProbe;
     }
 
     @Override
@@ -26,7 +41,8 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
         final var filepath = filepath(id, videoResource.getType());
         final var aResource = videoResource.getResource();
         store(filepath, aResource);
-        return AudioVideoMedia.with(aResource.getChecksum(), aResource.getName(), filepath);
+        final var metadata = this.mediaProbe.probe(RangeSource.of(aResource), aResource.size()).orElse(null);
+        return AudioVideoMedia.with(aResource.getChecksum(), aResource.getName(), filepath, metadata);
     }
 
     @Override
@@ -37,15 +53,45 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
         return ImageMedia.with(aResource.getChecksum(), aResource.getName(), filepath);
     }
 
+    @Override
+    public Optional<Resource> deriveImage(VideoResource source, VideoMediaType type) {
+        return this.imageDerivationService.derive(source, type);
+    }
+
     @Override
     public Optional<Resource> getResource(VideoID id, VideoMediaType type) {
         return this.storageService.get(filepath(id, type));
     }
 
+    @Override
+    public MediaUploadSession createUploadSession(VideoID id, VideoMediaType type, String contentType) {
+        final var filepath = filepath(id, type);
+        final var expiresAt = Instant.now().plus(uploadSessionTtl);
+        final var uploadUrl = this.storageService.signUpload(filepath, contentType, uploadSessionTtl);
+        return new MediaUploadSession(uploadUrl, filepath, expiresAt);
+    }
+
+    @Override
+    public Optional<ResourceInfo> getResourceInfo(VideoID id, VideoMediaType type) {
+        return this.storageService.info(filepath(id, type));
+    }
+
+    // For direct uploads: only the container header ranges are fetched from the bucket
+    @Override
+    public Optional<MediaMetadata> probeMetadata(VideoID id, VideoMediaType type) {
+        final var filepath = filepath(id, type);
+        return this.storageService.info(filepath)
+                .flatMap(info -> this.mediaProbe.probe(RangeSource.of(this.storageService, filepath), info.size()));
+    }
+
+    // Every media lives on its per-video path, which the direct upload has already overwritten
+    @Override
+    public void releaseResource(VideoID id, VideoMediaType type) {
+    }
+
     @Override
     public void clearResources(VideoID id) {
-        final var ids = this.storageService.list(folder(id));
-        this.storageService.deleteAll(ids);
+        this.purgeService.schedule(folder(id));
     }
 
     private String filename(VideoMediaType type) {
@@ -1,34 +1,62 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
-import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.cache.VideoOutputCache;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRelationJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
+    // Each one is backed by a video_search index
+    private static final Set<String> SORT_FIELDS = Set.of("title", "createdAt", "updatedAt");
+
     private final VideoRepository videoRepository;
+    private final VideoSearchRepository videoSearchRepository;
+    private final VideoSearchProjection videoSearchProjection;
     @VideoCreatedQueue
     private final EventService eventService;
-
-    public DefaultVideoGateway(VideoRepository videoRepository, @VideoCreatedQueue EventService eventService) {
+    private final VideoOutputCache videoCache;
+
+    public DefaultVideoGateway(
+            VideoRepository videoRepository,
+            VideoSearchRepository videoSearchRepository,
+            VideoSearchProjection videoSearchProjection,
+            @VideoCreatedQueue EventService eventService,
+            VideoOutputCache videoCache
+    ) {
         this.videoRepository = videoRepository;
+        this.videoSearchRepository = videoSearchRepository;
+        this.videoSearchProjection = videoSearchProjection;
         this.eventService = eventService;
+        this.videoCache = videoCache;
     }
 
 
@@ -36,6 +64,7 @@ public class DefaultVideoGateway implements VideoGateway {
     @Transactional
     public Video create(Video aVideo) {
         final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo)).toAggregate();
+        this.videoSearchProjection.upsert(result);
         aVideo.publishDomainEvents(this.eventService::send);
         return result;
     }
@@ -44,17 +73,21 @@ public class DefaultVideoGateway implements VideoGateway {
     @Transactional
     public Video update(Video aVideo) {
         final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo)).toAggregate();
+        this.videoSearchProjection.upsert(result);
         aVideo.publishDomainEvents(this.eventService::send);
+        evict(aVideo.getId());
         return result;
     }
 
     @Override
+    @Transactional
     public void deleteById(VideoID id) {
         final var aVideoId = id.getValue();
         if(this.videoRepository.existsById(aVideoId)) {
             this.videoRepository.deleteById(aVideoId);
         }
-
+        this.videoSearchProjection.remove(id);
+        evict(id);
     }
 
     @Override
@@ -63,18 +96,115 @@ public class DefaultVideoGateway implements VideoGateway {
         return this.videoRepository.findById(id.getValue()).map(VideoJpaEntity::toAggregate);
     }
 
+    // Not read-only, so it's routed to the primary: update() writes every column back, and a replica copy would undo
+    // whatever committed in the lag window
+    @Override
+    @Transactional
+    public Optional<Video> findByIdForUpdate(VideoID id) {
+        return this.videoRepository.findById(id.getValue()).map(VideoJpaEntity::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Video> findAllByIds(Iterable<VideoID> ids) {
+        final var values = StreamSupport.stream(ids.spliterator(), false)
+                .map(VideoID::getValue)
+                .distinct()
+                .toList();
+
+        return SqlUtils.inChunks(values).stream()
+                .flatMap(chunk -> this.videoRepository.findAllById(chunk).stream())
+                .map(VideoJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
+    public Optional<Instant> findUpdatedAtById(VideoID id) {
+        return this.videoRepository.findUpdatedAtById(id.getValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Pagination<VideoPreview> findAll(VideoSearchQuery query) {
 
-        final var page = PageRequest.of(query.page(), query.perPage(), Sort.by(Sort.Direction.fromString(query.direction()), query.sort()));
+        // Served from the video_search projection alone; each relation filter is one range on video_search_relations (kind, ref_id, video_id)
+        final var page = PageRequest.of(query.page(), query.perPage(), Sort.by(Sort.Direction.fromString(query.direction()), sortField(query.sort())));
 
-        final var actualPage = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(query.terms())),
-                CollectionUtils.nullIfEmpty(mapTo(query.castMembers(), Identifier::getValue)),
-                CollectionUtils.nullIfEmpty(mapTo(query.categories(), Identifier::getValue)),
-                CollectionUtils.nullIfEmpty(mapTo(query.genres(), Identifier::getValue)),
-                page
+        final var terms = Optional.ofNullable(query.terms())
+                .filter(str -> !str.isBlank())
+                .map(str -> SpecificationUtils.<VideoSearchJpaEntity>like("title", str))
+                .orElse(null);
+
+        final var specification = Specification.where(terms)
+                .and(relatedTo(VideoSearchJpaEntity.CAST_MEMBER, query.castMembers()))
+                .and(relatedTo(VideoSearchJpaEntity.CATEGORY, query.categories()))
+                .and(relatedTo(VideoSearchJpaEntity.GENRE, query.genres()));
+
+        final var actualPage = this.videoSearchRepository.findAll(specification, page);
+
+        // Only the expanded listing shows categories, genres and cast members, so the plain one is a single query
+        final var relations = query.expand() ? relationsOf(actualPage.getContent()) : Map.<String, Map<String, List<String>>>of();
+
+        return new Pagination<>(
+                actualPage.getNumber(),
+                actualPage.getSize(),
+                actualPage.getTotalElements(),
+                actualPage.map(row -> row.toPreview(relations.getOrDefault(row.getId(), Map.of()))).toList()
         );
-        return new Pagination<>(actualPage.getNumber(), actualPage.getSize(), actualPage.getTotalElements(), actualPage.toList());
+    }
+
+    private static String sortField(final String sort) {
+        if (!SORT_FIELDS.contains(sort)) {
+            throw DomainException.with(new Error("Unsupported sort field: %s".formatted(sort)));
+        }
+        return sort;
+    }
+
+    // Videos with at least one relation of kind whose referenced id is in ids; null (no filter) when ids is empty
+    private static Specification<VideoSearchJpaEntity> relatedTo(final String kind, final Set<? extends Identifier> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+
+        final var values = ids.stream().map(Identifier::getValue).toList();
+        return (root, query, cb) -> {
+            final var subquery = query.subquery(String.class);
+            final var relation = subquery.from(VideoSearchRelationJpaEntity.class);
+            subquery.select(relation.get("id").get("videoId"))
+                    .where(
+                            cb.equal(relation.get("id").get("videoId"), root.get("id")),
+                            cb.equal(relation.get("id").get("kind"), kind),
+                            relation.get("id").get("refId").in(values)
+                    );
+            return cb.exists(subquery);
+        };
+    }
+
+    // videoId -> kind -> referenced ids, for every row of the page at once
+    private Map<String, Map<String, List<String>>> relationsOf(final List<VideoSearchJpaEntity> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        final var ids = rows.stream().map(VideoSearchJpaEntity::getId).toList();
+        return this.videoSearchRepository.findRelations(ids).stream()
+                .collect(Collectors.groupingBy(
+                        row -> (String) row[0],
+                        Collectors.groupingBy(row -> (String) row[1], Collectors.mapping(row -> (String) row[2], Collectors.toList()))
+                ));
+    }
+
+    private void evict(final VideoID id) {
+        this.videoCache.evict(id);
+
+        // A concurrent read may repopulate the cache with the old row before commit, so evict again once it's visible
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    videoCache.evict(id);
+                }
+            });
+        }
     }
 }
@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.AsyncMediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.StorageExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+// The storage client only has blocking reads, so they wait on the bounded storage pool rather than on a request thread
+@Component
+public class ExecutorMediaResourceGateway implements AsyncMediaResourceGateway {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final ExecutorService storageExecutor;
+
+    public ExecutorMediaResourceGateway(
+            final MediaResourceGateway mediaResourceGateway,
+            @StorageExecutor final ExecutorService storageExecutor
+    ) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.storageExecutor = Objects.requireNonNull(storageExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Resource>> getResource(final VideoID id, final VideoMediaType type) {
+        return CompletableFuture.supplyAsync(() -> this.mediaResourceGateway.getResource(id, type), this.storageExecutor);
+    }
+}
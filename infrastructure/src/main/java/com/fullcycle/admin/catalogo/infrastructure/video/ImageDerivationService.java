@@ -0,0 +1,163 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.ImageDerivationProperties;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class ImageDerivationService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivationService.class);
+
+    // Each derived type is its source scaled down by an integer factor
+    private static final Map<VideoMediaType, Derivation> DERIVATIONS = Map.of(
+            VideoMediaType.THUMBNAIL_HALF, new Derivation(VideoMediaType.THUMBNAIL, 2)
+    );
+
+    private final ImageDerivationProperties props;
+    private final ExecutorService workers;
+
+    public ImageDerivationService(final ImageDerivationProperties props, final ExecutorService workers) {
+        this.props = Objects.requireNonNull(props);
+        this.workers = Objects.requireNonNull(workers);
+    }
+
+    // Decoding and resampling are CPU bound, so they run on the bounded pool instead of the request thread;
+    // when it is saturated, times out or can't read the image, nothing is derived and the caller keeps what it had
+    public Optional<Resource> derive(final VideoResource source, final VideoMediaType type) {
+        final var derivation = DERIVATIONS.get(type);
+        if (!this.props.isEnabled() || derivation == null || derivation.source() != source.getType()) {
+            return Optional.empty();
+        }
+
+        final Future<Optional<Resource>> task;
+        try {
+            task = this.workers.submit(() -> scale(source.getResource(), derivation.factor()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Image workers saturated, {} not derived from {}", type, source.getType());
+            return Optional.empty();
+        }
+
+        try {
+            return task.get(this.props.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            log.warn("Deriving {} took longer than {}, skipped", type, this.props.getTimeout());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Could not derive {} from {}", type, source.getType(), e.getCause());
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Resource> scale(final Resource source, final int factor) throws IOException {
+        try (final var input = ImageIO.createImageInputStream(source.openStream())) {
+            final var readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return Optional.empty();
+            }
+
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+
+                // Checked on the header, before a single pixel is allocated
+                final long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > this.props.getMaxPixels() || reader.getWidth(0) < factor || reader.getHeight(0) < factor) {
+                    return Optional.empty();
+                }
+
+                final var format = reader.getFormatName();
+                final var scaled = downscale(reader.read(0), factor);
+
+                final var output = new ByteArrayOutputStream();
+                if (!ImageIO.write(scaled, format, output)) {
+                    return Optional.empty();
+                }
+
+                final var content = output.toByteArray();
+                return Optional.of(Resource.with(content, source.contentType(), HashingUtils.checksum(content), source.getName()));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Area averaging: every target pixel is the alpha-weighted mean of its factor x factor block. One source row
+    // is unpacked at a time and summed into per-channel int[] columns, plain array loops the JIT can unroll and vectorise.
+    static BufferedImage downscale(final BufferedImage source, final int factor) {
+        final int width = source.getWidth() / factor;
+        final int height = source.getHeight() / factor;
+        final boolean alpha = source.getColorModel().hasAlpha();
+        final var target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+        final int span = width * factor;
+        final int area = factor * factor;
+        final int[] row = new int[span];
+        final int[] a = new int[width];
+        final int[] r = new int[width];
+        final int[] g = new int[width];
+        final int[] b = new int[width];
+        final int[] out = new int[width];
+
+        for (int y = 0; y < height; y++) {
+            Arrays.fill(a, 0);
+            Arrays.fill(r, 0);
+            Arrays.fill(g, 0);
+            Arrays.fill(b, 0);
+
+            for (int dy = 0; dy < factor; dy++) {
+                source.getRGB(0, y * factor + dy, span, 1, row, 0, span);
+                for (int i = 0; i < span; i++) {
+                    final int x = i / factor;
+                    final int pixel = row[i];
+                    final int pa = pixel >>> 24;
+                    a[x] += pa;
+                    r[x] += (pixel >> 16 & 0xff) * pa;
+                    g[x] += (pixel >> 8 & 0xff) * pa;
+                    b[x] += (pixel & 0xff) * pa;
+                }
+            }
+
+            for (int x = 0; x < width; x++) {
+                final int weight = a[x];
+                out[x] = weight == 0 ? 0 : (weight + area / 2) / area << 24
+                        | (r[x] + weight / 2) / weight << 16
+                        | (g[x] + weight / 2) / weight << 8
+                        | (b[x] + weight / 2) / weight;
+            }
+            target.setRGB(0, y, width, 1, out, 0, width);
+        }
+        return target;
+    }
+
+    @Override
+    public void destroy() {
+        this.workers.shutdownNow();
+    }
+
+    private record Derivation(VideoMediaType source, int factor) {
+    }
+}
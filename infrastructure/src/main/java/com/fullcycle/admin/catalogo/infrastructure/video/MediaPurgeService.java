@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.MediaPurgeProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaPurgeJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaPurgeRepository;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+public class MediaPurgeService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaPurgeService.class);
+
+    private final MediaPurgeProperties props;
+    private final StorageService storageService;
+    private final MediaPurgeRepository purgeRepository;
+    private final ExecutorService dispatcher;
+    private final ExecutorService workers;
+
+    public MediaPurgeService(
+            final MediaPurgeProperties props,
+            final StorageService storageService,
+            final MediaPurgeRepository purgeRepository,
+            final ExecutorService dispatcher,
+            final ExecutorService workers
+    ) {
+        this.props = Objects.requireNonNull(props);
+        this.storageService = Objects.requireNonNull(storageService);
+        this.purgeRepository = Objects.requireNonNull(purgeRepository);
+        this.dispatcher = Objects.requireNonNull(dispatcher);
+        this.workers = Objects.requireNonNull(workers);
+    }
+
+    public void schedule(final String prefix) {
+        final var purge = this.purgeRepository.save(MediaPurgeJpaEntity.newPurge(prefix));
+
+        // Inside a transaction the row is only visible to the worker after commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(purge.getId());
+                }
+            });
+        } else {
+            dispatch(purge.getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${storage.purge.poll-interval:30000}", initialDelayString = "${storage.purge.poll-interval:30000}")
+    public void purgeDue() {
+        this.purgeRepository.findDueIds(Instant.now(), PageRequest.ofSize(this.props.getPollSize()))
+                .forEach(this::dispatch);
+    }
+
+    public void purge(final String id) {
+        final var now = Instant.now();
+        if (this.purgeRepository.claim(id, now, now.plus(this.props.getLease())) == 0) {
+            return;
+        }
+
+        final var purge = this.purgeRepository.findById(id).orElse(null);
+        if (purge == null) {
+            return;
+        }
+
+        try {
+            deleteAll(purge.getPrefix());
+            this.purgeRepository.deleteById(id);
+        } catch (RuntimeException e) {
+            final var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            this.purgeRepository.save(purge.failed(cause.toString(), backoff(purge.getAttempts() + 1), this.props.getMaxAttempts()));
+
+            if (purge.isExhausted()) {
+                log.error("Giving up purging {} after {} attempts", purge.getPrefix(), purge.getAttempts(), cause);
+            } else {
+                log.warn("Could not purge {}, retrying at {}", purge.getPrefix(), purge.getNextAttemptAt(), cause);
+            }
+        }
+    }
+
+    private void deleteAll(final String prefix) {
+        final var names = this.storageService.list(prefix);
+
+        final var batches = Lists.partition(names, this.props.getBatchSize()).stream()
+                .map(batch -> CompletableFuture.runAsync(() -> this.storageService.deleteAll(batch), this.workers))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(batches).join();
+    }
+
+    private void dispatch(final String id) {
+        try {
+            this.dispatcher.execute(() -> purge(id));
+        } catch (RejectedExecutionException e) {
+            // The record is still due, the next poll picks it up
+            log.debug("Purge {} deferred to the next poll", id);
+        }
+    }
+
+    private Duration backoff(final int attempt) {
+        final var initial = this.props.getInitialBackoff();
+        final var max = this.props.getMaxBackoff();
+        final var exponential = initial.multipliedBy(1L << Math.min(attempt - 1, 30));
+        return exponential.compareTo(max) > 0 || exponential.isNegative() ? max : exponential;
+    }
+
+    @Override
+    public void destroy() {
+        this.dispatcher.shutdown();
+        this.workers.shutdown();
+    }
+}
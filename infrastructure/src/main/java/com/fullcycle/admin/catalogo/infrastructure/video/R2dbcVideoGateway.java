@@ -0,0 +1,327 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReactiveDatabase;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchJpaEntity;
+import io.r2dbc.spi.Row;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Non-blocking counterpart of DefaultVideoGateway's reads; same tables and filters, no JPA session
+@Component
+public class R2dbcVideoGateway implements AsyncVideoGateway {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "title", "title",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"
+    );
+
+    private static final String FIND_BY_ID = """
+            select
+                v.id, v.title, v.description, v.year_launched, v.opened, v.published, v.rating, v.duration, v.created_at, v.updated_at,
+                vm.id as video_id, vm.checksum as video_checksum, vm.name as video_name, vm.file_path as video_file_path, vm.encoded_path as video_encoded_path, vm.media_status as video_status,
+                vm.container as video_container, vm.duration as video_duration, vm.video_codec as video_video_codec, vm.audio_codec as video_audio_codec, vm.bitrate as video_bitrate, vm.width as video_width, vm.height as video_height,
+                tm.id as trailer_id, tm.checksum as trailer_checksum, tm.name as trailer_name, tm.file_path as trailer_file_path, tm.encoded_path as trailer_encoded_path, tm.media_status as trailer_status,
+                tm.container as trailer_container, tm.duration as trailer_duration, tm.video_codec as trailer_video_codec, tm.audio_codec as trailer_audio_codec, tm.bitrate as trailer_bitrate, tm.width as trailer_width, tm.height as trailer_height,
+                b.id as banner_id, b.checksum as banner_checksum, b.name as banner_name, b.file_path as banner_file_path,
+                t.id as thumbnail_id, t.checksum as thumbnail_checksum, t.name as thumbnail_name, t.file_path as thumbnail_file_path,
+                th.id as thumbnail_half_id, th.checksum as thumbnail_half_checksum, th.name as thumbnail_half_name, th.file_path as thumbnail_half_file_path
+            from videos v
+            left join videos_video_media vm on vm.id = v.video_id
+            left join videos_video_media tm on tm.id = v.trailer_id
+            left join videos_image_media b on b.id = v.banner_id
+            left join videos_image_media t on t.id = v.thumbnail_id
+            left join videos_image_media th on th.id = v.thumbnail_half_id
+            where v.id = :id
+            """;
+
+    private static final String FIND_RELATIONS = """
+            select 'CATEGORY' as kind, category_id as ref_id from videos_categories where video_id = :id
+            union all
+            select 'GENRE', genre_id from videos_genres where video_id = :id
+            union all
+            select 'CAST_MEMBER', cast_member_id from videos_cast_members where video_id = :id
+            """;
+
+    // Same query as VideoSearchRepository.findRelations
+    private static final String FIND_PAGE_RELATIONS = "select r.video_id, r.kind, r.ref_id from video_search_relations r where r.video_id in (:ids)";
+
+    private static final String RELATED_TO = "exists (select 1 from video_search_relations r where r.video_id = v.id and r.kind = '%s' and r.ref_id in (:%s))";
+
+    private final DatabaseClient client;
+
+    public R2dbcVideoGateway(final ReactiveDatabase database) {
+        this.client = Objects.requireNonNull(database).client();
+    }
+
+    @Override
+    public CompletableFuture<Optional<Video>> findById(final VideoID id) {
+        final var video = this.client.sql(FIND_BY_ID)
+                .bind("id", id.getValue())
+                .map((row, metadata) -> videoRow(row))
+                .one();
+
+        final var relations = this.client.sql(FIND_RELATIONS)
+                .bind("id", id.getValue())
+                .map((row, metadata) -> Map.entry(row.get("kind", String.class), row.get("ref_id", String.class)))
+                .all()
+                .collectMultimap(Map.Entry::getKey, Map.Entry::getValue);
+
+        // Both queries run concurrently on separate pooled connections
+        return Mono.zip(video, relations)
+                .map(tuple -> Optional.of(tuple.getT1().toAggregate(tuple.getT2())))
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Pagination<VideoPreview>> findAll(final VideoSearchQuery query) {
+        final var filter = searchFilter(query);
+        final var orderBy = " order by v.%s %s".formatted(sortColumn(query.sort()), Sort.Direction.fromString(query.direction()).name());
+
+        final var items = bindSearch(this.client.sql("select v.id, v.title, v.description, v.created_at, v.updated_at from video_search v"
+                + filter + orderBy + " limit :limit offset :offset"), query)
+                .bind("limit", query.perPage())
+                .bind("offset", (long) query.page() * query.perPage())
+                .map((row, metadata) -> VideoSearchJpaEntity.with(
+                        row.get("id", String.class),
+                        row.get("title", String.class),
+                        row.get("description", String.class),
+                        instant(row, "created_at"),
+                        instant(row, "updated_at")
+                ))
+                .all()
+                .collectList()
+                .flatMap(rows -> previews(rows, query.expand()));
+
+        final var total = bindSearch(this.client.sql("select count(*) as total from video_search v" + filter), query)
+                .map((row, metadata) -> row.get("total", Long.class))
+                .one();
+
+        return Mono.zip(items, total)
+                .map(tuple -> new Pagination<>(query.page(), query.perPage(), tuple.getT2(), tuple.getT1()))
+                .toFuture();
+    }
+
+    // Relation ids are only read for an expanded listing, the same as DefaultVideoGateway
+    private Mono<List<VideoPreview>> previews(final List<VideoSearchJpaEntity> rows, final boolean expand) {
+        if (!expand || rows.isEmpty()) {
+            return Mono.just(rows.stream().map(row -> row.toPreview(Map.of())).toList());
+        }
+
+        return this.client.sql(FIND_PAGE_RELATIONS)
+                .bind("ids", rows.stream().map(VideoSearchJpaEntity::getId).toList())
+                .map((row, metadata) -> new String[]{row.get("video_id", String.class), row.get("kind", String.class), row.get("ref_id", String.class)})
+                .all()
+                .collect(Collectors.groupingBy(
+                        row -> row[0],
+                        Collectors.groupingBy(row -> row[1], Collectors.mapping(row -> row[2], Collectors.toList()))
+                ))
+                .map(relations -> rows.stream()
+                        .map(row -> row.toPreview(relations.getOrDefault(row.getId(), Map.of())))
+                        .toList());
+    }
+
+    // Only the filters present in the query are rendered, so each IN list is bound to a non-empty collection
+    private static String searchFilter(final VideoSearchQuery query) {
+        final var where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+        if (terms(query) != null) {
+            where.add("UPPER(v.title) like :terms");
+        }
+        if (isPresent(query.castMembers())) {
+            where.add(RELATED_TO.formatted(VideoSearchJpaEntity.CAST_MEMBER, "castMembers"));
+        }
+        if (isPresent(query.categories())) {
+            where.add(RELATED_TO.formatted(VideoSearchJpaEntity.CATEGORY, "categories"));
+        }
+        if (isPresent(query.genres())) {
+            where.add(RELATED_TO.formatted(VideoSearchJpaEntity.GENRE, "genres"));
+        }
+        return where.toString();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindSearch(final DatabaseClient.GenericExecuteSpec spec, final VideoSearchQuery query) {
+        var bound = spec;
+        if (terms(query) != null) {
+            bound = bound.bind("terms", terms(query));
+        }
+        if (isPresent(query.castMembers())) {
+            bound = bound.bind("castMembers", values(query.castMembers()));
+        }
+        if (isPresent(query.categories())) {
+            bound = bound.bind("categories", values(query.categories()));
+        }
+        if (isPresent(query.genres())) {
+            bound = bound.bind("genres", values(query.genres()));
+        }
+        return bound;
+    }
+
+    private static String terms(final VideoSearchQuery query) {
+        return query.terms() == null || query.terms().isBlank() ? null : SqlUtils.like(SqlUtils.upper(query.terms()));
+    }
+
+    private static boolean isPresent(final Set<? extends Identifier> ids) {
+        return ids != null && !ids.isEmpty();
+    }
+
+    private static List<String> values(final Set<? extends Identifier> ids) {
+        return ids.stream().map(Identifier::getValue).toList();
+    }
+
+    private static String sortColumn(final String sort) {
+        final var column = SORT_COLUMNS.get(sort);
+        if (column == null) {
+            throw DomainException.with(new Error("Unsupported sort field: %s".formatted(sort)));
+        }
+        return column;
+    }
+
+    private static VideoRow videoRow(final Row row) {
+        return new VideoRow(
+                row.get("id", String.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("year_launched", Integer.class),
+                Boolean.TRUE.equals(row.get("opened", Boolean.class)),
+                Boolean.TRUE.equals(row.get("published", Boolean.class)),
+                rating(row.get("rating", String.class)),
+                Optional.ofNullable(row.get("duration", BigDecimal.class)).map(BigDecimal::doubleValue).orElse(0.0),
+                instant(row, "created_at"),
+                instant(row, "updated_at"),
+                imageMedia(row, "banner"),
+                imageMedia(row, "thumbnail"),
+                imageMedia(row, "thumbnail_half"),
+                audioVideoMedia(row, "trailer"),
+                audioVideoMedia(row, "video")
+        );
+    }
+
+    private static AudioVideoMedia audioVideoMedia(final Row row, final String prefix) {
+        final var id = row.get(prefix + "_id", String.class);
+        if (id == null) {
+            return null;
+        }
+        return AudioVideoMedia.with(
+                id,
+                row.get(prefix + "_checksum", String.class),
+                row.get(prefix + "_name", String.class),
+                row.get(prefix + "_file_path", String.class),
+                row.get(prefix + "_encoded_path", String.class),
+                MediaStatus.valueOf(row.get(prefix + "_status", String.class)),
+                mediaMetadata(row, prefix)
+        );
+    }
+
+    private static MediaMetadata mediaMetadata(final Row row, final String prefix) {
+        final var container = row.get(prefix + "_container", String.class);
+        if (container == null) {
+            return null;
+        }
+        return MediaMetadata.with(
+                container,
+                row.get(prefix + "_duration", Double.class),
+                row.get(prefix + "_video_codec", String.class),
+                row.get(prefix + "_audio_codec", String.class),
+                row.get(prefix + "_bitrate", Long.class),
+                row.get(prefix + "_width", Integer.class),
+                row.get(prefix + "_height", Integer.class)
+        );
+    }
+
+    private static ImageMedia imageMedia(final Row row, final String prefix) {
+        final var id = row.get(prefix + "_id", String.class);
+        if (id == null) {
+            return null;
+        }
+        return ImageMedia.with(
+                id,
+                row.get(prefix + "_checksum", String.class),
+                row.get(prefix + "_name", String.class),
+                row.get(prefix + "_file_path", String.class)
+        );
+    }
+
+    // VideoJpaEntity maps the enum without @Enumerated, so the column holds the ordinal
+    private static Rating rating(final String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.chars().allMatch(Character::isDigit)
+                ? Rating.values()[Integer.parseInt(value)]
+                : Rating.of(value).orElse(null);
+    }
+
+    // DATETIME columns are written in UTC (serverTimezone=UTC on the JDBC side)
+    private static Instant instant(final Row row, final String column) {
+        final var value = row.get(column, LocalDateTime.class);
+        return value == null ? null : value.toInstant(ZoneOffset.UTC);
+    }
+
+    private record VideoRow(
+            String id,
+            String title,
+            String description,
+            Integer yearLaunched,
+            boolean opened,
+            boolean published,
+            Rating rating,
+            double duration,
+            Instant createdAt,
+            Instant updatedAt,
+            ImageMedia banner,
+            ImageMedia thumbnail,
+            ImageMedia thumbnailHalf,
+            AudioVideoMedia trailer,
+            AudioVideoMedia video
+    ) {
+
+        Video toAggregate(final Map<String, Collection<String>> relations) {
+            return Video.with(
+                    VideoID.from(id),
+                    title,
+                    description,
+                    Year.of(yearLaunched),
+                    duration,
+                    opened,
+                    published,
+                    rating,
+                    createdAt,
+                    updatedAt,
+                    banner,
+                    thumbnail,
+                    thumbnailHalf,
+                    trailer,
+                    video,
+                    ids(relations, "CATEGORY", CategoryID::from),
+                    ids(relations, "GENRE", GenreID::from),
+                    ids(relations, "CAST_MEMBER", CastMemberID::from)
+            );
+        }
+
+        private static <T> Set<T> ids(final Map<String, Collection<String>> relations, final String kind, final Function<String, T> mapper) {
+            return relations.getOrDefault(kind, List.of()).stream().map(mapper).collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+// Keeps the denormalized video_search rows, and the category, genre and cast member ids in video_search_relations,
+// in step with the videos table. Only ids are projected, so renames need no work here, and the link tables' foreign keys
+// reject deleting anything a video still references. Writes join the caller's transaction so the listing never sees a
+// half-applied change.
+@Component
+public class VideoSearchProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoSearchProjection.class);
+
+    static final int REBUILD_BATCH_SIZE = 500;
+
+    private final VideoSearchRepository repository;
+    private final TransactionTemplate batchTransaction;
+
+    public VideoSearchProjection(final VideoSearchRepository repository, final PlatformTransactionManager transactionManager) {
+        this.repository = Objects.requireNonNull(repository);
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void upsert(final Video aVideo) {
+        this.repository.save(VideoSearchJpaEntity.from(aVideo));
+    }
+
+    public void remove(final VideoID anId) {
+        final var aVideoId = anId.getValue();
+        if (this.repository.existsById(aVideoId)) {
+            this.repository.deleteById(aVideoId);
+        }
+    }
+
+    // Walks the videos table by primary key so memory stays flat however many videos exist;
+    // each batch commits on its own, so the listing keeps serving while the rebuild runs
+    public long rebuild() {
+        final var start = System.nanoTime();
+        var after = "";
+        var total = 0L;
+
+        while (true) {
+            final var ids = this.repository.findVideoIdsAfter(after, REBUILD_BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            rebuildBatch(ids);
+            total += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+
+        final var orphans = this.repository.deleteOrphans();
+        log.info("Rebuilt video_search: {} videos projected, {} stale rows removed in {} ms",
+                total, orphans, (System.nanoTime() - start) / 1_000_000);
+        return total;
+    }
+
+    // The row and its relations are replaced together, so the listing never filters on a half-rebuilt video
+    private void rebuildBatch(final List<String> ids) {
+        this.batchTransaction.executeWithoutResult(status -> {
+            this.repository.rebuild(ids);
+            this.repository.deleteRelations(ids);
+            this.repository.rebuildRelations(ids);
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// Run the application with --rebuild-video-search to regenerate the listing projection at startup
+@Component
+public class VideoSearchRebuildCommand implements ApplicationRunner {
+
+    static final String OPTION = "rebuild-video-search";
+
+    private final VideoSearchProjection projection;
+
+    public VideoSearchRebuildCommand(final VideoSearchProjection projection) {
+        this.projection = projection;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            this.projection.rebuild();
+        }
+    }
+}
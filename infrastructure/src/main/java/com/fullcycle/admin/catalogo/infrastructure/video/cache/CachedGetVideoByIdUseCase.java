@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cache;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class CachedGetVideoByIdUseCase extends GetVideoByIdUseCase {
+
+    private final GetVideoByIdUseCase delegate;
+    private final VideoOutputCache cache;
+
+    public CachedGetVideoByIdUseCase(final GetVideoByIdUseCase delegate, final VideoOutputCache cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public VideoOutput execute(final String anId) {
+        return this.cache.get(VideoID.from(anId), id -> this.delegate.execute(id.getValue()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cache;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoLastModifiedUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachedGetVideoLastModifiedUseCase extends GetVideoLastModifiedUseCase {
+
+    private final GetVideoLastModifiedUseCase delegate;
+    private final VideoOutputCache cache;
+
+    public CachedGetVideoLastModifiedUseCase(final GetVideoLastModifiedUseCase delegate, final VideoOutputCache cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    // Every pod evicts its local copy on the broadcast each video write sends, so a hit lags updated_at only by the
+    // broadcast's delivery, or by the TTL if the broadcast is lost
+    @Override
+    public Optional<Instant> execute(final String anId) {
+        return this.cache.getIfPresent(VideoID.from(anId))
+                .map(VideoOutput::updatedAt)
+                .or(() -> this.delegate.execute(anId));
+    }
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cache;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemorySharedVideoCache implements SharedVideoCache {
+
+    private final Map<String, VideoOutput> storage;
+
+    public InMemorySharedVideoCache() {
+        this.storage = new ConcurrentHashMap<>();
+    }
+
+    public Map<String, VideoOutput> storage() {
+        return this.storage;
+    }
+
+    public void reset() {
+        this.storage.clear();
+    }
+
+    @Override
+    public Optional<VideoOutput> get(final String id) {
+        return Optional.ofNullable(this.storage.get(id));
+    }
+
+    @Override
+    public void put(final String id, final VideoOutput output) {
+        this.storage.put(id, output);
+    }
+
+    @Override
+    public void evict(final String id) {
+        this.storage.remove(id);
+    }
+}
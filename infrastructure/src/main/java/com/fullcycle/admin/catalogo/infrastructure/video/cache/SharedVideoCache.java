@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cache;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+
+import java.util.Optional;
+
+public interface SharedVideoCache {
+
+    Optional<VideoOutput> get(String id);
+
+    void put(String id, VideoOutput output);
+
+    void evict(String id);
+}
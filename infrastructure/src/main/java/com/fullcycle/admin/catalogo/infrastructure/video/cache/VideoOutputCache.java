@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cache;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReadYourWrites;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoCacheEvicted;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+// Only video writes evict. Categories, genres and cast members are cached as bare ids, so updating one leaves every
+// entry valid, and deleting one a video still links to is rejected by the FKs on the videos_* link tables. If those
+// ever cascade, a delete must evict the linked videos too, or they keep the dangling id for up to the TTL.
+public class VideoOutputCache {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoOutputCache.class);
+
+    private final AsyncCache<String, VideoOutput> local;
+    private final SharedVideoCache shared;
+    private final EventService evictions;
+
+    public VideoOutputCache(
+            final long maximumSize,
+            final Duration ttl,
+            final SharedVideoCache shared,
+            final EventService evictions
+    ) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Objects.requireNonNull(ttl))
+                .recordStats()
+                .buildAsync();
+        this.shared = shared;
+        this.evictions = evictions;
+    }
+
+    public Cache<String, VideoOutput> local() {
+        return this.local.synchronous();
+    }
+
+    // Concurrent misses for the same video share a single load. Only the pending future is published under Caffeine's
+    // map lock; the load itself runs afterwards on the caller, so JDBC never runs inside a monitor that would pin a
+    // virtual thread's carrier.
+    public VideoOutput get(final VideoID id, final Function<VideoID, VideoOutput> loader) {
+        final var pending = new CompletableFuture<VideoOutput>();
+        final var current = this.local.get(id.getValue(), (key, executor) -> pending);
+        if (current != pending) {
+            return join(current);
+        }
+
+        try {
+            final var output = loadThroughShared(id, loader);
+            pending.complete(output);
+            return output;
+        } catch (final RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public Optional<VideoOutput> getIfPresent(final VideoID id) {
+        // A load still in flight counts as a miss instead of blocking the caller
+        return Optional.ofNullable(this.local.getIfPresent(id.getValue()))
+                .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                .map(CompletableFuture::join);
+    }
+
+    // Every other pod holds its own L1 copy, so the eviction is broadcast to them as well
+    public void evict(final VideoID id) {
+        final var key = id.getValue();
+        if (this.shared != null) {
+            this.shared.evict(key);
+        }
+        evictLocal(id);
+
+        if (this.evictions != null) {
+            try {
+                this.evictions.send(new VideoCacheEvicted(key));
+            } catch (final RuntimeException e) {
+                // The write already happened; a lost broadcast only leaves other pods stale for up to the TTL
+                log.warn("[message:video.cache.evict] [status:broadcast-failed] [videoId:{}]", key, e);
+            }
+        }
+    }
+
+    // For evictions broadcast by another pod, which has already cleared L2
+    public void evictLocal(final VideoID id) {
+        this.local.synchronous().invalidate(id.getValue());
+    }
+
+    private static VideoOutput join(final CompletableFuture<VideoOutput> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Whatever gets cached is read from the primary, so a miss right after a write can't keep a replica's stale row
+    private VideoOutput loadThroughShared(final VideoID id, final Function<VideoID, VideoOutput> loader) {
+        final var key = id.getValue();
+        if (this.shared == null) {
+            return ReadYourWrites.onPrimary(() -> loader.apply(id));
+        }
+
+        return this.shared.get(key).orElseGet(() -> {
+            final var output = ReadYourWrites.onPrimary(() -> loader.apply(id));
+            if (output != null) {
+                this.shared.put(key, output);
+            }
+            return output;
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CompleteUploadRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("checksum") String checksum,
+        @JsonProperty("size") Long size
+) {
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record MediaMetadataResponse(
+        @JsonProperty("container") String container,
+        @JsonProperty("duration") Double duration,
+        @JsonProperty("video_codec") String videoCodec,
+        @JsonProperty("audio_codec") String audioCodec,
+        @JsonProperty("bitrate") Long bitrate,
+        @JsonProperty("width") Integer width,
+        @JsonProperty("height") Integer height
+) {
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.time.Instant;
+
+public record UploadSessionResponse(
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("upload_url") String uploadUrl,
+        @JsonProperty("expires_at") Instant expiresAt
+) {
+}
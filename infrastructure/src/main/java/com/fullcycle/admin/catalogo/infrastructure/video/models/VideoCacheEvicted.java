@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record VideoCacheEvicted(
+        @JsonProperty("video_id") String videoId
+) {
+}
@@ -1,14 +1,25 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.Instant;
+import java.util.List;
 
 public record VideoListResponse(
         @JsonProperty("id") String id,
         @JsonProperty("title") String title,
         @JsonProperty("description") String description,
         @JsonProperty("created_at") Instant createdAt,
-        @JsonProperty("updated_at") Instant updatedAt
+        @JsonProperty("updated_at") Instant updatedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories") List<Reference> categories,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("genres") List<Reference> genres,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("cast_members") List<Reference> castMembers
 ) {
+
+    public record Reference(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name
+    ) {
+    }
 }
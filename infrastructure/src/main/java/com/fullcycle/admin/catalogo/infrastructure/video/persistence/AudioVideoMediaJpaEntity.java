@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaMetadata;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
 
 import javax.persistence.*;
@@ -29,6 +30,28 @@ public class AudioVideoMediaJpaEntity {
     @Enumerated(EnumType.STRING)
     private MediaStatus status;
 
+    // Probed from the container header; all null when the probe couldn't read it
+    @Column(name = "container")
+    private String container;
+
+    @Column(name = "duration")
+    private Double duration;
+
+    @Column(name = "video_codec")
+    private String videoCodec;
+
+    @Column(name = "audio_codec")
+    private String audioCodec;
+
+    @Column(name = "bitrate")
+    private Long bitrate;
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
     public AudioVideoMediaJpaEntity() {};
 
     public AudioVideoMediaJpaEntity(
@@ -47,7 +70,7 @@ public class AudioVideoMediaJpaEntity {
     }
 
     public static AudioVideoMediaJpaEntity from(final AudioVideoMedia media) {
-        return new AudioVideoMediaJpaEntity(
+        final var entity = new AudioVideoMediaJpaEntity(
                 media.getId(),
                 media.checkSum(),
                 media.name(),
@@ -55,6 +78,8 @@ public class AudioVideoMediaJpaEntity {
                 media.encodedLocation(),
                 media.status()
         );
+        media.metadata().ifPresent(entity::setMetadata);
+        return entity;
     }
 
     public AudioVideoMedia toDomain() {
@@ -64,10 +89,28 @@ public class AudioVideoMediaJpaEntity {
                 getName(),
                 getFilePath(),
                 getEncodedPath(),
-                getStatus()
+                getStatus(),
+                getMetadata()
         );
     }
 
+    public MediaMetadata getMetadata() {
+        if (container == null) {
+            return null;
+        }
+        return MediaMetadata.with(container, duration, videoCodec, audioCodec, bitrate, width, height);
+    }
+
+    public void setMetadata(final MediaMetadata metadata) {
+        this.container = metadata.container();
+        this.duration = metadata.duration();
+        this.videoCodec = metadata.videoCodec();
+        this.audioCodec = metadata.audioCodec();
+        this.bitrate = metadata.bitrate();
+        this.width = metadata.width();
+        this.height = metadata.height();
+    }
+
     public String getCheckSum() {
         return checkSum;
     }
@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class MediaBlobReferenceID implements Serializable {
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "media_type", nullable = false)
+    private String mediaType;
+
+    public MediaBlobReferenceID() {}
+
+    public MediaBlobReferenceID(String videoId, String mediaType) {
+        this.videoId = videoId;
+        this.mediaType = mediaType;
+    }
+
+    public static MediaBlobReferenceID from(final String videoId, final String mediaType) {
+        return new MediaBlobReferenceID(videoId, mediaType);
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public void setMediaType(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MediaBlobReferenceID that = (MediaBlobReferenceID) o;
+        return Objects.equals(videoId, that.videoId) && Objects.equals(mediaType, that.mediaType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(videoId, mediaType);
+    }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.util.Objects;
+
+@Table(name = "media_blob_references")
+@Entity(name = "MediaBlobReference")
+public class MediaBlobReferenceJpaEntity {
+
+    @EmbeddedId
+    private MediaBlobReferenceID id;
+
+    @Column(name = "hash", nullable = false)
+    private String hash;
+
+    public MediaBlobReferenceJpaEntity() {}
+
+    private MediaBlobReferenceJpaEntity(final MediaBlobReferenceID id, final String hash) {
+        this.id = id;
+        this.hash = hash;
+    }
+
+    public static MediaBlobReferenceJpaEntity from(final VideoID videoId, final VideoMediaType type, final String hash) {
+        return new MediaBlobReferenceJpaEntity(MediaBlobReferenceID.from(videoId.getValue(), type.name()), hash);
+    }
+
+    public MediaBlobReferenceID getId() {
+        return id;
+    }
+
+    public void setId(MediaBlobReferenceID id) {
+        this.id = id;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MediaBlobReferenceJpaEntity that = (MediaBlobReferenceJpaEntity) o;
+        return Objects.equals(id, that.id) && Objects.equals(hash, that.hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, hash);
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface MediaBlobReferenceRepository extends JpaRepository<MediaBlobReferenceJpaEntity, MediaBlobReferenceID> {
+
+    List<MediaBlobReferenceJpaEntity> findAllByIdVideoId(String videoId);
+}
@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Optional;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlobJpaEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from MediaBlob b where b.hash = :hash")
+    Optional<MediaBlobJpaEntity> findByIdForUpdate(@Param("hash") String hash);
+
+    // A single statement, so two first uploads of the same content can't both try to insert the row
+    @Modifying
+    @Query(value = """
+            insert into media_blobs (hash, ref_count, created_at, updated_at) values (:hash, 1, :now, :now)
+            on duplicate key update ref_count = ref_count + 1, updated_at = :now
+            """, nativeQuery = true)
+    int retain(@Param("hash") String hash, @Param("now") Instant now);
+
+    @Modifying
+    @Query(value = "update media_blobs set ref_count = ref_count - 1, updated_at = :now where hash = :hash and ref_count > 0", nativeQuery = true)
+    int release(@Param("hash") String hash, @Param("now") Instant now);
+}
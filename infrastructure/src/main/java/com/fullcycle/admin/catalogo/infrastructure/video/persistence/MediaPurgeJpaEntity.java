@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+@Table(name = "media_purges")
+@Entity(name = "MediaPurge")
+public class MediaPurgeJpaEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "prefix", nullable = false)
+    private String prefix;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", columnDefinition = "DATETIME(6)")
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public MediaPurgeJpaEntity() {}
+
+    private MediaPurgeJpaEntity(final String id, final String prefix, final Instant createdAt) {
+        this.id = id;
+        this.prefix = prefix;
+        this.attempts = 0;
+        this.nextAttemptAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    public static MediaPurgeJpaEntity newPurge(final String prefix) {
+        return new MediaPurgeJpaEntity(IdUtils.uuid(), prefix, Instant.now());
+    }
+
+    public MediaPurgeJpaEntity failed(final String error, final Duration backoff, final int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        // Out of attempts: the record stays for inspection but is never picked up again
+        this.nextAttemptAt = this.attempts >= maxAttempts ? null : Instant.now().plus(backoff);
+        return this;
+    }
+
+    public boolean isExhausted() {
+        return this.nextAttemptAt == null;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MediaPurgeJpaEntity that = (MediaPurgeJpaEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
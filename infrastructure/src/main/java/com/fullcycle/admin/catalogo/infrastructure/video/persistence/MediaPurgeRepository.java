@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MediaPurgeRepository extends JpaRepository<MediaPurgeJpaEntity, String> {
+
+    @Query("select p.id from MediaPurge p where p.nextAttemptAt <= :now order by p.nextAttemptAt")
+    List<String> findDueIds(@Param("now") Instant now, Pageable page);
+
+    // Pushing next_attempt_at past the lease makes the row invisible to other pollers while it is processed
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MediaPurge p set p.nextAttemptAt = :leaseUntil where p.id = :id and p.nextAttemptAt <= :now")
+    int claim(@Param("id") String id, @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+}
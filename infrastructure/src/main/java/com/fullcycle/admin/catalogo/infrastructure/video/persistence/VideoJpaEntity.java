@@ -6,6 +6,8 @@ import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -70,12 +72,15 @@ public class VideoJpaEntity {
     @JoinColumn(name = "thumbnail_half_id")
     private ImageMediaJpaEntity thumbnailHalf;
 
+    @BatchSize(size = SqlUtils.MAX_IN_CLAUSE_SIZE)
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoCategoryJpaEntity> categories;
 
+    @BatchSize(size = SqlUtils.MAX_IN_CLAUSE_SIZE)
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoGenreJpaEntity> genres;
 
+    @BatchSize(size = SqlUtils.MAX_IN_CLAUSE_SIZE)
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoCastMemberJpaEntity> castMembers;
 
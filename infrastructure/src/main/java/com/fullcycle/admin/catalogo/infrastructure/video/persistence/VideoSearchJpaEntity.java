@@ -0,0 +1,143 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Table(name = "video_search")
+@Entity(name = "VideoSearch")
+public class VideoSearchJpaEntity {
+
+    // Values of video_search_relations.kind
+    public static final String CATEGORY = "CATEGORY";
+    public static final String GENRE = "GENRE";
+    public static final String CAST_MEMBER = "CAST_MEMBER";
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description", length = 1000)
+    private String description;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+    private Set<VideoSearchRelationJpaEntity> relations;
+
+    public VideoSearchJpaEntity() {}
+
+    private VideoSearchJpaEntity(
+            final String id,
+            final String title,
+            final String description,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.relations = new HashSet<>();
+    }
+
+    public static VideoSearchJpaEntity with(
+            final String id,
+            final String title,
+            final String description,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        return new VideoSearchJpaEntity(id, title, description, createdAt, updatedAt);
+    }
+
+    public static VideoSearchJpaEntity from(final Video aVideo) {
+        final var entity = new VideoSearchJpaEntity(
+                aVideo.getId().getValue(),
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getCreatedAt(),
+                aVideo.getUpdatedAt()
+        );
+
+        aVideo.getCategories().forEach(id -> entity.addRelation(CATEGORY, id.getValue()));
+        aVideo.getGenres().forEach(id -> entity.addRelation(GENRE, id.getValue()));
+        aVideo.getCastMembers().forEach(id -> entity.addRelation(CAST_MEMBER, id.getValue()));
+
+        return entity;
+    }
+
+    // relations maps each kind to the referenced ids of this video, as loaded for the whole page
+    public VideoPreview toPreview(final Map<String, ? extends Collection<String>> relations) {
+        return new VideoPreview(
+                getId(),
+                getTitle(),
+                getDescription(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                ids(relations, CATEGORY, CategoryID::from),
+                ids(relations, GENRE, GenreID::from),
+                ids(relations, CAST_MEMBER, CastMemberID::from)
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Set<VideoSearchRelationJpaEntity> getRelations() {
+        return relations;
+    }
+
+    private void addRelation(final String kind, final String refId) {
+        this.relations.add(VideoSearchRelationJpaEntity.from(this, kind, refId));
+    }
+
+    private static <T> Set<T> ids(final Map<String, ? extends Collection<String>> relations, final String kind, final Function<String, T> mapper) {
+        return Optional.ofNullable(relations.get(kind)).stream()
+                .flatMap(Collection::stream)
+                .map(mapper)
+                .collect(Collectors.toSet());
+    }
+}
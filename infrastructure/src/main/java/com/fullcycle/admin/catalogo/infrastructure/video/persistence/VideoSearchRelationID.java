@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class VideoSearchRelationID implements Serializable {
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "kind", nullable = false)
+    private String kind;
+
+    @Column(name = "ref_id", nullable = false)
+    private String refId;
+
+    public VideoSearchRelationID() {}
+
+    public VideoSearchRelationID(String videoId, String kind, String refId) {
+        this.videoId = videoId;
+        this.kind = kind;
+        this.refId = refId;
+    }
+
+    public static VideoSearchRelationID from(final String videoId, final String kind, final String refId) {
+        return new VideoSearchRelationID(videoId, kind, refId);
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getRefId() {
+        return refId;
+    }
+
+    public void setRefId(String refId) {
+        this.refId = refId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VideoSearchRelationID that = (VideoSearchRelationID) o;
+        return Objects.equals(videoId, that.videoId) && Objects.equals(kind, that.kind) && Objects.equals(refId, that.refId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(videoId, kind, refId);
+    }
+}
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+// One category, genre or cast member id of a projected video; (kind, ref_id, video_id) is indexed for the listing filters
+@Table(name = "video_search_relations")
+@Entity(name = "VideoSearchRelation")
+public class VideoSearchRelationJpaEntity {
+
+    @EmbeddedId
+    private VideoSearchRelationID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("videoId")
+    private VideoSearchJpaEntity video;
+
+    public VideoSearchRelationJpaEntity() {}
+
+    private VideoSearchRelationJpaEntity(VideoSearchRelationID id, VideoSearchJpaEntity video) {
+        this.id = id;
+        this.video = video;
+    }
+
+    public static VideoSearchRelationJpaEntity from(VideoSearchJpaEntity video, String kind, String refId) {
+        return new VideoSearchRelationJpaEntity(VideoSearchRelationID.from(video.getId(), kind, refId), video);
+    }
+
+    public VideoSearchRelationID getId() {
+        return id;
+    }
+
+    public void setId(VideoSearchRelationID id) {
+        this.id = id;
+    }
+
+    public VideoSearchJpaEntity getVideo() {
+        return video;
+    }
+
+    public void setVideo(VideoSearchJpaEntity video) {
+        this.video = video;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VideoSearchRelationJpaEntity that = (VideoSearchRelationJpaEntity) o;
+        return Objects.equals(id, that.id) && Objects.equals(video, that.video);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, video);
+    }
+}
@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+// Only portable SQL here: the same queries run on MySQL and on the H2 (MODE=MYSQL) test profile
+public interface VideoSearchRepository extends JpaRepository<VideoSearchJpaEntity, String>, JpaSpecificationExecutor<VideoSearchJpaEntity> {
+
+    // Ids referenced by a page of videos as (video_id, kind, ref_id), in one primary key range scan instead of one per row
+    @Query(value = "select r.video_id, r.kind, r.ref_id from video_search_relations r where r.video_id in (:ids)", nativeQuery = true)
+    List<Object[]> findRelations(@Param("ids") Collection<String> ids);
+
+    @Query(value = "select v.id from videos v where v.id > :after order by v.id limit :limit", nativeQuery = true)
+    List<String> findVideoIdsAfter(@Param("after") String after, @Param("limit") int limit);
+
+    // Same rows as the V7 backfill, applied to one keyset batch of videos
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into video_search (id, title, description, created_at, updated_at)
+            select v.id, v.title, v.description, v.created_at, v.updated_at
+            from videos v
+            where v.id in (:ids)
+            on duplicate key update
+                title = values(title),
+                description = values(description),
+                created_at = values(created_at),
+                updated_at = values(updated_at)
+            """, nativeQuery = true)
+    int rebuild(@Param("ids") List<String> ids);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from video_search_relations where video_id in (:ids)", nativeQuery = true)
+    int deleteRelations(@Param("ids") List<String> ids);
+
+    // Same relations as the V7 backfill, for one keyset batch of videos
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into video_search_relations (video_id, kind, ref_id)
+            select vc.video_id, 'CATEGORY', vc.category_id from videos_categories vc where vc.video_id in (:ids)
+            union all
+            select vg.video_id, 'GENRE', vg.genre_id from videos_genres vg where vg.video_id in (:ids)
+            union all
+            select vm.video_id, 'CAST_MEMBER', vm.cast_member_id from videos_cast_members vm where vm.video_id in (:ids)
+            """, nativeQuery = true)
+    int rebuildRelations(@Param("ids") List<String> ids);
+
+    @Transactional
+    @Modifying
+    // Their relations go with them through the ON DELETE CASCADE foreign key
+    @Query(value = "delete from video_search where not exists (select 1 from videos v where v.id = video_search.id)", nativeQuery = true)
+    int deleteOrphans();
+}
@@ -1,14 +1,19 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.presenters;
 
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadSessionOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoOutput;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaMetadata;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.StreamingPagination;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.*;
 
+import java.util.List;
+
 public interface VideoApiPresenter {
 
     static VideoResponse present(final VideoOutput output) {
@@ -56,7 +61,20 @@ public interface VideoApiPresenter {
                 media.name(),
                 media.rawLocation(),
                 media.encodedLocation(),
-                media.status().name()
+                media.status().name(),
+                media.metadata().map(VideoApiPresenter::present).orElse(null)
+        );
+    }
+
+    static MediaMetadataResponse present(final MediaMetadata metadata) {
+        return new MediaMetadataResponse(
+                metadata.container(),
+                metadata.duration(),
+                metadata.videoCodec(),
+                metadata.audioCodec(),
+                metadata.bitrate(),
+                metadata.width(),
+                metadata.height()
         );
     }
 
@@ -70,15 +88,31 @@ public interface VideoApiPresenter {
                 output.title(),
                 output.description(),
                 output.createdAt(),
-                output.updatedAt()
+                output.updatedAt(),
+                present(output.categories()),
+                present(output.genres()),
+                present(output.castMembers())
         );
     }
 
-    static Pagination<VideoListResponse> present(final Pagination<VideoListOutput> page) {
-        return page.map(VideoApiPresenter::present);
+    static List<VideoListResponse.Reference> present(final List<VideoListOutput.Reference> references) {
+        if (references == null) {
+            return null;
+        }
+        return references.stream()
+                .map(it -> new VideoListResponse.Reference(it.id(), it.name()))
+                .toList();
+    }
+
+    static StreamingPagination<VideoListOutput, VideoListResponse> present(final Pagination<VideoListOutput> page) {
+        return StreamingPagination.of(page, VideoApiPresenter::present);
     }
 
     static UploadMediaResponse present(final UploadMediaOutput output) {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
+
+    static UploadSessionResponse present(final UploadSessionOutput output) {
+        return new UploadSessionResponse(output.videoId(), output.mediaType(), output.uploadUrl(), output.expiresAt());
+    }
 }
@@ -0,0 +1,163 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.probe;
+
+import java.io.IOException;
+
+// Matroska/WebM: reads the EBML header, then the Segment's Info and Tracks elements; Clusters are skipped by size
+final class MatroskaParser {
+
+    static final long EBML = 0x1A45DFA3L;
+
+    private static final long DOC_TYPE = 0x4282;
+    private static final long SEGMENT = 0x18538067L;
+    private static final long INFO = 0x1549A966L;
+    private static final long TIMESTAMP_SCALE = 0x2AD7B1;
+    private static final long DURATION = 0x4489;
+    private static final long TRACKS = 0x1654AE6BL;
+    private static final long TRACK_ENTRY = 0xAE;
+    private static final long TRACK_TYPE = 0x83;
+    private static final long CODEC_ID = 0x86;
+    private static final long VIDEO = 0xE0;
+    private static final long PIXEL_WIDTH = 0xB0;
+    private static final long PIXEL_HEIGHT = 0xBA;
+    private static final long CLUSTER = 0x1F43B675L;
+
+    private static final int VIDEO_TRACK = 1;
+    private static final int AUDIO_TRACK = 2;
+
+    private final RangedInput in;
+    private final ProbeResult result;
+
+    private MatroskaParser(final RangedInput in) {
+        this.in = in;
+        this.result = new ProbeResult("matroska");
+    }
+
+    static ProbeResult parse(final RangedInput in) throws IOException {
+        final var parser = new MatroskaParser(in);
+        parser.parse();
+        return parser.result;
+    }
+
+    private void parse() throws IOException {
+        final var header = element(0, this.in.size());
+        for (var child = element(header.start(), header.end()); child != null; child = element(child.end(), header.end())) {
+            if (child.id() == DOC_TYPE && child.length() <= 32) {
+                this.result.container(this.in.ascii(child.start(), (int) child.length()));
+            }
+        }
+
+        final var segment = element(header.end(), this.in.size());
+        if (segment == null || segment.id() != SEGMENT) {
+            return;
+        }
+
+        var info = false;
+        var tracks = false;
+        for (var child = element(segment.start(), segment.end()); child != null && !(info && tracks); child = element(child.end(), segment.end())) {
+            if (child.id() == INFO) {
+                info(child);
+                info = true;
+            } else if (child.id() == TRACKS) {
+                tracks(child);
+                tracks = true;
+            } else if (child.id() == CLUSTER && child.unknownSize()) {
+                // A live-style cluster runs to the end of the file, nothing after it can be reached by skipping
+                return;
+            }
+        }
+    }
+
+    private void info(final Element info) throws IOException {
+        var scale = 1_000_000L;
+        Double duration = null;
+        for (var child = element(info.start(), info.end()); child != null; child = element(child.end(), info.end())) {
+            if (child.id() == TIMESTAMP_SCALE && child.length() <= 8) {
+                scale = this.in.uint(child.start(), (int) child.length());
+            } else if (child.id() == DURATION && child.length() == 4) {
+                duration = (double) Float.intBitsToFloat((int) this.in.u32(child.start()));
+            } else if (child.id() == DURATION && child.length() == 8) {
+                duration = Double.longBitsToDouble(this.in.u64(child.start()));
+            }
+        }
+        // Duration is in TimestampScale units, which are nanoseconds
+        if (duration != null) {
+            this.result.duration(duration * scale / 1_000_000_000d);
+        }
+    }
+
+    private void tracks(final Element tracks) throws IOException {
+        for (var entry = element(tracks.start(), tracks.end()); entry != null; entry = element(entry.end(), tracks.end())) {
+            if (entry.id() != TRACK_ENTRY) {
+                continue;
+            }
+
+            var type = 0L;
+            String codec = null;
+            int width = 0;
+            int height = 0;
+            for (var child = element(entry.start(), entry.end()); child != null; child = element(child.end(), entry.end())) {
+                if (child.id() == TRACK_TYPE && child.length() <= 8) {
+                    type = this.in.uint(child.start(), (int) child.length());
+                } else if (child.id() == CODEC_ID && child.length() <= 64) {
+                    codec = this.in.ascii(child.start(), (int) child.length());
+                } else if (child.id() == VIDEO) {
+                    for (var video = element(child.start(), child.end()); video != null; video = element(video.end(), child.end())) {
+                        if (video.id() == PIXEL_WIDTH && video.length() <= 8) {
+                            width = (int) this.in.uint(video.start(), (int) video.length());
+                        } else if (video.id() == PIXEL_HEIGHT && video.length() <= 8) {
+                            height = (int) this.in.uint(video.start(), (int) video.length());
+                        }
+                    }
+                }
+            }
+
+            if (type == VIDEO_TRACK) {
+                this.result.videoCodec(codec);
+                this.result.resolution(width, height);
+            } else if (type == AUDIO_TRACK) {
+                this.result.audioCodec(codec);
+            }
+        }
+    }
+
+    // The element at position, or null once the parent's end is reached
+    private Element element(final long position, final long parentEnd) throws IOException {
+        if (position >= parentEnd) {
+            return null;
+        }
+
+        final var first = this.in.u8(position);
+        final var idLength = Integer.numberOfLeadingZeros(first) - 23;
+        if (first == 0 || idLength > 4) {
+            throw new IOException("Invalid EBML id at %d".formatted(position));
+        }
+        final var id = this.in.uint(position, idLength);
+
+        final var sizePosition = position + idLength;
+        final var sizeFirst = this.in.u8(sizePosition);
+        final var sizeLength = Integer.numberOfLeadingZeros(sizeFirst) - 23;
+        if (sizeFirst == 0 || sizeLength > 8) {
+            throw new IOException("Invalid EBML size at %d".formatted(sizePosition));
+        }
+
+        final var mask = (1L << 7 * sizeLength) - 1;
+        final var length = this.in.uint(sizePosition, sizeLength) & mask;
+        final var start = sizePosition + sizeLength;
+
+        // All value bits set means "unknown size": the element runs until its parent ends
+        if (length == mask) {
+            return new Element(id, start, parentEnd, true);
+        }
+        if (start + length > parentEnd) {
+            throw new IOException("EBML element at %d overflows its parent".formatted(position));
+        }
+        return new Element(id, start, start + length, false);
+    }
+
+    private record Element(long id, long start, long end, boolean unknownSize) {
+
+        long length() {
+            return end - start;
+        }
+    }
+}
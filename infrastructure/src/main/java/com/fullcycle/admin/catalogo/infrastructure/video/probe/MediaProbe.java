@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.probe;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Optional;
+
+// Reads duration, codecs and resolution from the container header (MP4/MOV moov, Matroska/WebM Info and Tracks)
+// with a handful of ranged reads, so a multi-GB upload costs the same to probe as a small one
+public class MediaProbe {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaProbe.class);
+
+    static final int WINDOW_SIZE = 64 * 1024;
+    static final int MAX_READS = 32;
+
+    public Optional<MediaMetadata> probe(final RangeSource source, final long size) {
+        if (size < 8) {
+            return Optional.empty();
+        }
+
+        final var in = new RangedInput(source, size, WINDOW_SIZE, MAX_READS);
+        try {
+            final ProbeResult result;
+            if (in.u32(0) == MatroskaParser.EBML) {
+                result = MatroskaParser.parse(in);
+            } else if (Mp4Parser.TOP_LEVEL_BOXES.contains(in.ascii(4, 4))) {
+                result = Mp4Parser.parse(in);
+            } else {
+                return Optional.empty();
+            }
+
+            log.debug("Probed {} bytes with {} range reads", size, in.reads());
+            return result.hasTracks() ? Optional.of(result.toMetadata(size)) : Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            // Metadata is best effort, an unreadable header doesn't fail the upload
+            log.debug("Could not probe media after {} range reads: {}", in.reads(), e.toString());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.probe;
+
+import java.io.IOException;
+import java.util.Set;
+
+// ISO BMFF (MP4/MOV): walks box headers only. mdat and the sample tables are skipped by their declared size,
+// so wherever moov is (front for faststart files, end otherwise) only its header boxes are read.
+final class Mp4Parser {
+
+    static final Set<String> TOP_LEVEL_BOXES = Set.of("ftyp", "moov", "mdat", "free", "skip", "wide", "pnot");
+
+    private static final Set<String> CONTAINERS = Set.of("moov", "trak", "mdia", "minf", "stbl");
+    private static final int MAX_DEPTH = 6;
+
+    private final RangedInput in;
+    private final ProbeResult result;
+
+    private String handler;
+
+    private Mp4Parser(final RangedInput in) {
+        this.in = in;
+        this.result = new ProbeResult("mp4");
+    }
+
+    static ProbeResult parse(final RangedInput in) throws IOException {
+        final var parser = new Mp4Parser(in);
+        parser.walk(0, in.size(), 0);
+        return parser.result;
+    }
+
+    private void walk(final long from, final long to, final int depth) throws IOException {
+        var position = from;
+        while (position + 8 <= to) {
+            var size = this.in.u32(position);
+            final var type = this.in.ascii(position + 4, 4);
+            var header = 8;
+
+            if (size == 1) {
+                size = this.in.u64(position + 8);
+                header = 16;
+            } else if (size == 0) {
+                size = to - position;
+            }
+            if (size < header || position + size > to) {
+                return;
+            }
+
+            final var body = position + header;
+            switch (type) {
+                case "ftyp" -> ftyp(body);
+                case "mvhd" -> mvhd(body);
+                case "trak" -> {
+                    this.handler = null;
+                    walk(body, position + size, depth + 1);
+                }
+                case "tkhd" -> tkhd(body);
+                case "hdlr" -> this.handler = this.in.ascii(body + 8, 4);
+                case "stsd" -> stsd(body, position + size);
+                default -> {
+                    if (CONTAINERS.contains(type) && depth < MAX_DEPTH) {
+                        walk(body, position + size, depth + 1);
+                    }
+                }
+            }
+
+            // moov is all we need, no reason to look at what follows it
+            if ("moov".equals(type)) {
+                return;
+            }
+            position += size;
+        }
+    }
+
+    private void ftyp(final long body) throws IOException {
+        if ("qt  ".equals(this.in.ascii(body, 4))) {
+            this.result.container("mov");
+        }
+    }
+
+    private void mvhd(final long body) throws IOException {
+        final var version = this.in.u8(body);
+        final var timescale = version == 1 ? this.in.u32(body + 20) : this.in.u32(body + 12);
+        final var duration = version == 1 ? this.in.u64(body + 24) : this.in.u32(body + 16);
+        if (timescale > 0) {
+            this.result.duration((double) duration / timescale);
+        }
+    }
+
+    // Track size is 16.16 fixed point; audio tracks carry 0 x 0
+    private void tkhd(final long body) throws IOException {
+        final var offset = this.in.u8(body) == 1 ? 88 : 76;
+        final var width = (int) (this.in.u32(body + offset) >>> 16);
+        final var height = (int) (this.in.u32(body + offset + 4) >>> 16);
+        if (width > 0 && height > 0) {
+            this.result.resolution(width, height);
+        }
+    }
+
+    // hdlr comes before minf in mdia, so the track kind is known when its first sample entry shows up
+    private void stsd(final long body, final long end) throws IOException {
+        if (body + 16 > end) {
+            return;
+        }
+        final var codec = this.in.ascii(body + 12, 4);
+        if ("vide".equals(this.handler)) {
+            this.result.videoCodec(codec);
+        } else if ("soun".equals(this.handler)) {
+            this.result.audioCodec(codec);
+        }
+    }
+}
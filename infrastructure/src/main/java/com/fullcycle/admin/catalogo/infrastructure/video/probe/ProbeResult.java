@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.probe;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaMetadata;
+
+// Filled while a parser walks the file; the first video/audio track wins
+final class ProbeResult {
+
+    private String container;
+    private Double duration;
+    private String videoCodec;
+    private String audioCodec;
+    private Integer width;
+    private Integer height;
+
+    ProbeResult(final String container) {
+        this.container = container;
+    }
+
+    void container(final String container) {
+        this.container = container;
+    }
+
+    void duration(final double duration) {
+        if (this.duration == null && duration > 0 && Double.isFinite(duration)) {
+            this.duration = duration;
+        }
+    }
+
+    void videoCodec(final String codec) {
+        if (this.videoCodec == null && codec != null && !codec.isBlank()) {
+            this.videoCodec = codec.strip();
+        }
+    }
+
+    void audioCodec(final String codec) {
+        if (this.audioCodec == null && codec != null && !codec.isBlank()) {
+            this.audioCodec = codec.strip();
+        }
+    }
+
+    void resolution(final int width, final int height) {
+        if (this.width == null && width > 0 && height > 0) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    boolean hasTracks() {
+        return this.videoCodec != null || this.audioCodec != null;
+    }
+
+    MediaMetadata toMetadata(final long size) {
+        final Long bitrate = this.duration != null ? Math.round(size * 8 / this.duration) : null;
+        return MediaMetadata.with(this.container, this.duration, this.videoCodec, this.audioCodec, bitrate, this.width, this.height);
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.probe;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.multipart.FileBackedResource;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+@FunctionalInterface
+public interface RangeSource {
+
+    // At most length bytes from offset, fewer only at the end of the content
+    byte[] read(long offset, int length) throws IOException;
+
+    // Probing while the upload is still at hand: a spilled part is read in place, never loaded whole
+    static RangeSource of(final Resource resource) {
+        if (resource instanceof FileBackedResource file) {
+            return (offset, length) -> {
+                try (final var channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+                    final var buffer = ByteBuffer.allocate(length);
+                    int read;
+                    do {
+                        read = channel.read(buffer, offset + buffer.position());
+                    } while (read > 0 && buffer.hasRemaining());
+                    return Arrays.copyOf(buffer.array(), buffer.position());
+                }
+            };
+        }
+
+        final var content = resource.content();
+        return (offset, length) -> {
+            final var from = (int) Math.min(offset, content.length);
+            return Arrays.copyOfRange(content, from, (int) Math.min((long) from + length, content.length));
+        };
+    }
+
+    static RangeSource of(final StorageService storageService, final String name) {
+        return (offset, length) -> storageService.read(name, offset, length)
+                .orElseThrow(() -> new IOException("%s is not in the bucket".formatted(name)));
+    }
+}
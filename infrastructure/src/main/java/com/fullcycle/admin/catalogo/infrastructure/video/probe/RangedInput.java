@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.probe;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Random access over a RangeSource through a single fixed-size window: memory stays at one window whatever the
+// file size, and the number of range requests is capped so a hostile file can't make the probe walk it all
+final class RangedInput {
+
+    private final RangeSource source;
+    private final long size;
+    private final int windowSize;
+    private final int maxReads;
+
+    private byte[] window = new byte[0];
+    private long windowStart;
+    private int reads;
+
+    RangedInput(final RangeSource source, final long size, final int windowSize, final int maxReads) {
+        this.source = source;
+        this.size = size;
+        this.windowSize = windowSize;
+        this.maxReads = maxReads;
+    }
+
+    long size() {
+        return size;
+    }
+
+    int reads() {
+        return reads;
+    }
+
+    int u8(final long position) throws IOException {
+        return window[at(position, 1)] & 0xff;
+    }
+
+    int u16(final long position) throws IOException {
+        final var offset = at(position, 2);
+        return (window[offset] & 0xff) << 8 | window[offset + 1] & 0xff;
+    }
+
+    long u32(final long position) throws IOException {
+        final var offset = at(position, 4);
+        return (long) (window[offset] & 0xff) << 24
+                | (window[offset + 1] & 0xff) << 16
+                | (window[offset + 2] & 0xff) << 8
+                | window[offset + 3] & 0xff;
+    }
+
+    long u64(final long position) throws IOException {
+        return u32(position) << 32 | u32(position + 4);
+    }
+
+    // Big-endian unsigned integer of 1 to 8 bytes, as EBML stores them
+    long uint(final long position, final int length) throws IOException {
+        final var offset = at(position, length);
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = value << 8 | window[offset + i] & 0xff;
+        }
+        return value;
+    }
+
+    String ascii(final long position, final int length) throws IOException {
+        final var offset = at(position, length);
+        var end = offset + length;
+        while (end > offset && window[end - 1] == 0) {
+            end--;
+        }
+        return new String(window, offset, end - offset, StandardCharsets.US_ASCII);
+    }
+
+    // Index of position inside the window, refilled from position when [position, position + length) isn't in it
+    private int at(final long position, final int length) throws IOException {
+        if (position < 0 || length > windowSize || position + length > size) {
+            throw new EOFException("Range %d+%d is outside the %d bytes of the file".formatted(position, length, size));
+        }
+
+        if (position < windowStart || position + length > windowStart + window.length) {
+            if (++reads > maxReads) {
+                throw new IOException("Gave up after %d range reads".formatted(maxReads));
+            }
+            window = source.read(position, (int) Math.min(windowSize, size - position));
+            windowStart = position;
+
+            if (window.length < length) {
+                throw new EOFException("Short read at %d".formatted(position));
+            }
+        }
+        return (int) (position - windowStart);
+    }
+}
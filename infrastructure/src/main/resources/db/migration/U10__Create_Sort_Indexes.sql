@@ -0,0 +1,5 @@
+DROP INDEX idx_genres_created_at ON genres;
+DROP INDEX idx_genres_name ON genres;
+
+DROP INDEX idx_categories_created_at ON categories;
+DROP INDEX idx_categories_name ON categories;
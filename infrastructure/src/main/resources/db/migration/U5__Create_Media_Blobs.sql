@@ -0,0 +1,2 @@
+DROP TABLE media_blob_references;
+DROP TABLE media_blobs;
@@ -0,0 +1,2 @@
+DROP TABLE video_search_relations;
+DROP TABLE video_search;
@@ -0,0 +1,5 @@
+DROP INDEX idx_genres_active_created_at ON genres;
+DROP INDEX idx_genres_active_name ON genres;
+
+DROP INDEX idx_categories_active_created_at ON categories;
+DROP INDEX idx_categories_active_name ON categories;
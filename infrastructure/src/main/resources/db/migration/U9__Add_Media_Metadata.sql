@@ -0,0 +1,7 @@
+ALTER TABLE videos_video_media DROP COLUMN height;
+ALTER TABLE videos_video_media DROP COLUMN width;
+ALTER TABLE videos_video_media DROP COLUMN bitrate;
+ALTER TABLE videos_video_media DROP COLUMN audio_codec;
+ALTER TABLE videos_video_media DROP COLUMN video_codec;
+ALTER TABLE videos_video_media DROP COLUMN duration;
+ALTER TABLE videos_video_media DROP COLUMN container;
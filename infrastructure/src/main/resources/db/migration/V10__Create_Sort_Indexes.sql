@@ -0,0 +1,5 @@
+CREATE INDEX idx_categories_name ON categories (name);
+CREATE INDEX idx_categories_created_at ON categories (created_at);
+
+CREATE INDEX idx_genres_name ON genres (name);
+CREATE INDEX idx_genres_created_at ON genres (created_at);
@@ -0,0 +1,14 @@
+CREATE TABLE media_blobs (
+    hash CHAR(64) NOT NULL PRIMARY KEY,
+    ref_count INT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE media_blob_references (
+    video_id CHAR(32) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    hash CHAR(64) NOT NULL,
+    CONSTRAINT pk_mbr_video_type PRIMARY KEY (video_id, media_type),
+    CONSTRAINT fk_mbr_hash FOREIGN KEY (hash) REFERENCES media_blobs (hash)
+);
@@ -0,0 +1,10 @@
+CREATE TABLE media_purges (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    prefix VARCHAR(255) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NULL,
+    last_error VARCHAR(1000) NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_media_purges_next_attempt_at ON media_purges (next_attempt_at);
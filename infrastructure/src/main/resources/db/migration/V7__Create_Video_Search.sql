@@ -0,0 +1,32 @@
+CREATE TABLE video_search (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_vs_title ON video_search (title);
+CREATE INDEX idx_vs_created_at ON video_search (created_at);
+CREATE INDEX idx_vs_updated_at ON video_search (updated_at);
+
+CREATE TABLE video_search_relations (
+    video_id CHAR(32) NOT NULL,
+    kind VARCHAR(16) NOT NULL,
+    ref_id CHAR(32) NOT NULL,
+    CONSTRAINT pk_vsr PRIMARY KEY (video_id, kind, ref_id),
+    CONSTRAINT fk_vsr_video_id FOREIGN KEY (video_id) REFERENCES video_search (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_vsr_kind_ref_video ON video_search_relations (kind, ref_id, video_id);
+
+INSERT INTO video_search (id, title, description, created_at, updated_at)
+SELECT v.id, v.title, v.description, v.created_at, v.updated_at
+FROM videos v;
+
+INSERT INTO video_search_relations (video_id, kind, ref_id)
+SELECT vc.video_id, 'CATEGORY', vc.category_id FROM videos_categories vc
+UNION ALL
+SELECT vg.video_id, 'GENRE', vg.genre_id FROM videos_genres vg
+UNION ALL
+SELECT vm.video_id, 'CAST_MEMBER', vm.cast_member_id FROM videos_cast_members vm;
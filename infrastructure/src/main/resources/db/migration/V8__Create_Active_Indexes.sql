@@ -0,0 +1,5 @@
+CREATE INDEX idx_categories_active_name ON categories (active, name);
+CREATE INDEX idx_categories_active_created_at ON categories (active, created_at);
+
+CREATE INDEX idx_genres_active_name ON genres (active, name);
+CREATE INDEX idx_genres_active_created_at ON genres (active, created_at);
@@ -0,0 +1,7 @@
+ALTER TABLE videos_video_media ADD COLUMN container VARCHAR(32) NULL;
+ALTER TABLE videos_video_media ADD COLUMN duration DOUBLE NULL;
+ALTER TABLE videos_video_media ADD COLUMN video_codec VARCHAR(64) NULL;
+ALTER TABLE videos_video_media ADD COLUMN audio_codec VARCHAR(64) NULL;
+ALTER TABLE videos_video_media ADD COLUMN bitrate BIGINT NULL;
+ALTER TABLE videos_video_media ADD COLUMN width INT NULL;
+ALTER TABLE videos_video_media ADD COLUMN height INT NULL;
@@ -32,6 +32,7 @@ public class AmqpTestConfiguration {
         return factory;
     }
 
+    @Bean
     SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory() {
         final var factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory());
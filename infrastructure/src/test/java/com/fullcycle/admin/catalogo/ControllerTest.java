@@ -1,6 +1,10 @@
 package com.fullcycle.admin.catalogo;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.AsyncConfig;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.ContentNegotiationConfig;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.MultipartConfig;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.ObjectMapperConfig;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.PaginationConfig;
 import org.junit.jupiter.api.Tag;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -14,7 +18,7 @@ import java.lang.annotation.*;
 @Inherited
 @ActiveProfiles("test-integration")
 @WebMvcTest
-@Import(ObjectMapperConfig.class)
+@Import({ObjectMapperConfig.class, MultipartConfig.class, AsyncConfig.class, PaginationConfig.class, ContentNegotiationConfig.class})
 @Tag("integrationTest")
 public @interface ControllerTest {
 
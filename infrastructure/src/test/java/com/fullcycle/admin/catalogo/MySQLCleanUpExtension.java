@@ -4,6 +4,7 @@ import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMe
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
@@ -24,7 +25,8 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
                 appContext.getBean(GenreRepository.class),
                 appContext.getBean(CategoryRepository.class),
                 appContext.getBean(CastMemberRepository.class),
-                appContext.getBean(VideoRepository.class)
+                appContext.getBean(VideoRepository.class),
+                appContext.getBean(VideoSearchRepository.class)
         ));
 
     }
@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReplicaLagMonitor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Year;
+import java.util.Set;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "persistence.replica.enabled=true",
+        "persistence.replica.url=" + UpdateMediaStatusUseCaseIT.REPLICA_URL,
+        "persistence.replica.username=root",
+        "persistence.replica.password=123456",
+        "persistence.replica.lag-query=SELECT 0 AS Seconds_Behind_Source"
+})
+public class UpdateMediaStatusUseCaseIT {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private UpdateMediaStatusUseCase useCase;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Test
+    public void givenReplicaMissingARecentUpload_whenEncoderReportsProgress_shouldKeepTheUpload(@TempDir final Path dir) throws SQLException {
+        // given
+        // Like the encoder listener, no request is bound, so earlier writes don't pin later reads to the primary
+        RequestContextHolder.resetRequestAttributes();
+
+        final var videoMedia = AudioVideoMedia.with("abc", "video.mp4", "/videos/video.mp4");
+        final var aVideo = this.videoGateway.create(Video.newVideo(
+                "System Design", "Desc", Year.of(2022), 120.0, true, true, Rating.L, Set.of(), Set.of(), Set.of()
+        ).setVideo(videoMedia));
+        final var expectedId = aVideo.getId();
+
+        // The replica stops right here, before the trailer upload below
+        replicateTo(dir.resolve("snapshot.sql"));
+        this.lagMonitor.probe();
+
+        final var expectedTrailer = AudioVideoMedia.with("def", "trailer.mp4", "/videos/trailer.mp4");
+        this.videoGateway.update(this.videoGateway.findByIdForUpdate(expectedId).orElseThrow().setTrailer(expectedTrailer));
+
+        Assertions.assertTrue(this.lagMonitor.isReplicaUsable());
+        Assertions.assertTrue(this.videoGateway.findById(expectedId).orElseThrow().getTrailer().isEmpty());
+
+        // when
+        this.useCase.execute(UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId.getValue(), videoMedia.getId(), "", ""));
+
+        // then
+        final var actualVideo = this.videoGateway.findByIdForUpdate(expectedId).orElseThrow();
+        Assertions.assertEquals(MediaStatus.PROCESSING, actualVideo.getVideo().orElseThrow().status());
+        Assertions.assertEquals(expectedTrailer.getId(), actualVideo.getTrailer().orElseThrow().getId());
+    }
+
+    private void replicateTo(final Path snapshot) throws SQLException {
+        try (final var conn = this.primary.getConnection(); final var stmt = conn.createStatement()) {
+            stmt.execute("SCRIPT TO '%s'".formatted(snapshot));
+        }
+        try (final var conn = DriverManager.getConnection(REPLICA_URL, "root", "123456"); final var stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+            stmt.execute("RUNSCRIPT FROM '%s'".formatted(snapshot));
+        }
+    }
+}
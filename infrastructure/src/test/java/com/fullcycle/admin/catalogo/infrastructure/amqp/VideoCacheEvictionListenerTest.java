@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.AmqpTest;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.anotations.VideoCacheEvictions;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.fullcycle.admin.catalogo.infrastructure.video.cache.VideoOutputCache;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoCacheEvicted;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
+import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@AmqpTest
+public class VideoCacheEvictionListenerTest {
+
+    @Autowired
+    private TestRabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private RabbitListenerTestHarness harness;
+
+    @Autowired
+    private VideoOutputCache videoCache;
+
+    @Autowired
+    @VideoCacheEvictions
+    private QueueProperties queueProperties;
+
+    @BeforeEach
+    public void drainEarlierEvictions() throws InterruptedException {
+        // Every video write in the shared context goes through this listener too
+        while (harness.getNextInvocationDataFor(VideoCacheEvictionListener.LISTENER_ID, 0, TimeUnit.SECONDS) != null) {
+        }
+    }
+
+    @Test
+    public void givenAnEvictionFromAnotherPod_whenCallsListener_shouldDropTheLocalCopy() throws InterruptedException {
+        final var expectedId = VideoID.unique();
+        this.videoCache.get(expectedId, VideoCacheEvictionListenerTest::outputOf);
+
+        final var expectedMessage = Json.writeValueAsString(new VideoCacheEvicted(expectedId.getValue()));
+
+        this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), expectedMessage);
+
+        final var invocationData = harness.getNextInvocationDataFor(VideoCacheEvictionListener.LISTENER_ID, 1, TimeUnit.SECONDS);
+
+        Assertions.assertNotNull(invocationData);
+        Assertions.assertEquals(expectedMessage, invocationData.getArguments()[0]);
+        Assertions.assertTrue(this.videoCache.getIfPresent(expectedId).isEmpty());
+    }
+
+    @Test
+    public void givenAVideoWrite_whenCallsEvict_shouldBroadcastTheEviction() throws InterruptedException {
+        final var expectedId = VideoID.unique();
+
+        this.videoCache.evict(expectedId);
+
+        final var invocationData = harness.getNextInvocationDataFor(VideoCacheEvictionListener.LISTENER_ID, 1, TimeUnit.SECONDS);
+
+        Assertions.assertNotNull(invocationData);
+        final var actualEvent = Json.readValue((String) invocationData.getArguments()[0], VideoCacheEvicted.class);
+        Assertions.assertEquals(expectedId.getValue(), actualEvent.videoId());
+    }
+
+    private static VideoOutput outputOf(final VideoID id) {
+        final var now = InstantUtils.now();
+        return new VideoOutput(
+                id.getValue(),
+                now,
+                now,
+                "System Design",
+                "Description",
+                2022,
+                120.0,
+                true,
+                true,
+                Rating.L,
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMembersByIdsUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
@@ -10,6 +11,7 @@ import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemb
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
@@ -39,6 +41,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -67,12 +70,18 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultGetCastMemberByIdUseCase getCastMemberByIdUseCase;
 
+    @MockBean
+    private GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase;
+
     @MockBean
     private DefaultListCastMembersUseCase listCastMembersUseCase;
 
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private GetCastMembersByIdsUseCase getCastMembersByIdsUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
 
@@ -137,6 +146,9 @@ public class CastMemberAPITest {
 
         final var expectedId = aMember.getId().getValue();
 
+        when(getCastMemberLastModifiedUseCase.execute(Mockito.any()))
+                .thenReturn(Optional.of(aMember.getUpdatedAt()));
+
         when(getCastMemberByIdUseCase.execute(Mockito.any()))
                 .thenReturn(CastMemberOutput.from(aMember));
 
@@ -161,6 +173,9 @@ public class CastMemberAPITest {
         final var expectedErrorMessage = "CastMember with ID 123 was not found";
         final var expectedId = CastMemberID.from("123");
 
+        when(getCastMemberLastModifiedUseCase.execute(Mockito.any()))
+                .thenReturn(Optional.empty());
+
         when(getCastMemberByIdUseCase.execute(Mockito.any()))
                 .thenThrow(NotFoundException.with(CastMember.class, expectedId));
 
@@ -2,11 +2,14 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.BulkOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
@@ -34,6 +37,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
@@ -57,6 +61,9 @@ public class CategoryAPITest {
     @MockBean
     private DefaultGetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockBean
+    private GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase;
+
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
@@ -66,6 +73,9 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
 
@@ -174,6 +184,9 @@ public class CategoryAPITest {
 
         final var expectedId = aCategory.getId().getValue();
 
+        Mockito.when(getCategoryLastModifiedUseCase.execute(any()))
+                        .thenReturn(Optional.of(aCategory.getUpdatedAt()));
+
         Mockito.when(getCategoryByIdUseCase.execute(any()))
                         .thenReturn(CategoryOutput.from(aCategory));
 
@@ -192,6 +205,38 @@ public class CategoryAPITest {
 
     }
 
+    @Test
+    public void givenIds_whenCallsGetCategoriesByIds_shouldReturnFoundInOrderAndMissingIds() throws Exception {
+
+        final var filmes = Category.newCategory("Filmes", "A Categoria Mais Assistida", true);
+        final var series = Category.newCategory("Series", "A Segunda Mais Assistida", true);
+        final var expectedMissing = "unknown";
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenReturn(new BulkOutput<>(
+                        List.of(CategoryOutput.from(series), CategoryOutput.from(filmes)),
+                        List.of(expectedMissing)
+                ));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("ids", series.getId().getValue(), expectedMissing, filmes.getId().getValue())
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(series.getId().getValue())))
+                .andExpect(jsonPath("$.items[1].id", equalTo(filmes.getId().getValue())))
+                .andExpect(jsonPath("$.missing", hasSize(1)))
+                .andExpect(jsonPath("$.missing[0]", equalTo(expectedMissing)));
+
+        verify(getCategoriesByIdsUseCase, times(1)).execute(eq(List.of(
+                series.getId().getValue(), expectedMissing, filmes.getId().getValue()
+        )));
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenAValidCommand_whenCallsUpdateCategory_shouldReturnCategoryId() throws Exception {
 
@@ -316,6 +361,45 @@ public class CategoryAPITest {
         verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
                 Objects.equals(expectedPage, query.page())));
     }
-}
 
+    @Test
+    public void givenActiveParam_whenCallsListCategories_shouldPassTheFilterToTheQuery() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
 
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedSort = "createdAt";
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any())).thenReturn(new Pagination<>(expectedPage, expectedPerPage, 1, expectedItems));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("sort", expectedSort)
+                .queryParam("active", "true");
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedSort, query.sort())
+                        && Boolean.TRUE.equals(query.active())));
+    }
+
+    @Test
+    public void givenUnsupportedSort_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "Unsupported sort field: description";
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("sort", "description");
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+}
@@ -1,12 +1,19 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreOutput;
@@ -16,13 +23,17 @@ import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -32,6 +43,7 @@ import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonProcessingExcept
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -54,6 +66,9 @@ public class GenreAPITest {
     @MockBean
     private GetGenreByIdUseCase getGenreByIdUseCase;
 
+    @MockBean
+    private GetGenreLastModifiedUseCase getGenreLastModifiedUseCase;
+
     @MockBean
     private UpdateGenreUseCase updateGenreUseCase;
 
@@ -63,6 +78,9 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private GetGenresByIdsUseCase getGenresByIdsUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
 
@@ -133,6 +151,8 @@ public class GenreAPITest {
 
         final var expectedId = aGenre.getId().getValue();
 
+        when(getGenreLastModifiedUseCase.execute(ArgumentMatchers.any())).thenReturn(Optional.of(aGenre.getUpdatedAt()));
+
         when(getGenreByIdUseCase.execute(ArgumentMatchers.any())).thenReturn(GenreOutput.from(aGenre));
 
         final var aRequest = MockMvcRequestBuilders.get("/genres/{id}", expectedId)
@@ -234,4 +254,65 @@ public class GenreAPITest {
         verify(listGenreUseCase).execute(argThat(query ->
                 Objects.equals(expectedPage, query.page())));
     }
+
+    @Test
+    public void givenCborAccept_whenCallsGetGenreById_shouldReturnTheSameFieldsInCbor() throws Exception {
+        final var aGenre = Genre.newGenre("Ação", true)
+                .addCategories(List.of(CategoryID.from("123")));
+
+        final var expectedId = aGenre.getId().getValue();
+
+        when(getGenreLastModifiedUseCase.execute(ArgumentMatchers.any())).thenReturn(Optional.of(aGenre.getUpdatedAt()));
+        when(getGenreByIdUseCase.execute(ArgumentMatchers.any())).thenReturn(GenreOutput.from(aGenre));
+
+        final var aRequest = MockMvcRequestBuilders.get("/genres/{id}", expectedId)
+                .accept(MediaType.APPLICATION_CBOR);
+
+        final var response = this.mvc.perform(aRequest)
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(header().string("ETag", ETagUtils.weak(expectedId, aGenre.getUpdatedAt(), MediaType.APPLICATION_CBOR)))
+                .andReturn().getResponse();
+
+        final var actualGenre = Json.mapper(new CBORFactory()).readTree(response.getContentAsByteArray());
+
+        Assertions.assertEquals(expectedId, actualGenre.get("id").asText());
+        Assertions.assertEquals("Ação", actualGenre.get("name").asText());
+        Assertions.assertTrue(actualGenre.get("is_active").asBoolean());
+        Assertions.assertEquals("123", actualGenre.get("categories_id").get(0).asText());
+        Assertions.assertEquals(aGenre.getCreatedAt().toString(), actualGenre.get("created_at").asText());
+    }
+
+    @Test
+    public void givenProtobufAccept_whenCallsListGenres_shouldReturnAGenreListResponsePage() throws Exception {
+        final var aGenre = Genre.newGenre("Ação", false);
+
+        when(listGenreUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(GenreListOutput.from(aGenre))));
+
+        final var aRequest = MockMvcRequestBuilders.get("/genres")
+                .accept(ApiMediaTypes.PROTOBUF);
+
+        final var response = this.mvc.perform(aRequest)
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", ApiMediaTypes.PROTOBUF_VALUE))
+                .andReturn().getResponse();
+
+        final NativeProtobufSchema schema;
+        try (final var in = new ClassPathResource("protobuf/catalogo.proto").getInputStream()) {
+            schema = ProtobufSchemaLoader.std.loadNative(in, false);
+        }
+
+        final var actualPage = Json.mapper(new ProtobufFactory())
+                .readerFor(JsonNode.class)
+                .with(schema.forType("GenreListResponsePage"))
+                .<JsonNode>readValue(response.getContentAsByteArray());
+
+        Assertions.assertEquals(10, actualPage.get("per_page").asInt());
+        Assertions.assertEquals(1, actualPage.get("total").asLong());
+        Assertions.assertEquals(aGenre.getId().getValue(), actualPage.get("items").get(0).get("id").asText());
+        Assertions.assertEquals("Ação", actualPage.get("items").get(0).get("name").asText());
+        Assertions.assertFalse(actualPage.get("items").get(0).get("is_active").asBoolean());
+    }
 }
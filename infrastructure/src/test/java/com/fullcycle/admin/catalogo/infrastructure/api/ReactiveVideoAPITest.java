@@ -0,0 +1,210 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.video.media.get.AsyncGetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.AsyncGetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.AsyncListVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = ReactiveVideoAPI.class)
+public class ReactiveVideoAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private AsyncGetVideoByIdUseCase getVideoByIdUseCase;
+
+    @MockBean
+    private AsyncListVideosUseCase listVideosUseCase;
+
+    @MockBean
+    private AsyncGetMediaUseCase getMediaUseCase;
+
+    @Test
+    public void givenAValidId_whenCallsGetById_shouldReturnVideoAfterAsyncDispatch() throws Exception {
+        final var aVideo = Video.newVideo(
+                "Title",
+                "Desc",
+                Year.of(2023),
+                105.40,
+                true,
+                false,
+                Rating.AGE_10,
+                Set.of(CategoryID.from("123")),
+                Set.of(),
+                Set.of()
+        );
+
+        final var expectedId = aVideo.getId().getValue();
+
+        Mockito.when(getVideoByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CompletableFuture.completedFuture(VideoOutput.from(aVideo)));
+
+        final var aRequest = MockMvcRequestBuilders.get("/reactive/videos/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", Matchers.equalTo(expectedId)))
+                .andExpect(jsonPath("$.title", Matchers.equalTo("Title")))
+                .andExpect(jsonPath("$.categories_id[0]", Matchers.equalTo("123")));
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetById_shouldReturnNotFoundAfterAsyncDispatch() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+        Mockito.when(getVideoByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CompletableFuture.failedFuture(NotFoundException.with(Video.class, expectedId)));
+
+        final var aRequest = MockMvcRequestBuilders.get("/reactive/videos/{id}", expectedId.getValue())
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenValidParams_whenCallsList_shouldQueryAndReturnThePage() throws Exception {
+        final var aVideo = new VideoPreview(Video.newVideo(
+                "Title",
+                "Desc",
+                Year.of(2023),
+                105.40,
+                true,
+                false,
+                Rating.AGE_10,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ));
+
+        final var expectedItems = List.of(VideoListOutput.from(aVideo));
+
+        Mockito.when(listVideosUseCase.execute(Mockito.any()))
+                .thenReturn(CompletableFuture.completedFuture(new Pagination<>(1, 10, 1, expectedItems)));
+
+        final var aRequest = MockMvcRequestBuilders.get("/reactive/videos")
+                .queryParam("page", "1")
+                .queryParam("perPage", "10")
+                .queryParam("search", "Tit")
+                .queryParam("sort", "createdAt")
+                .queryParam("dir", "desc")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.current_page", Matchers.equalTo(1)))
+                .andExpect(jsonPath("$.per_page", Matchers.equalTo(10)))
+                .andExpect(jsonPath("$.total", Matchers.equalTo(1)))
+                .andExpect(jsonPath("$.items[0].id", Matchers.equalTo(aVideo.id())));
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+        Mockito.verify(listVideosUseCase).execute(captor.capture());
+
+        final var actualQuery = captor.getValue();
+        Assertions.assertEquals(1, actualQuery.page());
+        Assertions.assertEquals(10, actualQuery.perPage());
+        Assertions.assertEquals("Tit", actualQuery.terms());
+        Assertions.assertEquals("createdAt", actualQuery.sort());
+        Assertions.assertEquals("desc", actualQuery.direction());
+    }
+
+    @Test
+    public void givenPerPageAboveTheCap_whenCallsList_shouldReturnUnprocessableEntity() throws Exception {
+        final var aRequest = MockMvcRequestBuilders.get("/reactive/videos")
+                .queryParam("perPage", "100000")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isUnprocessableEntity());
+
+        Mockito.verify(listVideosUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAValidVideoIdAndType_whenCallsGetMediaByType_shouldReturnContent() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMedia = new MediaOutput("Conteudo".getBytes(), "video/mp4", "video");
+
+        Mockito.when(getMediaUseCase.execute(Mockito.any()))
+                .thenReturn(CompletableFuture.completedFuture(expectedMedia));
+
+        final var aRequest = MockMvcRequestBuilders.get("/reactive/videos/{id}/medias/{type}", expectedId.getValue(), VideoMediaType.VIDEO.name());
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, expectedMedia.contentType()))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
+                .andExpect(content().bytes(expectedMedia.content()));
+    }
+
+    @Test
+    public void givenAMissingMedia_whenCallsGetMediaByType_shouldReturnNotFoundAfterAsyncDispatch() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Resource VIDEO not found for video %s".formatted(expectedId.getValue());
+
+        Mockito.when(getMediaUseCase.execute(Mockito.any()))
+                .thenReturn(CompletableFuture.failedFuture(NotFoundException.with(new Error(expectedErrorMessage))));
+
+        final var aRequest = MockMvcRequestBuilders.get("/reactive/videos/{id}/medias/{type}", expectedId.getValue(), VideoMediaType.VIDEO.name());
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+    }
+}
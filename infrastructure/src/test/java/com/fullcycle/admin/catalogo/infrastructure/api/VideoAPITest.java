@@ -1,16 +1,23 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideosByIdsUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoOutput;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CompleteUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateUploadSessionUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoLastModifiedUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
@@ -30,8 +37,11 @@ import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
 import io.vavr.API;
@@ -42,6 +52,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
@@ -50,11 +61,15 @@ import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.testcontainers.shaded.org.hamcrest.Matchers.any;
@@ -75,6 +90,9 @@ public class VideoAPITest {
     @MockBean
     private GetVideoByIdUseCase getVideoByIdUseCase;
 
+    @MockBean
+    private GetVideoLastModifiedUseCase getVideoLastModifiedUseCase;
+
     @MockBean
     private UpdateVideoUseCase updateVideoUseCase;
 
@@ -90,6 +108,15 @@ public class VideoAPITest {
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private CreateUploadSessionUseCase createUploadSessionUseCase;
+
+    @MockBean
+    private CompleteUploadUseCase completeUploadUseCase;
+
+    @MockBean
+    private GetVideosByIdsUseCase getVideosByIdsUseCase;
+
 
     @Test
     public void givenAValidCommand_whenCallsCreateFull_shouldReturnAnId() throws Exception {
@@ -328,6 +355,8 @@ public class VideoAPITest {
 
         final var expectedId = aVideo.getId().getValue();
 
+        Mockito.when(getVideoLastModifiedUseCase.execute(Mockito.any())).thenReturn(Optional.of(aVideo.getUpdatedAt()));
+
         Mockito.when(getVideoByIdUseCase.execute(Mockito.any())).thenReturn(VideoOutput.from(aVideo));
 
         final var aRequest = MockMvcRequestBuilders.get("/videos/{id}", expectedId)
@@ -376,12 +405,74 @@ public class VideoAPITest {
 
     }
 
+    @Test
+    public void givenProtobufAccept_whenCallsGetByIdOfVideoWithoutMedias_shouldSkipTheMissingMessages() throws Exception {
+        final var aVideo = Video.newVideo(
+                "Title",
+                "Desc",
+                Year.of(2023),
+                105.40,
+                true,
+                false,
+                Rating.AGE_10,
+                Set.of(CategoryID.from("123")),
+                Set.of(),
+                Set.of()
+        );
+
+        final var expectedId = aVideo.getId().getValue();
+
+        Mockito.when(getVideoLastModifiedUseCase.execute(Mockito.any())).thenReturn(Optional.of(aVideo.getUpdatedAt()));
+        Mockito.when(getVideoByIdUseCase.execute(Mockito.any())).thenReturn(VideoOutput.from(aVideo));
+
+        final var aRequest = MockMvcRequestBuilders.get("/videos/{id}", expectedId)
+                .accept(ApiMediaTypes.PROTOBUF);
+
+        final var response = this.mvc.perform(aRequest)
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", ApiMediaTypes.PROTOBUF_VALUE))
+                .andReturn().getResponse();
+
+        final var actualVideo = readProtobuf("VideoResponse", response.getContentAsByteArray());
+
+        Assertions.assertEquals(expectedId, actualVideo.get("id").asText());
+        Assertions.assertEquals(2023, actualVideo.get("year_launched").asInt());
+        Assertions.assertEquals(105.40, actualVideo.get("duration").asDouble());
+        Assertions.assertEquals(Rating.AGE_10.getName(), actualVideo.get("rating").asText());
+        Assertions.assertEquals("123", actualVideo.get("categories_id").get(0).asText());
+        Assertions.assertFalse(actualVideo.has("banner"));
+        Assertions.assertFalse(actualVideo.has("video"));
+    }
+
+    @Test
+    public void givenProtobufAccept_whenCallsGetByIdWithInvalidId_shouldReturnTheErrorAsProtobuf() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+        Mockito.when(getVideoLastModifiedUseCase.execute(Mockito.any())).thenReturn(Optional.empty());
+        Mockito.when(getVideoByIdUseCase.execute(Mockito.any())).thenThrow(NotFoundException.with(Video.class, expectedId));
+
+        final var aRequest = MockMvcRequestBuilders.get("/videos/{id}", expectedId)
+                .accept(ApiMediaTypes.PROTOBUF);
+
+        final var response = this.mvc.perform(aRequest)
+                .andExpect(status().isNotFound())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", ApiMediaTypes.PROTOBUF_VALUE))
+                .andReturn().getResponse();
+
+        final var actualError = readProtobuf("ApiError", response.getContentAsByteArray());
+
+        Assertions.assertEquals(expectedErrorMessage, actualError.get("message").asText());
+    }
+
     @Test
     public void givenAnInvalidIdWhenCallsGetById_shouldReturnNotFound() throws Exception {
 
         final var expectedId = VideoID.unique();
         final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
 
+        Mockito.when(getVideoLastModifiedUseCase.execute(Mockito.any())).thenReturn(Optional.empty());
+
         Mockito.when(getVideoByIdUseCase.execute(Mockito.any())).thenThrow(NotFoundException.with(Video.class, expectedId));
 
         final var aRequest = MockMvcRequestBuilders.get("/videos/{id}", expectedId)
@@ -395,6 +486,98 @@ public class VideoAPITest {
 
     }
 
+    @Test
+    public void givenAMatchingETag_whenCallsGetById_shouldReturnNotModifiedWithoutLoadingVideo() throws Exception {
+
+        final var expectedId = VideoID.unique().getValue();
+        final var expectedUpdatedAt = InstantUtils.now();
+        final var expectedETag = ETagUtils.weak(expectedId, expectedUpdatedAt, MediaType.APPLICATION_JSON);
+
+        Mockito.when(getVideoLastModifiedUseCase.execute(Mockito.any())).thenReturn(Optional.of(expectedUpdatedAt));
+
+        final var aRequest = MockMvcRequestBuilders.get("/videos/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+
+        Mockito.verify(getVideoLastModifiedUseCase).execute(Mockito.eq(expectedId));
+        Mockito.verify(getVideoByIdUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenTheJsonETag_whenCallsGetByIdAcceptingCbor_shouldReturnTheCborVideo() throws Exception {
+
+        final var aVideo = Video.newVideo(
+                "Title",
+                "Desc",
+                Year.of(2023),
+                105.40,
+                true,
+                true,
+                Rating.AGE_10,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+
+        final var expectedId = aVideo.getId().getValue();
+        final var expectedETag = ETagUtils.weak(expectedId, aVideo.getUpdatedAt(), MediaType.APPLICATION_CBOR);
+
+        Mockito.when(getVideoLastModifiedUseCase.execute(Mockito.any())).thenReturn(Optional.of(aVideo.getUpdatedAt()));
+        Mockito.when(getVideoByIdUseCase.execute(Mockito.any())).thenReturn(VideoOutput.from(aVideo));
+
+        final var aRequest = MockMvcRequestBuilders.get("/videos/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, ETagUtils.weak(expectedId, aVideo.getUpdatedAt(), MediaType.APPLICATION_JSON))
+                .accept(MediaType.APPLICATION_CBOR);
+
+        final var response = this.mvc.perform(aRequest);
+
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    public void givenAStaleETag_whenCallsGetById_shouldReturnVideoWithETagAndLastModified() throws Exception {
+
+        final var aVideo = Video.newVideo(
+                "Title",
+                "Desc",
+                Year.of(2023),
+                105.40,
+                true,
+                true,
+                Rating.AGE_10,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+
+        final var expectedId = aVideo.getId().getValue();
+        final var expectedETag = ETagUtils.weak(expectedId, aVideo.getUpdatedAt(), MediaType.APPLICATION_JSON);
+
+        Mockito.when(getVideoLastModifiedUseCase.execute(Mockito.any())).thenReturn(Optional.of(aVideo.getUpdatedAt()));
+        Mockito.when(getVideoByIdUseCase.execute(Mockito.any())).thenReturn(VideoOutput.from(aVideo));
+
+        final var aRequest = MockMvcRequestBuilders.get("/videos/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, ETagUtils.weak(expectedId, aVideo.getCreatedAt().minusSeconds(1), MediaType.APPLICATION_JSON))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, aVideo.getUpdatedAt().toEpochMilli() / 1000 * 1000))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)));
+    }
+
     @Test
     public void givenAValidCommand_whenCallsUpdateVideo_shouldReturnVideoId() throws Exception {
 
@@ -682,9 +865,66 @@ public class VideoAPITest {
         Assertions.assertTrue(actualQuery.categories().isEmpty());
         Assertions.assertTrue(actualQuery.castMembers().isEmpty());
         Assertions.assertTrue(actualQuery.genres().isEmpty());
+        Assertions.assertFalse(actualQuery.expand());
 
     }
 
+    @Test
+    public void givenExpandParam_whenCallsListVideos_shouldReturnAssociationNamesInline() throws Exception {
+
+        final var aulas = Category.newCategory("Aulas", "Aulinhas", true);
+        final var tech = Genre.newGenre("Tech", true);
+        final var wesley = CastMember.newMember("Wesley", CastMemberType.ACTOR);
+
+        final var expectedItem = new VideoListOutput(
+                VideoID.unique().getValue(),
+                "title",
+                "desc",
+                Instant.now(),
+                Instant.now(),
+                List.of(new VideoListOutput.Reference(aulas.getId().getValue(), aulas.getName())),
+                List.of(new VideoListOutput.Reference(tech.getId().getValue(), tech.getName())),
+                List.of(new VideoListOutput.Reference(wesley.getId().getValue(), wesley.getName()))
+        );
+
+        Mockito.when(listVideosUseCase.execute(Mockito.any())).thenReturn(new Pagination<>(0, 25, 1, List.of(expectedItem)));
+
+        final var aRequest = MockMvcRequestBuilders.get("/videos")
+                .queryParam("expand", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        response.andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].categories[0].id", Matchers.equalTo(aulas.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].categories[0].name", Matchers.equalTo(aulas.getName())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].genres[0].name", Matchers.equalTo(tech.getName())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].cast_members[0].name", Matchers.equalTo(wesley.getName())));
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        Mockito.verify(listVideosUseCase).execute(captor.capture());
+
+        Assertions.assertTrue(captor.getValue().expand());
+    }
+
+    @Test
+    public void givenPerPageAboveTheLimit_whenCallsListVideos_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "'perPage' must not be greater than 100";
+
+        final var aRequest = MockMvcRequestBuilders.get("/videos")
+                .queryParam("perPage", "101")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)));
+
+        Mockito.verify(listVideosUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
     @Test
     public void givenAValidVideoIdAndFileType_whenCallsGetMediaById_shouldReturnContent() throws Exception {
 
@@ -707,7 +947,11 @@ public class VideoAPITest {
 
         final var aRequest = MockMvcRequestBuilders.get("/videos/{id}/medias/{type}", expectedId.getValue(), VideoMediaType.VIDEO.name());
 
-        final var response = this.mvc.perform(aRequest);
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
 
         response.andExpect(status().isOk())
                 .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_TYPE, expectedMedia.contentType()))
@@ -716,6 +960,26 @@ public class VideoAPITest {
                 .andExpect(MockMvcResultMatchers.content().bytes(expectedMedia.content()));
     }
 
+    @Test
+    public void givenAnInvalidMedia_whenCallsGetMediaById_shouldReturnNotFoundAfterAsyncDispatch() throws Exception {
+
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Resource VIDEO not found for video %s".formatted(expectedId.getValue());
+
+        Mockito.when(getMediaUseCase.execute(Mockito.any()))
+                .thenThrow(NotFoundException.with(new Error(expectedErrorMessage)));
+
+        final var aRequest = MockMvcRequestBuilders.get("/videos/{id}/medias/{type}", expectedId.getValue(), VideoMediaType.VIDEO.name());
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
 
@@ -741,7 +1005,11 @@ public class VideoAPITest {
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.MULTIPART_FORM_DATA);
 
-        final var response = this.mvc.perform(aRequest);
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
 
         response.andExpect(status().isCreated())
                 .andExpect(header().string(HttpHeaders.LOCATION, "/videos/%s/medias/%S".formatted(expectedId.getValue(), expectedType.name())))
@@ -781,4 +1049,14 @@ public class VideoAPITest {
                 .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo("Invalid INVALID for VideoMediaType")));
     }
+
+    private static JsonNode readProtobuf(final String message, final byte[] content) throws IOException {
+        try (final var in = new ClassPathResource("protobuf/catalogo.proto").getInputStream()) {
+            final var schema = ProtobufSchemaLoader.std.loadNative(in, false);
+            return Json.mapper(new ProtobufFactory())
+                    .readerFor(JsonNode.class)
+                    .with(schema.forType(message))
+                    .readValue(content);
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package com.fullcycle.admin.catalogo.infrastructure.bulkhead;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.AsyncUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class BulkheadFilterTest {
+
+    @Test
+    public void givenSaturatedMediaBulkhead_whenListsVideos_shouldStillServeTheSearchFamily() throws Exception {
+        final var registry = new SimpleMeterRegistry();
+        final var media = new Bulkhead(GradientLimit.fixed(1), 0, Duration.ZERO);
+        final var search = new Bulkhead(GradientLimit.fixed(1), 0, Duration.ZERO);
+
+        final var target = new BulkheadFilter(
+                Map.of(EndpointFamily.MEDIA, media, EndpointFamily.SEARCH, search),
+                Duration.ofSeconds(3),
+                registry
+        );
+
+        final var rejectedMedia = new MockHttpServletResponse();
+        final var listChain = new MockFilterChain();
+
+        // While an upload holds the only media slot, a second upload and a listing arrive
+        final var holdingChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                try {
+                    target.doFilter(request("POST", "/api/videos/123/medias/VIDEO"), rejectedMedia, new MockFilterChain());
+                    target.doFilter(request("GET", "/api/videos"), new MockHttpServletResponse(), listChain);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+
+        target.doFilter(request("POST", "/api/videos/123/medias/VIDEO"), new MockHttpServletResponse(), holdingChain);
+
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), rejectedMedia.getStatus());
+        Assertions.assertEquals("3", rejectedMedia.getHeader(HttpHeaders.RETRY_AFTER));
+        Assertions.assertNotNull(listChain.getRequest());
+        Assertions.assertEquals(0, media.inflight());
+        Assertions.assertEquals(1, registry.get(BulkheadFilter.REJECTED_METRIC).tags("family", "media").counter().count());
+    }
+
+    @Test
+    public void givenQueuedRequest_whenSlotIsReleasedWithinMaxWait_shouldGoThroughAndRejectOverflow() throws Exception {
+        final var bulkhead = new Bulkhead(GradientLimit.fixed(1), 1, Duration.ofSeconds(5));
+
+        Assertions.assertTrue(bulkhead.tryAcquire());
+
+        final var waiter = new Thread(() -> {
+            if (bulkhead.tryAcquire()) {
+                bulkhead.release(1);
+            }
+        });
+        waiter.start();
+
+        while (bulkhead.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        // The single queue position is taken, so a third caller is rejected right away
+        Assertions.assertFalse(bulkhead.tryAcquire());
+
+        bulkhead.release(1);
+        waiter.join(5_000);
+
+        Assertions.assertEquals(0, bulkhead.inflight());
+        Assertions.assertEquals(0, bulkhead.waiting());
+    }
+
+    @Test
+    public void givenMediaTransferStillRunning_whenAsyncRequestTimesOut_shouldKeepTheMediaSlot() throws Exception {
+        final var media = new Bulkhead(GradientLimit.fixed(1), 0, Duration.ZERO);
+        final var target = new BulkheadFilter(Map.of(EndpointFamily.MEDIA, media), Duration.ofSeconds(3), new SimpleMeterRegistry());
+        final var transfer = new CompletableFuture<Void>();
+
+        final var request = request("GET", "/api/videos/123/medias/VIDEO");
+        request.setAsyncSupported(true);
+
+        target.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                req.startAsync();
+                AsyncUtils.holdUntil(req, transfer);
+            }
+        }));
+
+        final var asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (final var listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        Assertions.assertEquals(1, media.inflight());
+
+        transfer.complete(null);
+
+        Assertions.assertEquals(0, media.inflight());
+    }
+
+    @Test
+    public void givenGetById_whenCalls_shouldBypassEveryBulkhead() {
+        Assertions.assertTrue(EndpointFamily.of(request("GET", "/api/videos/123")).isEmpty());
+        Assertions.assertEquals(EndpointFamily.SEARCH, EndpointFamily.of(request("GET", "/api/categories")).get());
+        Assertions.assertEquals(EndpointFamily.WRITES, EndpointFamily.of(request("PUT", "/api/genres/123")).get());
+        Assertions.assertEquals(EndpointFamily.MEDIA, EndpointFamily.of(request("GET", "/api/videos/123/medias/BANNER")).get());
+        Assertions.assertEquals(EndpointFamily.WRITES, EndpointFamily.of(request("POST", "/api/videos/123/medias/VIDEO/upload-session")).get());
+    }
+
+    @Test
+    public void givenMultipartCreateVideo_whenCalls_shouldUseTheMediaBulkhead() {
+        final var multipart = request("POST", "/api/videos");
+        multipart.setContentType("multipart/form-data; boundary=abc");
+
+        final var json = request("POST", "/api/videos");
+        json.setContentType("application/json");
+
+        Assertions.assertEquals(EndpointFamily.MEDIA, EndpointFamily.of(multipart).get());
+        Assertions.assertEquals(EndpointFamily.WRITES, EndpointFamily.of(json).get());
+    }
+
+    private static MockHttpServletRequest request(final String method, final String uri) {
+        final var request = new MockHttpServletRequest(method, uri);
+        request.setContextPath("/api");
+        return request;
+    }
+}
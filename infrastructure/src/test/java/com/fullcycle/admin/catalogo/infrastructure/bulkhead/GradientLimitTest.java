@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.bulkhead;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class GradientLimitTest {
+
+    @Test
+    public void givenRisingLatencyUnderLoad_whenSamples_shouldShrinkTheLimit() {
+        final var target = new GradientLimit(2, 20, 1.5, 0.2);
+
+        for (int i = 0; i < 100; i++) {
+            target.onSample(TimeUnit.MILLISECONDS.toNanos(10), 20);
+        }
+        Assertions.assertEquals(20, target.current());
+
+        for (int i = 0; i < 200; i++) {
+            target.onSample(TimeUnit.MILLISECONDS.toNanos(200), target.current());
+        }
+        Assertions.assertTrue(target.current() <= 4);
+    }
+
+    @Test
+    public void givenLatencyBackToNormal_whenSamples_shouldGrowTheLimitBack() {
+        final var target = new GradientLimit(2, 20, 1.5, 0.2);
+
+        for (int i = 0; i < 100; i++) {
+            target.onSample(TimeUnit.MILLISECONDS.toNanos(10), 20);
+        }
+        for (int i = 0; i < 200; i++) {
+            target.onSample(TimeUnit.MILLISECONDS.toNanos(200), target.current());
+        }
+        for (int i = 0; i < 500; i++) {
+            target.onSample(TimeUnit.MILLISECONDS.toNanos(10), target.current());
+        }
+
+        Assertions.assertEquals(20, target.current());
+    }
+
+    @Test
+    public void givenFewRequestsInFlight_whenSamplesAreSlow_shouldKeepTheLimit() {
+        final var target = new GradientLimit(2, 20, 1.5, 0.2);
+
+        target.onSample(TimeUnit.MILLISECONDS.toNanos(10), 1);
+        target.onSample(TimeUnit.SECONDS.toNanos(5), 1);
+
+        Assertions.assertEquals(20, target.current());
+    }
+}
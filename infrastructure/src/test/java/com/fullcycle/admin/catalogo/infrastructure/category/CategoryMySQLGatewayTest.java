@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
@@ -74,4 +75,37 @@ public class CategoryMySQLGatewayTest {
 
 
     };
+
+    @Test
+    public void givenActiveFilter_whenCallsFindAll_shouldReturnOnlyActiveCategories() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, false);
+        final var documentarios = Category.newCategory("Documentário", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)));
+
+        final var query = new SearchQuery(0, 10, "", "createdAt", "asc", true);
+
+        final var actualResult = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(
+                List.of(filmes.getId(), documentarios.getId()),
+                actualResult.items().stream().map(Category::getId).toList()
+        );
+    }
+
+    @Test
+    public void givenSortWithoutSupportingIndex_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "Unsupported sort field: description";
+
+        final var query = new SearchQuery(0, 10, "", "description", "asc");
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
 }
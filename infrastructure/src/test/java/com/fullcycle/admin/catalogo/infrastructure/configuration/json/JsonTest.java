@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.json;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaCreated;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderResult;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMetadata;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class JsonTest {
+
+    @Test
+    public void givenTwoCalls_whenCallsMapper_shouldReturnTheSharedInstance() {
+        Assertions.assertSame(Json.mapper(), Json.mapper());
+        Assertions.assertSame(Json.readerFor(VideoEncoderResult.class), Json.readerFor(VideoEncoderResult.class));
+        Assertions.assertSame(Json.writerFor(VideoMediaCreated.class), Json.writerFor(VideoMediaCreated.class));
+    }
+
+    @Test
+    public void givenAnEvent_whenCallsWriteValueAsBytes_shouldMatchTheStringForm() {
+        final var anEvent = new VideoMediaCreated("resource", "filepath");
+
+        final var actualBytes = Json.writeValueAsBytes(anEvent);
+
+        Assertions.assertEquals(Json.writeValueAsString(anEvent), new String(actualBytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenACompletedResult_whenCallsReadValueFromBytes_shouldResolveTheSubtype() {
+        final var expectedResult = new VideoEncoderCompleted("123", "bucket", new VideoMetadata("folder", "resource", "file.mp4"));
+
+        final var actualResult = Json.readValue(Json.writeValueAsBytes(expectedResult), VideoEncoderResult.class);
+
+        Assertions.assertEquals(expectedResult, actualResult);
+    }
+}
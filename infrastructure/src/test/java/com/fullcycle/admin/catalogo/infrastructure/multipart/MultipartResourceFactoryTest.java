@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.multipart;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class MultipartResourceFactoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void givenPartBelowThreshold_whenCallsResourceOf_shouldKeepItInMemory() {
+        final byte[] content = "Banner".getBytes();
+        final var part = new MockMultipartFile("banner_file", "banner.jpg", "image/jpg", content);
+
+        final var target = new MultipartResourceFactory(1024, tempDir);
+
+        final var actualResource = target.resourceOf(part);
+
+        Assertions.assertFalse(actualResource instanceof FileBackedResource);
+        Assertions.assertArrayEquals(content, actualResource.content());
+        Assertions.assertEquals("image/jpg", actualResource.contentType());
+        Assertions.assertEquals(HashingUtils.checksum(content), actualResource.getChecksum());
+        Assertions.assertEquals("banner.jpg", actualResource.getName());
+    }
+
+    @Test
+    public void givenPartAboveThreshold_whenCallsResourceOf_shouldSpillToDiskAndDeleteAtRequestEnd() throws Exception {
+        final byte[] content = "Conteudo do video".getBytes();
+        final var part = new MockMultipartFile("video_file", "video.mp4", "video/mp4", content);
+
+        final var attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        try {
+            final var target = new MultipartResourceFactory(4, tempDir);
+
+            final var actualResource = target.resourceOf(part);
+
+            Assertions.assertTrue(actualResource instanceof FileBackedResource);
+            final var actualFile = ((FileBackedResource) actualResource).path();
+            Assertions.assertTrue(Files.exists(actualFile));
+            Assertions.assertEquals(content.length, actualResource.size());
+            Assertions.assertEquals(HashingUtils.checksum(content), actualResource.getChecksum());
+            Assertions.assertArrayEquals(content, actualResource.openStream().readAllBytes());
+
+            attributes.requestCompleted();
+
+            Assertions.assertFalse(Files.exists(actualFile));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    public void givenNullPart_whenCallsResourceOf_shouldReturnNull() {
+        Assertions.assertNull(new MultipartResourceFactory(0, tempDir).resourceOf(null));
+    }
+}
@@ -0,0 +1,138 @@
+package com.fullcycle.admin.catalogo.infrastructure.multipart;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.AsyncUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class UploadLimitFilterTest {
+
+    @Test
+    public void givenContentLengthAboveLimit_whenUploads_shouldRejectWith413WithoutCallingChain() throws Exception {
+        final var target = new UploadLimitFilter(10, 1, Duration.ofSeconds(5));
+
+        final var request = multipartRequest();
+        request.setContent(new byte[11]);
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+
+        target.doFilter(request, response, chain);
+
+        Assertions.assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), response.getStatus());
+        Assertions.assertNull(chain.getRequest());
+        Assertions.assertEquals(1, target.availableSlots());
+    }
+
+    @Test
+    public void givenAllSlotsInUse_whenUploads_shouldRejectWith429AndRetryAfter() throws Exception {
+        final var target = new UploadLimitFilter(0, 1, Duration.ofSeconds(7));
+        final var rejected = new AtomicReference<MockHttpServletResponse>();
+
+        // The first upload holds the only slot while a second one arrives
+        final var holdingChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                try {
+                    final var response = new MockHttpServletResponse();
+                    target.doFilter(multipartRequest(), response, new MockFilterChain());
+                    rejected.set(response);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+
+        target.doFilter(multipartRequest(), new MockHttpServletResponse(), holdingChain);
+
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.get().getStatus());
+        Assertions.assertEquals("7", rejected.get().getHeader(HttpHeaders.RETRY_AFTER));
+        Assertions.assertEquals(1, target.availableSlots());
+    }
+
+    @Test
+    public void givenAsyncUpload_whenDispatchReturns_shouldHoldTheSlotUntilTheAsyncRequestCompletes() throws Exception {
+        final var target = new UploadLimitFilter(0, 1, Duration.ofSeconds(5));
+
+        final var request = multipartRequest();
+        request.setAsyncSupported(true);
+        final var response = new MockHttpServletResponse();
+
+        final var asyncChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                req.startAsync();
+            }
+        });
+
+        target.doFilter(request, response, asyncChain);
+
+        Assertions.assertEquals(0, target.availableSlots());
+
+        request.getAsyncContext().complete();
+
+        Assertions.assertEquals(1, target.availableSlots());
+    }
+
+    @Test
+    public void givenPendingStorageWork_whenAsyncRequestTimesOut_shouldHoldTheSlotUntilTheWorkStops() throws Exception {
+        final var target = new UploadLimitFilter(0, 1, Duration.ofSeconds(5));
+        final var work = new CompletableFuture<Void>();
+
+        final var request = multipartRequest();
+        request.setAsyncSupported(true);
+
+        final var asyncChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                req.startAsync();
+                AsyncUtils.holdUntil(req, work);
+            }
+        });
+
+        target.doFilter(request, new MockHttpServletResponse(), asyncChain);
+
+        final var asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (final var listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        Assertions.assertEquals(0, target.availableSlots());
+
+        work.complete(null);
+
+        Assertions.assertEquals(1, target.availableSlots());
+    }
+
+    @Test
+    public void givenNonMultipartRequest_whenCalls_shouldNotTakeASlot() throws Exception {
+        final var target = new UploadLimitFilter(10, 0, Duration.ofSeconds(5));
+
+        final var request = new MockHttpServletRequest("POST", "/videos");
+        request.setContentType("application/json");
+        request.setContent(new byte[100]);
+        final var chain = new MockFilterChain();
+
+        target.doFilter(request, new MockHttpServletResponse(), chain);
+
+        Assertions.assertNotNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest multipartRequest() {
+        final var request = new MockHttpServletRequest("POST", "/videos");
+        request.setContentType("multipart/form-data; boundary=xyz");
+        return request;
+    }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.pagination;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StreamingPaginationTest {
+
+    @Test
+    public void givenAPage_whenSerialized_shouldProduceTheSameJsonAsAMappedPagination() {
+        final var aPage = new Pagination<>(1, 2, 10, List.of(1, 2));
+
+        final var expectedJson = Json.writeValueAsString(aPage.map(Item::new));
+
+        final var actualJson = Json.writeValueAsString(StreamingPagination.of(aPage, Item::new));
+
+        Assertions.assertEquals(expectedJson, actualJson);
+    }
+
+    @Test
+    public void givenAPage_whenSerialized_shouldMapEachItemOnlyOnce() {
+        final var mapped = new ArrayList<Integer>();
+        final var aPage = new Pagination<>(0, 3, 3, List.of(1, 2, 3));
+
+        final var actualJson = Json.writeValueAsString(StreamingPagination.of(aPage, value -> {
+            mapped.add(value);
+            return new Item(value);
+        }));
+
+        Assertions.assertEquals(List.of(1, 2, 3), mapped);
+        Assertions.assertTrue(actualJson.contains("\"items\":[{\"item_value\":1},{\"item_value\":2},{\"item_value\":3}]"));
+    }
+
+    record Item(int itemValue) {
+    }
+}
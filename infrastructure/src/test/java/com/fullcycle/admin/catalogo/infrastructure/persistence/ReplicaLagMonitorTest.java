@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class ReplicaLagMonitorTest {
+
+    @Test
+    public void givenReplicaWithinMaxLag_whenProbes_shouldBeUsable() {
+        final var target = new ReplicaLagMonitor(h2(), "SELECT 'ON' AS Replica_IO_Running, 2 AS Seconds_Behind_Source", Duration.ofSeconds(5));
+
+        Assertions.assertFalse(target.isReplicaUsable());
+
+        target.probe();
+
+        Assertions.assertTrue(target.isReplicaUsable());
+        Assertions.assertEquals(2, target.lagSeconds());
+    }
+
+    @Test
+    public void givenReplicaBeyondMaxLag_whenProbes_shouldNotBeUsable() {
+        final var target = new ReplicaLagMonitor(h2(), "SELECT 30 AS Seconds_Behind_Master", Duration.ofSeconds(5));
+
+        target.probe();
+
+        Assertions.assertFalse(target.isReplicaUsable());
+    }
+
+    @Test
+    public void givenBrokenReplication_whenProbes_shouldNotBeUsable() {
+        final var stopped = new ReplicaLagMonitor(h2(), "SELECT CAST(NULL AS INT) AS Seconds_Behind_Source", Duration.ofSeconds(5));
+        final var failing = new ReplicaLagMonitor(h2(), "SHOW REPLICA STATUS", Duration.ofSeconds(5));
+
+        stopped.probe();
+        failing.probe();
+
+        Assertions.assertFalse(stopped.isReplicaUsable());
+        Assertions.assertFalse(failing.isReplicaUsable());
+    }
+
+    private static JdbcDataSource h2() {
+        final var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:replica_lag;MODE=MYSQL");
+        return dataSource;
+    }
+}
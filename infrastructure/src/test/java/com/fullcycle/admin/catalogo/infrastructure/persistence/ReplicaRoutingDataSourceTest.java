@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReplicaRoutingDataSource target;
+
+    @BeforeEach
+    public void setUp() {
+        this.lagMonitor = Mockito.mock(ReplicaLagMonitor.class);
+        Mockito.when(this.lagMonitor.isReplicaUsable()).thenReturn(true);
+
+        this.target = new ReplicaRoutingDataSource(
+                Mockito.mock(DataSource.class),
+                Mockito.mock(DataSource.class),
+                this.lagMonitor
+        );
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void givenReadOnlyTransaction_whenReplicaIsUpToDate_shouldRouteToReplica() {
+        readOnlyTransaction();
+
+        Assertions.assertEquals(DataSourceRole.REPLICA, this.target.currentRole());
+    }
+
+    @Test
+    public void givenReadOnlyTransaction_whenReplicaLagsBehind_shouldFallBackToPrimary() {
+        Mockito.when(this.lagMonitor.isReplicaUsable()).thenReturn(false);
+        readOnlyTransaction();
+
+        Assertions.assertEquals(DataSourceRole.PRIMARY, this.target.currentRole());
+    }
+
+    @Test
+    public void givenWriteEarlierInTheRequest_whenReadOnlyTransactionRuns_shouldStickToPrimary() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        Assertions.assertEquals(DataSourceRole.PRIMARY, this.target.currentRole());
+
+        readOnlyTransaction();
+
+        Assertions.assertEquals(DataSourceRole.PRIMARY, this.target.currentRole());
+
+        // A new request starts clean
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Assertions.assertEquals(DataSourceRole.REPLICA, this.target.currentRole());
+    }
+
+    @Test
+    public void givenCacheFill_whenReadOnlyTransactionRuns_shouldRouteToPrimary() {
+        readOnlyTransaction();
+
+        Assertions.assertEquals(DataSourceRole.PRIMARY, ReadYourWrites.onPrimary(this.target::currentRole));
+        Assertions.assertEquals(DataSourceRole.REPLICA, this.target.currentRole());
+    }
+
+    private static void readOnlyTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SlowQueryLogListenerTest {
+
+    private SimpleMeterRegistry registry;
+
+    private SlowQueryLogListener target;
+
+    @BeforeEach
+    public void setUp() {
+        this.registry = new SimpleMeterRegistry();
+        this.target = new SlowQueryLogListener(100, 1.0, this.registry);
+    }
+
+    @Test
+    public void givenFastQuery_whenCallsAfterQuery_shouldNotRecordIt() {
+        this.target.afterQuery(executionOf(99), List.of(queryOf("select 1")));
+
+        Assertions.assertTrue(this.registry.find(SlowQueryLogListener.SLOW_QUERIES_METRIC).counters().isEmpty());
+    }
+
+    @Test
+    public void givenSlowQueryFromGateway_whenCallsAfterQuery_shouldRecordItWithCallSite() {
+        new FakeGateway(this.target).findById();
+
+        final var actualCounter = this.registry.get(SlowQueryLogListener.SLOW_QUERIES_METRIC)
+                .tag("call_site", "SlowQueryLogListenerTest$FakeGateway.findById")
+                .counter();
+
+        Assertions.assertEquals(1, actualCounter.count());
+    }
+
+    @Test
+    public void givenSlowQueryOutsideGateway_whenCallsAfterQuery_shouldRecordUnknownCallSite() {
+        this.target.afterQuery(executionOf(150), List.of(queryOf("select 1")));
+
+        final var actualCounter = this.registry.get(SlowQueryLogListener.SLOW_QUERIES_METRIC)
+                .tag("call_site", "unknown")
+                .counter();
+
+        Assertions.assertEquals(1, actualCounter.count());
+    }
+
+    @Test
+    public void givenRegistrySupplier_whenOnlyFastQueriesRun_shouldNotResolveTheRegistry() {
+        final var lookups = new AtomicInteger();
+        final var lazyTarget = new SlowQueryLogListener(100, 1.0, () -> {
+            lookups.incrementAndGet();
+            return this.registry;
+        });
+
+        lazyTarget.afterQuery(executionOf(10), List.of(queryOf("select 1")));
+        Assertions.assertEquals(0, lookups.get());
+
+        lazyTarget.afterQuery(executionOf(150), List.of(queryOf("select 1")));
+        Assertions.assertEquals(1, lookups.get());
+        Assertions.assertEquals(1, this.registry.get(SlowQueryLogListener.SLOW_QUERIES_METRIC).counter().count());
+    }
+
+    private static ExecutionInfo executionOf(final long elapsed) {
+        final var info = new ExecutionInfo();
+        info.setElapsedTime(elapsed);
+        return info;
+    }
+
+    private static QueryInfo queryOf(final String sql, final Object... params) {
+        final var query = new QueryInfo(sql);
+        final var operations = new ArrayList<ParameterSetOperation>();
+        for (int i = 0; i < params.length; i++) {
+            operations.add(new ParameterSetOperation(null, new Object[]{i + 1, params[i]}));
+        }
+        query.setParametersList(List.of(operations));
+        return query;
+    }
+
+    static class FakeGateway {
+
+        private final SlowQueryLogListener listener;
+
+        FakeGateway(final SlowQueryLogListener listener) {
+            this.listener = listener;
+        }
+
+        void findById() {
+            this.listener.afterQuery(executionOf(250), List.of(queryOf("select * from videos where id = ?", "123")));
+        }
+    }
+}
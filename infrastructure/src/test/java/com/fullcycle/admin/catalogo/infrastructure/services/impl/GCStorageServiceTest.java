@@ -3,6 +3,9 @@ package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.multipart.FileBackedResource;
+import com.fullcycle.admin.catalogo.infrastructure.utils.Crc32c;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
@@ -13,9 +16,14 @@ import org.junit.Before;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static io.vavr.API.List;
@@ -50,7 +58,7 @@ public class GCStorageServiceTest {
         final var expectedResource = Resource.with(content, contentType, checksum, VideoMediaType.VIDEO.name());
 
         final var blob = mockBlob(expectedName, expectedResource);
-        Mockito.doReturn(blob).when(storage).create(Mockito.any(BlobInfo.class), Mockito.any());
+        Mockito.doReturn(blob).when(storage).create(Mockito.any(BlobInfo.class), Mockito.any(byte[].class));
 
         this.target.store(expectedName, expectedResource);
 
@@ -67,6 +75,43 @@ public class GCStorageServiceTest {
 
     }
 
+    @Test
+    public void givenAStoredCrcThatDoesNotMatch_whenCallsStore_shouldDeleteTheObjectAndFail() {
+        final var expectedName = IdUtils.uuid();
+        final byte[] content = "Conteudo".getBytes();
+
+        final var expectedResource = Resource.with(content, "video/mp4", HashingUtils.checksum(content), VideoMediaType.VIDEO.name());
+        final var corrupted = Resource.with(content, "video/mp4", HashingUtils.checksum("Outro".getBytes()), VideoMediaType.VIDEO.name());
+
+        final var blob = mockBlob(expectedName, corrupted);
+        Mockito.doReturn(blob).when(storage).create(Mockito.any(BlobInfo.class), Mockito.any(byte[].class));
+
+        final var actualError = Assertions.assertThrows(IllegalStateException.class, () -> this.target.store(expectedName, expectedResource));
+
+        Assertions.assertTrue(actualError.getMessage().startsWith("Checksum mismatch for " + expectedName));
+        Mockito.verify(storage, Mockito.times(1)).delete(Mockito.eq(BlobId.of(this.bucket, expectedName)));
+    }
+
+    @Test
+    public void givenASpilledResource_whenCallsStore_shouldAskTheBucketToMatchTheCrc(@TempDir final Path dir) throws IOException {
+        final var expectedName = IdUtils.uuid();
+        final byte[] content = "Conteudo".getBytes();
+        final var file = Files.write(dir.resolve("upload"), content);
+
+        final var expectedResource = FileBackedResource.with(file, "video/mp4", HashingUtils.checksum(file), VideoMediaType.VIDEO.name());
+
+        final var blob = mockBlob(expectedName, Resource.with(content, "video/mp4", expectedResource.getChecksum(), VideoMediaType.VIDEO.name()));
+        Mockito.doReturn(blob).when(storage).createFrom(Mockito.any(BlobInfo.class), Mockito.any(Path.class), Mockito.<Storage.BlobWriteOption>any());
+
+        this.target.store(expectedName, expectedResource);
+
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+        Mockito.verify(storage).createFrom(captor.capture(), Mockito.eq(file), Mockito.eq(Storage.BlobWriteOption.crc32cMatch()));
+
+        Assertions.assertEquals(new Crc32c().update(ByteBuffer.wrap(content)).base64(), captor.getValue().getCrc32c());
+        Mockito.verify(storage, Mockito.never()).delete(Mockito.any(BlobId.class));
+    }
+
     @Test
     public void givenValidResource_whenCallsGet_shouldRetrieveIt() {
 
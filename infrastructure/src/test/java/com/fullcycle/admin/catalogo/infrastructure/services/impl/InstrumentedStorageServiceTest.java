@@ -0,0 +1,123 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.google.cloud.storage.StorageException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class InstrumentedStorageServiceTest {
+
+    private InMemoryStorageService delegate;
+
+    private SimpleMeterRegistry registry;
+
+    private InstrumentedStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.delegate = new InMemoryStorageService();
+        this.registry = new SimpleMeterRegistry();
+        this.target = newTarget(this.delegate);
+    }
+
+    @Test
+    public void givenValidResource_whenCallsStore_shouldRecordTimerAndBytesByMediaType() {
+        final var expectedName = "videoId-%s/type-%s".formatted(IdUtils.uuid(), VideoMediaType.VIDEO.name());
+        final byte[] content = "Conteudo".getBytes();
+        final var expectedResource = Resource.with(content, "video/mp4", IdUtils.uuid(), VideoMediaType.VIDEO.name());
+
+        this.target.store(expectedName, expectedResource);
+
+        Assertions.assertEquals(expectedResource, this.delegate.storage().get(expectedName));
+
+        final var actualTimer = this.registry.get(InstrumentedStorageService.OPERATION_METRIC)
+                .tags("operation", "store", "media_type", "VIDEO", "outcome", "success")
+                .timer();
+        Assertions.assertEquals(1, actualTimer.count());
+
+        final var actualBytes = this.registry.get(InstrumentedStorageService.BYTES_METRIC)
+                .tags("operation", "store", "media_type", "VIDEO")
+                .counter();
+        Assertions.assertEquals(content.length, actualBytes.count());
+
+        final var actualInFlight = this.registry.get(InstrumentedStorageService.IN_FLIGHT_METRIC)
+                .tags("operation", "store", "media_type", "VIDEO")
+                .gauge();
+        Assertions.assertEquals(0, actualInFlight.value());
+    }
+
+    @Test
+    public void givenStoredResource_whenCallsGet_shouldRecordBytesRead() {
+        final var expectedName = "videoId-%s/type-%s".formatted(IdUtils.uuid(), VideoMediaType.BANNER.name());
+        final byte[] content = "Banner".getBytes();
+        final var expectedResource = Resource.with(content, "image/jpg", IdUtils.uuid(), VideoMediaType.BANNER.name());
+
+        this.delegate.storage().put(expectedName, expectedResource);
+
+        final var actualResource = this.target.get(expectedName);
+
+        Assertions.assertEquals(expectedResource, actualResource.get());
+
+        final var actualBytes = this.registry.get(InstrumentedStorageService.BYTES_METRIC)
+                .tags("operation", "get", "media_type", "BANNER")
+                .counter();
+        Assertions.assertEquals(content.length, actualBytes.count());
+    }
+
+    @Test
+    public void givenValidPrefix_whenCallsListAndDeleteAll_shouldRecordBothOperations() {
+        final var expectedResource = Resource.with("Conteudo".getBytes(), "video/mp4", IdUtils.uuid(), VideoMediaType.VIDEO.name());
+        final var expectedNames = List.of("video_" + IdUtils.uuid(), "video_" + IdUtils.uuid());
+
+        expectedNames.forEach(name -> this.delegate.storage().put(name, expectedResource));
+
+        final var actualNames = this.target.list("video");
+        this.target.deleteAll(actualNames);
+
+        Assertions.assertEquals(0, this.delegate.storage().size());
+        Assertions.assertEquals(1, this.registry.get(InstrumentedStorageService.OPERATION_METRIC)
+                .tags("operation", "list", "outcome", "success").timer().count());
+        Assertions.assertEquals(1, this.registry.get(InstrumentedStorageService.OPERATION_METRIC)
+                .tags("operation", "delete_all", "outcome", "success").timer().count());
+    }
+
+    @Test
+    public void givenRetryableFailure_whenCallsGet_shouldRecordErrorAndRethrow() {
+        final var failing = Mockito.mock(StorageService.class);
+        final var expectedName = "videoId-%s/type-%s".formatted(IdUtils.uuid(), VideoMediaType.TRAILER.name());
+        final var expectedException = new StorageException(503, "Service Unavailable");
+
+        Mockito.doThrow(expectedException).when(failing).get(Mockito.anyString());
+
+        final var target = newTarget(failing);
+
+        final var actualException = Assertions.assertThrows(StorageException.class, () -> target.get(expectedName));
+
+        Assertions.assertSame(expectedException, actualException);
+        Assertions.assertEquals(1, this.registry.get(InstrumentedStorageService.ERRORS_METRIC)
+                .tags("operation", "get", "media_type", "TRAILER").counter().count());
+        Assertions.assertEquals(1, this.registry.get(InstrumentedStorageService.RETRYABLE_METRIC)
+                .tags("operation", "get", "media_type", "TRAILER").counter().count());
+        Assertions.assertEquals(1, this.registry.get(InstrumentedStorageService.OPERATION_METRIC)
+                .tags("operation", "get", "outcome", "error").timer().count());
+    }
+
+    private InstrumentedStorageService newTarget(final StorageService delegate) {
+        return new InstrumentedStorageService(
+                delegate,
+                "type-{type}",
+                this.registry,
+                OpenTelemetry.noop().getTracer("test")
+        );
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
@@ -132,4 +133,30 @@ public class InMemoryStorageServiceTest {
 
     }
 
+    @Test
+    public void givenSignedUploadUrl_whenCallsUpload_shouldStoreResourceAtSignedName() {
+        final var expectedName = "videoId-%s/type-%s".formatted(IdUtils.uuid(), VideoMediaType.VIDEO.name());
+        final var expectedResource = Resource.with("Conteudo".getBytes(), "video/mp4", IdUtils.uuid(), "video.mp4");
+
+        final var signedUrl = target.signUpload(expectedName, "video/mp4", Duration.ofMinutes(5));
+
+        target.upload(signedUrl, expectedResource);
+
+        Assertions.assertEquals(expectedResource, target.storage().get(expectedName));
+        Assertions.assertEquals(expectedResource.content().length, target.info(expectedName).get().size());
+    }
+
+    @Test
+    public void givenTamperedOrExpiredUrl_whenCallsVerify_shouldReject() {
+        final var expectedName = "videoId-%s/type-%s".formatted(IdUtils.uuid(), VideoMediaType.BANNER.name());
+
+        final var tamperedUrl = target.signUpload(expectedName, "image/jpg", Duration.ofMinutes(5))
+                .replace(expectedName, expectedName + "-other");
+        final var expiredUrl = target.signUpload(expectedName, "image/jpg", Duration.ofMinutes(-1));
+
+        Assertions.assertTrue(target.verify(tamperedUrl).isEmpty());
+        Assertions.assertTrue(target.verify(expiredUrl).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> target.upload(tamperedUrl, Resource.with("x".getBytes(), "image/jpg", "c", "banner.jpg")));
+    }
 }
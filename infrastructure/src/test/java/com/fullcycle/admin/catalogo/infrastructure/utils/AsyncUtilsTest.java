@@ -0,0 +1,91 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class AsyncUtilsTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void givenTaskPastItsTimeout_whenCallsSubmit_shouldFailTheResultAndInterruptTheTask() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var interrupted = new AtomicBoolean();
+
+        final var work = AsyncUtils.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                // Cleanup that outlives the interrupt still has to finish before the work counts as stopped
+                sleep(100);
+            }
+            return "done";
+        }, this.executor, Duration.ofMillis(50));
+
+        started.await();
+
+        final var actualException = Assertions.assertThrows(ExecutionException.class, () -> work.result().get(1, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(TimeoutException.class, actualException.getCause());
+        Assertions.assertFalse(work.done().isDone());
+
+        work.done().get(1, TimeUnit.SECONDS);
+        Assertions.assertTrue(interrupted.get());
+    }
+
+    @Test
+    public void givenTaskStillQueuedAtItsTimeout_whenCallsSubmit_shouldNeverRunIt() throws Exception {
+        final var blocker = new CountDownLatch(1);
+        this.executor.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final var ran = new AtomicBoolean();
+
+        final var work = AsyncUtils.submit(() -> ran.getAndSet(true), this.executor, Duration.ofMillis(50));
+
+        work.done().get(1, TimeUnit.SECONDS);
+        Assertions.assertTrue(work.result().isCompletedExceptionally());
+
+        blocker.countDown();
+        this.executor.shutdown();
+        this.executor.awaitTermination(1, TimeUnit.SECONDS);
+        Assertions.assertFalse(ran.get());
+    }
+
+    @Test
+    public void givenTaskWithinItsTimeout_whenCallsSubmit_shouldCompleteBoth() throws Exception {
+        final var work = AsyncUtils.submit(() -> "done", this.executor, Duration.ofSeconds(1));
+
+        Assertions.assertEquals("done", work.result().get(1, TimeUnit.SECONDS));
+        work.done().get(1, TimeUnit.SECONDS);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
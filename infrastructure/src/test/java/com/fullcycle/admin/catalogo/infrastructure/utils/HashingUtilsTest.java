@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.google.cloud.storage.BlobInfo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class HashingUtilsTest {
+
+    @Test
+    public void givenTheCrc32cCheckValue_whenCallsChecksum_shouldReturnItInBigEndianHex() {
+        // RFC 3720 check value: CRC32C("123456789") = 0xE3069283
+        Assertions.assertEquals("e3069283", HashingUtils.checksum("123456789".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    public void givenAChecksum_whenSetOnABlob_shouldRoundTripThroughTheGcsForms() {
+        final var content = randomBytes(4096);
+        final var crc = new Crc32c().update(ByteBuffer.wrap(content));
+
+        final var blob = BlobInfo.newBuilder("bucket", "name")
+                .setCrc32cFromHexString(HashingUtils.checksum(content))
+                .build();
+
+        Assertions.assertEquals(crc.base64(), blob.getCrc32c());
+        Assertions.assertEquals(crc.hex(), blob.getCrc32cToHexString());
+    }
+
+    @Test
+    public void givenTheSameContent_whenCallsChecksumOnArrayStreamAndFile_shouldAgree(@TempDir final Path dir) throws IOException {
+        // Larger than one read chunk, so the incremental updates are exercised
+        final var content = randomBytes(3 * 1024 * 1024 + 17);
+        final var file = Files.write(dir.resolve("content"), content);
+
+        final var expectedChecksum = HashingUtils.checksum(content);
+
+        Assertions.assertEquals(expectedChecksum, HashingUtils.checksum(new ByteArrayInputStream(content)));
+        Assertions.assertEquals(expectedChecksum, HashingUtils.checksum(file));
+    }
+
+    @Test
+    public void givenChunks_whenUpdatingIncrementally_shouldMatchTheWholeContent() {
+        final var content = randomBytes(10_000);
+        final var crc = new Crc32c();
+
+        crc.update(content, 0, 1234);
+        crc.update(ByteBuffer.wrap(content, 1234, 5000));
+        final var direct = ByteBuffer.allocateDirect(content.length - 6234).put(content, 6234, content.length - 6234).flip();
+        crc.update(direct);
+
+        Assertions.assertEquals(HashingUtils.checksum(content), crc.hex());
+        Assertions.assertEquals(content.length, crc.bytes());
+    }
+
+    private static byte[] randomBytes(final int size) {
+        final var content = new byte[size];
+        new Random(42).nextBytes(content);
+        return content;
+    }
+}
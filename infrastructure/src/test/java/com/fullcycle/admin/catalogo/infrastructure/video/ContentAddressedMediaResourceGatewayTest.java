@@ -0,0 +1,222 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceID;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.probe.MediaProbe;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class ContentAddressedMediaResourceGatewayTest {
+
+    private Map<String, MediaBlobJpaEntity> blobs;
+
+    private Map<MediaBlobReferenceID, MediaBlobReferenceJpaEntity> references;
+
+    private StorageService storageService;
+
+    private MediaPurgeService purgeService;
+
+    private ContentAddressedMediaResourceGateway target;
+
+    @BeforeEach
+    public void setUp() {
+        this.blobs = new HashMap<>();
+        this.references = new HashMap<>();
+        this.storageService = Mockito.spy(new InMemoryStorageService());
+
+        final var blobRepository = Mockito.mock(MediaBlobRepository.class);
+        Mockito.when(blobRepository.findByIdForUpdate(anyString()))
+                .thenAnswer(call -> Optional.ofNullable(this.blobs.get(call.<String>getArgument(0))));
+        Mockito.when(blobRepository.save(any()))
+                .thenAnswer(call -> {
+                    final MediaBlobJpaEntity blob = call.getArgument(0);
+                    this.blobs.put(blob.getHash(), blob);
+                    return blob;
+                });
+        Mockito.doAnswer(call -> this.blobs.remove(call.<MediaBlobJpaEntity>getArgument(0).getHash()))
+                .when(blobRepository).delete(any());
+        Mockito.when(blobRepository.retain(anyString(), any()))
+                .thenAnswer(call -> {
+                    final var blob = this.blobs.computeIfAbsent(call.getArgument(0), this::newBlob);
+                    blob.setRefCount(blob.getRefCount() + 1);
+                    return 1;
+                });
+        Mockito.when(blobRepository.release(anyString(), any()))
+                .thenAnswer(call -> {
+                    final var blob = this.blobs.get(call.<String>getArgument(0));
+                    blob.setRefCount(blob.getRefCount() - 1);
+                    return 1;
+                });
+
+        final var referenceRepository = Mockito.mock(MediaBlobReferenceRepository.class);
+        Mockito.when(referenceRepository.findById(any()))
+                .thenAnswer(call -> Optional.ofNullable(this.references.get(call.<MediaBlobReferenceID>getArgument(0))));
+        Mockito.when(referenceRepository.findAllByIdVideoId(anyString()))
+                .thenAnswer(call -> this.references.values().stream()
+                        .filter(ref -> ref.getId().getVideoId().equals(call.getArgument(0)))
+                        .toList());
+        Mockito.when(referenceRepository.save(any()))
+                .thenAnswer(call -> {
+                    final MediaBlobReferenceJpaEntity ref = call.getArgument(0);
+                    this.references.put(ref.getId(), ref);
+                    return ref;
+                });
+        Mockito.doAnswer(call -> this.references.remove(call.<MediaBlobReferenceJpaEntity>getArgument(0).getId()))
+                .when(referenceRepository).delete(any());
+        Mockito.doAnswer(call -> {
+            call.<List<MediaBlobReferenceJpaEntity>>getArgument(0).forEach(ref -> this.references.remove(ref.getId()));
+            return null;
+        }).when(referenceRepository).deleteAll(any());
+
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+        props.setContentAddressed(true);
+        props.setBlobPattern("blobs/{hash}");
+
+        this.purgeService = Mockito.mock(MediaPurgeService.class);
+
+        this.target = new ContentAddressedMediaResourceGateway(props, this.storageService, blobRepository, referenceRepository, this.purgeService, Mockito.mock(ImageDerivationService.class), new MediaProbe(), Mockito.mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    public void givenSameContentForTwoVideos_whenCallsStoreAudioVideo_shouldUploadOnceAndShareTheBlob() {
+        final var aTrailer = trailer("Trailer do estudio");
+        final var expectedLocation = "blobs/" + HashingUtils.contentHash(aTrailer.getResource().content());
+
+        final var firstMedia = this.target.storeAudioVideo(VideoID.unique(), aTrailer);
+        final var secondMedia = this.target.storeAudioVideo(VideoID.unique(), aTrailer);
+
+        Assertions.assertEquals(expectedLocation, firstMedia.rawLocation());
+        Assertions.assertEquals(expectedLocation, secondMedia.rawLocation());
+        Assertions.assertEquals(1, storage().storage().size());
+        Assertions.assertEquals(2, this.blobs.get(hashOf(aTrailer)).getRefCount());
+        Mockito.verify(this.storageService, Mockito.times(1)).store(Mockito.eq(expectedLocation), any());
+    }
+
+    @Test
+    public void givenSharedBlob_whenCallsClearResources_shouldOnlyDeleteItAfterTheLastReference() {
+        final var aTrailer = trailer("Trailer do estudio");
+        final var aVideoId = VideoID.unique();
+        final var anotherVideoId = VideoID.unique();
+
+        this.target.storeAudioVideo(aVideoId, aTrailer);
+        this.target.storeAudioVideo(anotherVideoId, aTrailer);
+
+        this.target.clearResources(aVideoId);
+
+        Assertions.assertEquals(1, storage().storage().size());
+        Assertions.assertTrue(this.target.getResource(aVideoId, VideoMediaType.TRAILER).isEmpty());
+        Assertions.assertEquals(aTrailer.getResource(), this.target.getResource(anotherVideoId, VideoMediaType.TRAILER).get());
+
+        this.target.clearResources(anotherVideoId);
+
+        Assertions.assertEquals(0, storage().storage().size());
+        Assertions.assertTrue(this.blobs.isEmpty());
+        Assertions.assertTrue(this.references.isEmpty());
+        Mockito.verify(this.purgeService).schedule(Mockito.eq("videoId-%s".formatted(aVideoId.getValue())));
+        Mockito.verify(this.purgeService).schedule(Mockito.eq("videoId-%s".formatted(anotherVideoId.getValue())));
+    }
+
+    @Test
+    public void givenReplacedMedia_whenCallsStoreAudioVideo_shouldReleaseThePreviousBlob() {
+        final var aVideoId = VideoID.unique();
+        final var firstTrailer = trailer("Primeiro trailer");
+        final var secondTrailer = trailer("Segundo trailer");
+
+        this.target.storeAudioVideo(aVideoId, firstTrailer);
+        this.target.storeAudioVideo(aVideoId, secondTrailer);
+
+        Assertions.assertFalse(this.blobs.containsKey(hashOf(firstTrailer)));
+        Assertions.assertEquals(1, this.blobs.get(hashOf(secondTrailer)).getRefCount());
+        Assertions.assertEquals(1, storage().storage().size());
+        Assertions.assertEquals(secondTrailer.getResource(), this.target.getResource(aVideoId, VideoMediaType.TRAILER).get());
+    }
+
+    @Test
+    public void givenDirectUploadOverASharedBlob_whenCallsReleaseResource_shouldServeThePerVideoObject() {
+        final var aTrailer = trailer("Trailer do estudio");
+        final var aVideoId = VideoID.unique();
+        final var anotherVideoId = VideoID.unique();
+        final var directUpload = trailer("Trailer enviado direto para o bucket").getResource();
+
+        this.target.storeAudioVideo(aVideoId, aTrailer);
+        this.target.storeAudioVideo(anotherVideoId, aTrailer);
+        this.storageService.store("videoId-%s/type-TRAILER".formatted(aVideoId.getValue()), directUpload);
+
+        this.target.releaseResource(aVideoId, VideoMediaType.TRAILER);
+
+        Assertions.assertEquals(directUpload, this.target.getResource(aVideoId, VideoMediaType.TRAILER).get());
+        Assertions.assertEquals(aTrailer.getResource(), this.target.getResource(anotherVideoId, VideoMediaType.TRAILER).get());
+        Assertions.assertEquals(1, this.blobs.get(hashOf(aTrailer)).getRefCount());
+        Assertions.assertEquals(1, this.references.size());
+    }
+
+    @Test
+    public void givenLastReference_whenCallsClearResourcesInATransaction_shouldOnlyDeleteTheBlobAfterCommit() {
+        final var aTrailer = trailer("Trailer do estudio");
+        final var aVideoId = VideoID.unique();
+        this.target.storeAudioVideo(aVideoId, aTrailer);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.target.clearResources(aVideoId);
+
+            Assertions.assertEquals(1, storage().storage().size());
+            Assertions.assertEquals(0, this.blobs.get(hashOf(aTrailer)).getRefCount());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(0, storage().storage().size());
+        Assertions.assertTrue(this.blobs.isEmpty());
+    }
+
+    private MediaBlobJpaEntity newBlob(final String hash) {
+        final var blob = new MediaBlobJpaEntity();
+        blob.setHash(hash);
+        return blob;
+    }
+
+    private VideoResource trailer(final String content) {
+        return VideoResource.with(
+                VideoMediaType.TRAILER,
+                Resource.with(content.getBytes(), "video/mp4", IdUtils.uuid(), VideoMediaType.TRAILER.name())
+        );
+    }
+
+    private String hashOf(final VideoResource resource) {
+        return HashingUtils.contentHash(resource.getResource().content());
+    }
+
+    private InMemoryStorageService storage() {
+        return (InMemoryStorageService) this.storageService;
+    }
+}
@@ -106,7 +106,7 @@ public class DefaultMediaResourceGatewayTest {
     }
 
     @Test
-    public void givenValidVideoId_whenCallsClearResources_shouldDeleteAll() {
+    public void givenValidVideoId_whenCallsClearResources_shouldDeleteAll() throws InterruptedException {
 
         final var videoOne = VideoID.unique();
         final var videoTwo = VideoID.unique();
@@ -137,6 +137,12 @@ public class DefaultMediaResourceGatewayTest {
 
         this.mediaResourceGateway.clearResources(videoOne);
 
+        // The purge runs in the background
+        final var deadline = System.currentTimeMillis() + 5_000;
+        while (storageService().storage().size() > 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
         Assertions.assertEquals(2, storageService().storage().size());
 
         final var actualKeys = storageService().storage().keySet();
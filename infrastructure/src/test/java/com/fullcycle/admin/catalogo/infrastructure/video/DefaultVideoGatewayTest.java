@@ -9,12 +9,14 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -22,6 +24,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
+
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.Objects;
@@ -52,6 +56,9 @@ public class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     public void testInjection() {
         Assertions.assertNotNull(videoGateway);
@@ -1093,4 +1100,56 @@ public class DefaultVideoGatewayTest {
         Assertions.assertEquals(expectedItemsCount, actualPage.items().size());
 
     }
+
+    @Test
+    public void givenSortWithoutSupportingIndex_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "Unsupported sort field: description";
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "description", "asc", Set.of(), Set.of(), Set.of());
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> videoGateway.findAll(aQuery));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenExpandOnlyWhenAsked_whenCallsFindAll_shouldQueryRelationsOnlyForTheExpandedListing() {
+        final var aulas = categoryGateway.create(Category.newCategory("Aulas", "Aulinhas", true));
+        final var tech = genreGateway.create(Genre.newGenre("Tech", true));
+
+        videoGateway.create(Video.newVideo(
+                "System Design",
+                "Desc",
+                Year.of(2023),
+                150.00,
+                true,
+                false,
+                Rating.AGE_12,
+                Set.of(aulas.getId()),
+                Set.of(tech.getId()),
+                Set.of()
+        ));
+        videoRepository.flush();
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            final var actualPlain = videoGateway.findAll(new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of(), false));
+            final var actualPlainStatements = statistics.getPrepareStatementCount();
+
+            statistics.clear();
+            final var actualExpanded = videoGateway.findAll(new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of(), true));
+            final var actualExpandedStatements = statistics.getPrepareStatementCount();
+
+            Assertions.assertEquals(1, actualPlainStatements);
+            Assertions.assertTrue(actualPlain.items().get(0).categories().isEmpty());
+
+            Assertions.assertEquals(2, actualExpandedStatements);
+            Assertions.assertEquals(Set.of(aulas.getId()), actualExpanded.items().get(0).categories());
+            Assertions.assertEquals(Set.of(tech.getId()), actualExpanded.items().get(0).genres());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
 }
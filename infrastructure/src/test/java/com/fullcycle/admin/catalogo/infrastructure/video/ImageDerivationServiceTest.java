@@ -0,0 +1,129 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.ImageDerivationProperties;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+public class ImageDerivationServiceTest {
+
+    private ImageDerivationProperties props;
+
+    private ImageDerivationService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.props = new ImageDerivationProperties();
+        this.target = new ImageDerivationService(this.props, Executors.newSingleThreadExecutor());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.target.destroy();
+    }
+
+    @Test
+    public void givenABlockOfPixels_whenCallsDownscale_shouldAverageEachBlock() {
+        final var source = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, 4, 2, new int[]{
+                0x000000, 0xffffff, 0xff0000, 0xff0000,
+                0xffffff, 0x000000, 0x0000ff, 0x0000ff
+        }, 0, 4);
+
+        final var actualImage = ImageDerivationService.downscale(source, 2);
+
+        Assertions.assertEquals(2, actualImage.getWidth());
+        Assertions.assertEquals(1, actualImage.getHeight());
+        Assertions.assertEquals(0xff808080, actualImage.getRGB(0, 0));
+        Assertions.assertEquals(0xff800080, actualImage.getRGB(1, 0));
+    }
+
+    @Test
+    public void givenTransparentPixels_whenCallsDownscale_shouldNotBleedTheirColor() {
+        final var source = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        source.setRGB(0, 0, 2, 2, new int[]{0xffff0000, 0x0000ff00, 0x0000ff00, 0x0000ff00}, 0, 2);
+
+        final var actualImage = ImageDerivationService.downscale(source, 2);
+
+        Assertions.assertEquals(0x40ff0000, actualImage.getRGB(0, 0));
+    }
+
+    @Test
+    public void givenAThumbnail_whenCallsDerive_shouldReturnTheHalfSizeInTheSameFormat() throws IOException {
+        final var aThumbnail = thumbnail(png(64, 36));
+
+        final var actualResource = this.target.derive(aThumbnail, VideoMediaType.THUMBNAIL_HALF).orElseThrow();
+
+        final var actualImage = ImageIO.read(new ByteArrayInputStream(actualResource.content()));
+        Assertions.assertEquals(32, actualImage.getWidth());
+        Assertions.assertEquals(18, actualImage.getHeight());
+        Assertions.assertEquals(aThumbnail.getResource().contentType(), actualResource.contentType());
+        Assertions.assertEquals(aThumbnail.getResource().getName(), actualResource.getName());
+        Assertions.assertEquals(HashingUtils.checksum(actualResource.content()), actualResource.getChecksum());
+    }
+
+    @Test
+    public void givenATypeThatIsNotDerivedFromTheSource_whenCallsDerive_shouldReturnEmpty() throws IOException {
+        final var aBanner = VideoResource.with(VideoMediaType.BANNER, thumbnail(png(64, 36)).getResource());
+
+        Assertions.assertTrue(this.target.derive(aBanner, VideoMediaType.THUMBNAIL_HALF).isEmpty());
+        Assertions.assertTrue(this.target.derive(thumbnail(png(64, 36)), VideoMediaType.BANNER).isEmpty());
+    }
+
+    @Test
+    public void givenContentThatIsNotAnImage_whenCallsDerive_shouldReturnEmpty() {
+        Assertions.assertTrue(this.target.derive(thumbnail("Conteudo".getBytes()), VideoMediaType.THUMBNAIL_HALF).isEmpty());
+    }
+
+    @Test
+    public void givenAnImageAboveMaxPixels_whenCallsDerive_shouldReturnEmpty() throws IOException {
+        this.props.setMaxPixels(1000);
+
+        Assertions.assertTrue(this.target.derive(thumbnail(png(64, 36)), VideoMediaType.THUMBNAIL_HALF).isEmpty());
+    }
+
+    @Test
+    public void givenSaturatedWorkers_whenCallsDerive_shouldReturnEmpty() throws IOException {
+        final var workers = Mockito.mock(ExecutorService.class);
+        Mockito.when(workers.submit(Mockito.<Callable<?>>any())).thenThrow(new RejectedExecutionException());
+
+        final var saturated = new ImageDerivationService(this.props, workers);
+
+        Assertions.assertTrue(saturated.derive(thumbnail(png(64, 36)), VideoMediaType.THUMBNAIL_HALF).isEmpty());
+    }
+
+    private static VideoResource thumbnail(final byte[] content) {
+        return VideoResource.with(
+                VideoMediaType.THUMBNAIL,
+                Resource.with(content, "image/png", HashingUtils.checksum(content), "thumb.png")
+        );
+    }
+
+    private static byte[] png(final int width, final int height) throws IOException {
+        final var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, x * 4 << 16 | y * 7 << 8 | 0x40);
+            }
+        }
+        final var output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
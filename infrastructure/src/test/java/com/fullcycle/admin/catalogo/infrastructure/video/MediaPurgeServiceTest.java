@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.MediaPurgeProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaPurgeJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaPurgeRepository;
+import com.google.cloud.storage.StorageException;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class MediaPurgeServiceTest {
+
+    private Map<String, MediaPurgeJpaEntity> purges;
+
+    private MediaPurgeRepository purgeRepository;
+
+    private InMemoryStorageService storageService;
+
+    private MediaPurgeProperties props;
+
+    @BeforeEach
+    public void setUp() {
+        this.purges = new HashMap<>();
+        this.storageService = Mockito.spy(new InMemoryStorageService());
+
+        this.purgeRepository = Mockito.mock(MediaPurgeRepository.class);
+        Mockito.when(purgeRepository.save(any()))
+                .thenAnswer(call -> {
+                    final MediaPurgeJpaEntity purge = call.getArgument(0);
+                    this.purges.put(purge.getId(), purge);
+                    return purge;
+                });
+        Mockito.when(purgeRepository.findById(anyString()))
+                .thenAnswer(call -> Optional.ofNullable(this.purges.get(call.<String>getArgument(0))));
+        Mockito.when(purgeRepository.claim(anyString(), any(), any()))
+                .thenAnswer(call -> {
+                    final var purge = this.purges.get(call.<String>getArgument(0));
+                    if (purge == null || purge.getNextAttemptAt() == null || purge.getNextAttemptAt().isAfter(call.getArgument(1))) {
+                        return 0;
+                    }
+                    purge.setNextAttemptAt(call.getArgument(2));
+                    return 1;
+                });
+        Mockito.doAnswer(call -> this.purges.remove(call.<String>getArgument(0)))
+                .when(purgeRepository).deleteById(anyString());
+
+        this.props = new MediaPurgeProperties();
+        this.props.setBatchSize(10);
+        this.props.setMaxAttempts(2);
+    }
+
+    @Test
+    public void givenManyObjectsUnderPrefix_whenCallsSchedule_shouldDeleteThemInBatchesAndDropTheRecord() {
+        final var expectedPrefix = "videoId-" + IdUtils.uuid();
+        final var expectedBatches = 3;
+
+        IntStream.range(0, 25).forEach(i -> store("%s/hls/segment-%d.ts".formatted(expectedPrefix, i)));
+        store("videoId-%s/type-VIDEO".formatted(IdUtils.uuid()));
+
+        newTarget(this.storageService).schedule(expectedPrefix);
+
+        Assertions.assertEquals(1, this.storageService.storage().size());
+        Assertions.assertTrue(this.purges.isEmpty());
+        Mockito.verify(this.storageService, Mockito.times(expectedBatches)).deleteAll(anyList());
+    }
+
+    @Test
+    public void givenStorageFailure_whenCallsSchedule_shouldKeepTheRecordWithBackoffUntilAttemptsAreExhausted() {
+        final var expectedPrefix = "videoId-" + IdUtils.uuid();
+        final var failing = Mockito.mock(StorageService.class);
+
+        Mockito.when(failing.list(anyString())).thenReturn(List.of(expectedPrefix + "/type-VIDEO"));
+        Mockito.doThrow(new StorageException(503, "Service Unavailable")).when(failing).deleteAll(any());
+
+        final var target = newTarget(failing);
+        target.schedule(expectedPrefix);
+
+        final var actualPurge = this.purges.values().iterator().next();
+        Assertions.assertEquals(1, actualPurge.getAttempts());
+        Assertions.assertTrue(actualPurge.getNextAttemptAt().isAfter(Instant.now()));
+        Assertions.assertTrue(actualPurge.getLastError().contains("Service Unavailable"));
+
+        // Not due yet, the claim is refused
+        target.purge(actualPurge.getId());
+        Assertions.assertEquals(1, actualPurge.getAttempts());
+
+        actualPurge.setNextAttemptAt(Instant.now());
+        target.purge(actualPurge.getId());
+
+        Assertions.assertEquals(2, actualPurge.getAttempts());
+        Assertions.assertTrue(actualPurge.isExhausted());
+    }
+
+    private MediaPurgeService newTarget(final StorageService storageService) {
+        return new MediaPurgeService(
+                this.props,
+                storageService,
+                this.purgeRepository,
+                MoreExecutors.newDirectExecutorService(),
+                MoreExecutors.newDirectExecutorService()
+        );
+    }
+
+    private void store(final String name) {
+        this.storageService.store(name, Resource.with("Conteudo".getBytes(), "video/mp2t", IdUtils.uuid(), name));
+    }
+}
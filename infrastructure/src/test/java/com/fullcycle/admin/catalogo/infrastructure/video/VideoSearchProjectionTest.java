@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRelationID;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRelationJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class VideoSearchProjectionTest {
+
+    private VideoSearchRepository repository;
+
+    private VideoSearchProjection target;
+
+    @BeforeEach
+    public void setUp() {
+        this.repository = Mockito.mock(VideoSearchRepository.class);
+        this.target = new VideoSearchProjection(this.repository, Mockito.mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    public void givenAVideo_whenCallsUpsert_shouldProjectTitleTimestampsAndRelationIds() {
+        final var aCategory = CategoryID.unique();
+        final var aGenre = GenreID.unique();
+        final var aMember = CastMemberID.unique();
+
+        final var aVideo = Video.newVideo(
+                "System Design",
+                "Uma descricao",
+                Year.of(2022),
+                120.0,
+                true,
+                true,
+                Rating.AGE_10,
+                Set.of(aCategory),
+                Set.of(aGenre),
+                Set.of(aMember)
+        );
+
+        this.target.upsert(aVideo);
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchJpaEntity.class);
+        Mockito.verify(this.repository).save(captor.capture());
+
+        final var actualRow = captor.getValue();
+        Assertions.assertEquals(aVideo.getId().getValue(), actualRow.getId());
+        Assertions.assertEquals(aVideo.getTitle(), actualRow.getTitle());
+        Assertions.assertEquals(aVideo.getCreatedAt(), actualRow.getCreatedAt());
+        Assertions.assertEquals(aVideo.getUpdatedAt(), actualRow.getUpdatedAt());
+        Assertions.assertEquals(
+                Set.of(
+                        VideoSearchRelationID.from(actualRow.getId(), VideoSearchJpaEntity.CATEGORY, aCategory.getValue()),
+                        VideoSearchRelationID.from(actualRow.getId(), VideoSearchJpaEntity.GENRE, aGenre.getValue()),
+                        VideoSearchRelationID.from(actualRow.getId(), VideoSearchJpaEntity.CAST_MEMBER, aMember.getValue())
+                ),
+                actualRow.getRelations().stream().map(VideoSearchRelationJpaEntity::getId).collect(Collectors.toSet())
+        );
+
+        final var actualPreview = actualRow.toPreview(Map.of(
+                VideoSearchJpaEntity.CATEGORY, List.of(aCategory.getValue()),
+                VideoSearchJpaEntity.GENRE, List.of(aGenre.getValue()),
+                VideoSearchJpaEntity.CAST_MEMBER, List.of(aMember.getValue())
+        ));
+        Assertions.assertEquals(aVideo.getTitle(), actualPreview.title());
+        Assertions.assertEquals(Set.of(aCategory), actualPreview.categories());
+        Assertions.assertEquals(Set.of(aGenre), actualPreview.genres());
+        Assertions.assertEquals(Set.of(aMember), actualPreview.castMembers());
+        Assertions.assertTrue(actualRow.toPreview(Map.of()).categories().isEmpty());
+    }
+
+    @Test
+    public void givenMoreVideosThanOneBatch_whenCallsRebuild_shouldWalkThemByKeysetAndDropOrphans() {
+        final var firstBatch = List.of("a", "b");
+        final var secondBatch = List.of("c");
+
+        Mockito.when(this.repository.findVideoIdsAfter(eq(""), anyInt())).thenReturn(firstBatch);
+        Mockito.when(this.repository.findVideoIdsAfter(eq("b"), anyInt())).thenReturn(secondBatch);
+        Mockito.when(this.repository.findVideoIdsAfter(eq("c"), anyInt())).thenReturn(List.of());
+
+        final var actualTotal = this.target.rebuild();
+
+        Assertions.assertEquals(3, actualTotal);
+        Mockito.verify(this.repository).rebuild(firstBatch);
+        Mockito.verify(this.repository).rebuild(secondBatch);
+        Mockito.verify(this.repository, Mockito.times(2)).rebuild(any());
+        Mockito.verify(this.repository).deleteRelations(firstBatch);
+        Mockito.verify(this.repository).rebuildRelations(firstBatch);
+        Mockito.verify(this.repository).deleteRelations(secondBatch);
+        Mockito.verify(this.repository).rebuildRelations(secondBatch);
+        Mockito.verify(this.repository).deleteOrphans();
+    }
+}
@@ -0,0 +1,250 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cache;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReadYourWrites;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoCacheEvicted;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class VideoOutputCacheTest {
+
+    private InMemorySharedVideoCache shared;
+
+    private List<Object> broadcasts;
+
+    private VideoOutputCache target;
+
+    @BeforeEach
+    public void setUp() {
+        this.shared = new InMemorySharedVideoCache();
+        this.broadcasts = new CopyOnWriteArrayList<>();
+        this.target = new VideoOutputCache(100, Duration.ofMinutes(1), this.shared, this.broadcasts::add);
+    }
+
+    @Test
+    public void givenAMiss_whenCallsGet_shouldLoadOnceAndPopulateBothLevels() {
+        final var expectedId = VideoID.unique();
+        final var expectedOutput = outputOf(expectedId);
+        final var loads = new AtomicInteger();
+
+        final var firstOutput = this.target.get(expectedId, id -> {
+            loads.incrementAndGet();
+            return expectedOutput;
+        });
+        final var secondOutput = this.target.get(expectedId, id -> {
+            loads.incrementAndGet();
+            return expectedOutput;
+        });
+
+        Assertions.assertEquals(expectedOutput, firstOutput);
+        Assertions.assertEquals(expectedOutput, secondOutput);
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(expectedOutput, this.shared.storage().get(expectedId.getValue()));
+    }
+
+    @Test
+    public void givenAMiss_whenCallsGet_shouldLoadFromThePrimary() {
+        final var expectedId = VideoID.unique();
+
+        final var actualOutput = this.target.get(expectedId, id -> {
+            Assertions.assertTrue(ReadYourWrites.isPinnedToPrimary());
+            return outputOf(id);
+        });
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertFalse(ReadYourWrites.isPinnedToPrimary());
+    }
+
+    @Test
+    public void givenALocalMissAndASharedHit_whenCallsGet_shouldNotLoad() {
+        final var expectedId = VideoID.unique();
+        final var expectedOutput = outputOf(expectedId);
+
+        this.shared.put(expectedId.getValue(), expectedOutput);
+
+        final var actualOutput = this.target.get(expectedId, id -> Assertions.fail("Should not load"));
+
+        Assertions.assertEquals(expectedOutput, actualOutput);
+    }
+
+    @Test
+    public void givenACachedVideo_whenCallsEvict_shouldReloadFromBothLevels() {
+        final var expectedId = VideoID.unique();
+        final var loads = new AtomicInteger();
+
+        this.target.get(expectedId, id -> {
+            loads.incrementAndGet();
+            return outputOf(id);
+        });
+
+        this.target.evict(expectedId);
+
+        Assertions.assertTrue(this.shared.storage().isEmpty());
+
+        this.target.get(expectedId, id -> {
+            loads.incrementAndGet();
+            return outputOf(id);
+        });
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenACachedVideo_whenCallsEvict_shouldBroadcastToTheOtherPods() {
+        final var expectedId = VideoID.unique();
+
+        this.target.get(expectedId, VideoOutputCacheTest::outputOf);
+        this.target.evict(expectedId);
+
+        Assertions.assertEquals(List.of(new VideoCacheEvicted(expectedId.getValue())), this.broadcasts);
+        Assertions.assertTrue(this.target.getIfPresent(expectedId).isEmpty());
+    }
+
+    @Test
+    public void givenABroadcastEviction_whenCallsEvictLocal_shouldOnlyDropTheLocalCopy() {
+        final var expectedId = VideoID.unique();
+        final var expectedOutput = outputOf(expectedId);
+
+        this.target.get(expectedId, id -> expectedOutput);
+        this.target.evictLocal(expectedId);
+
+        Assertions.assertTrue(this.target.getIfPresent(expectedId).isEmpty());
+        Assertions.assertEquals(expectedOutput, this.shared.storage().get(expectedId.getValue()));
+        Assertions.assertTrue(this.broadcasts.isEmpty());
+    }
+
+    @Test
+    public void givenTheBrokerDown_whenCallsEvict_shouldStillEvictLocally() {
+        final var expectedId = VideoID.unique();
+        final var target = new VideoOutputCache(100, Duration.ofMinutes(1), this.shared, event -> {
+            throw new IllegalStateException("Broker down");
+        });
+
+        target.get(expectedId, VideoOutputCacheTest::outputOf);
+
+        Assertions.assertDoesNotThrow(() -> target.evict(expectedId));
+        Assertions.assertTrue(target.getIfPresent(expectedId).isEmpty());
+        Assertions.assertTrue(this.shared.storage().isEmpty());
+    }
+
+    @Test
+    public void givenConcurrentMisses_whenCallsGet_shouldCoalesceIntoOneLoad() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedCallers = 16;
+        final var loads = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(expectedCallers);
+
+        try {
+            for (int i = 0; i < expectedCallers; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    return this.target.get(expectedId, id -> {
+                        loads.incrementAndGet();
+                        sleep();
+                        return outputOf(id);
+                    });
+                });
+            }
+
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void givenAFailingLoad_whenCallsGet_shouldRethrowAndNotCacheTheFailure() {
+        final var expectedId = VideoID.unique();
+        final var expectedOutput = outputOf(expectedId);
+
+        final var actualError = Assertions.assertThrows(IllegalStateException.class, () -> this.target.get(expectedId, id -> {
+            throw new IllegalStateException("Database down");
+        }));
+
+        Assertions.assertEquals("Database down", actualError.getMessage());
+        Assertions.assertEquals(expectedOutput, this.target.get(expectedId, id -> expectedOutput));
+    }
+
+    @Test
+    public void givenALoadInFlight_whenCallsGetIfPresent_shouldReturnEmptyWithoutWaiting() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var loading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final var load = executor.submit(() -> this.target.get(expectedId, id -> {
+                loading.countDown();
+                await(release);
+                return outputOf(id);
+            }));
+
+            Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(this.target.getIfPresent(expectedId).isEmpty());
+
+            release.countDown();
+            load.get(5, TimeUnit.SECONDS);
+
+            Assertions.assertTrue(this.target.getIfPresent(expectedId).isPresent());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static VideoOutput outputOf(final VideoID id) {
+        final var now = InstantUtils.now();
+        return new VideoOutput(
+                id.getValue(),
+                now,
+                now,
+                "System Design",
+                "Description",
+                2022,
+                120.0,
+                true,
+                true,
+                Rating.L,
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
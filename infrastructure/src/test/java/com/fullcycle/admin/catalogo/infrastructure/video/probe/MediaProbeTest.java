@@ -0,0 +1,218 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.probe;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.multipart.FileBackedResource;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MediaProbeTest {
+
+    private final MediaProbe target = new MediaProbe();
+
+    @Test
+    public void givenMp4WithMoovAfterHugeMdat_whenCallsProbe_shouldReadOnlyTheHeaders() {
+        // given
+        final var mdatPayload = 4L * 1024 * 1024 * 1024;
+        final var head = concat(box("ftyp", ascii("isom"), new byte[4], ascii("isom")), largeBoxHeader("mdat", mdatPayload));
+        final var moov = mp4Moov();
+        final var size = head.length + mdatPayload + moov.length;
+
+        final var reads = new AtomicInteger();
+        final var bytesRead = new AtomicLong();
+        final RangeSource source = (offset, length) -> {
+            reads.incrementAndGet();
+            final var chunk = new byte[(int) Math.min(length, size - offset)];
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = byteAt(head, moov, mdatPayload, offset + i);
+            }
+            bytesRead.addAndGet(chunk.length);
+            return chunk;
+        };
+
+        // when
+        final var actualMetadata = this.target.probe(source, size).orElseThrow();
+
+        // then
+        Assertions.assertEquals("mp4", actualMetadata.container());
+        Assertions.assertEquals(Double.valueOf(120.5), actualMetadata.duration());
+        Assertions.assertEquals("avc1", actualMetadata.videoCodec());
+        Assertions.assertEquals("mp4a", actualMetadata.audioCodec());
+        Assertions.assertEquals(Integer.valueOf(1920), actualMetadata.width());
+        Assertions.assertEquals(Integer.valueOf(1080), actualMetadata.height());
+        Assertions.assertEquals(Long.valueOf(Math.round(size * 8 / 120.5)), actualMetadata.bitrate());
+
+        Assertions.assertEquals(2, reads.get());
+        Assertions.assertTrue(bytesRead.get() <= 2L * MediaProbe.WINDOW_SIZE);
+    }
+
+    @Test
+    public void givenQuickTimeBrand_whenCallsProbe_shouldReturnMovContainer() {
+        // given
+        final var content = concat(box("ftyp", ascii("qt  "), new byte[4], ascii("qt  ")), mp4Moov());
+
+        // when
+        final var actualMetadata = this.target.probe(RangeSource.of(resource(content)), content.length).orElseThrow();
+
+        // then
+        Assertions.assertEquals("mov", actualMetadata.container());
+        Assertions.assertEquals("avc1", actualMetadata.videoCodec());
+    }
+
+    @Test
+    public void givenWebmWithUnknownSizeSegment_whenCallsProbe_shouldReturnMetadata() {
+        // given
+        final var content = webm();
+
+        // when
+        final var actualMetadata = this.target.probe(RangeSource.of(resource(content)), content.length).orElseThrow();
+
+        // then
+        Assertions.assertEquals("webm", actualMetadata.container());
+        Assertions.assertEquals(Double.valueOf(90.5), actualMetadata.duration());
+        Assertions.assertEquals("V_VP9", actualMetadata.videoCodec());
+        Assertions.assertEquals("A_OPUS", actualMetadata.audioCodec());
+        Assertions.assertEquals(Integer.valueOf(640), actualMetadata.width());
+        Assertions.assertEquals(Integer.valueOf(360), actualMetadata.height());
+    }
+
+    @Test
+    public void givenSpilledUpload_whenCallsProbe_shouldReadTheFileInPlace(@TempDir final Path dir) throws IOException {
+        // given
+        final var content = webm();
+        final var file = Files.write(dir.resolve("part"), content);
+        final var resource = FileBackedResource.with(file, "video/webm", "abc", "video.webm");
+
+        // when
+        final var actualMetadata = this.target.probe(RangeSource.of(resource), resource.size()).orElseThrow();
+
+        // then
+        Assertions.assertEquals("V_VP9", actualMetadata.videoCodec());
+    }
+
+    @Test
+    public void givenStoredObject_whenCallsProbeThroughStorage_shouldUseRangedReads() {
+        // given
+        final var storage = new InMemoryStorageService();
+        final var content = concat(box("ftyp", ascii("isom"), new byte[4], ascii("isom")), mp4Moov());
+        storage.store("videoId-VIDEO", resource(content));
+
+        // when
+        final var actualMetadata = this.target.probe(RangeSource.of(storage, "videoId-VIDEO"), content.length);
+        final var actualMissing = this.target.probe(RangeSource.of(storage, "missing"), content.length);
+
+        // then
+        Assertions.assertEquals("avc1", actualMetadata.orElseThrow().videoCodec());
+        Assertions.assertTrue(actualMissing.isEmpty());
+    }
+
+    @Test
+    public void givenUnknownOrTruncatedContent_whenCallsProbe_shouldReturnEmpty() {
+        // given
+        final var garbage = ascii("this is not a video at all");
+        final var mp4 = concat(box("ftyp", ascii("isom"), new byte[4], ascii("isom")), mp4Moov());
+        final var truncated = Arrays.copyOf(mp4, mp4.length - 40);
+
+        // when
+        final var actualGarbage = this.target.probe(RangeSource.of(resource(garbage)), garbage.length);
+        final var actualTruncated = this.target.probe(RangeSource.of(resource(truncated)), truncated.length);
+
+        // then
+        Assertions.assertTrue(actualGarbage.isEmpty());
+        Assertions.assertTrue(actualTruncated.isEmpty());
+    }
+
+    private static byte byteAt(final byte[] head, final byte[] tail, final long gap, final long position) {
+        if (position < head.length) {
+            return head[(int) position];
+        }
+        if (position < head.length + gap) {
+            return 0;
+        }
+        return tail[(int) (position - head.length - gap)];
+    }
+
+    private static Resource resource(final byte[] content) {
+        return Resource.with(content, "video/mp4", "abc", "video");
+    }
+
+    private static byte[] mp4Moov() {
+        final var mvhd = ByteBuffer.allocate(100).putInt(0).putInt(0).putInt(0).putInt(1000).putInt(120_500).array();
+        final var tkhd = ByteBuffer.allocate(84).putInt(76, 1920 << 16).putInt(80, 1080 << 16).array();
+        return box("moov",
+                box("mvhd", mvhd),
+                box("trak",
+                        box("tkhd", tkhd),
+                        box("mdia", box("hdlr", hdlr("vide")), box("minf", box("stbl", box("stsd", stsd("avc1")))))),
+                box("trak",
+                        box("tkhd", new byte[84]),
+                        box("mdia", box("hdlr", hdlr("soun")), box("minf", box("stbl", box("stsd", stsd("mp4a")))))));
+    }
+
+    private static byte[] hdlr(final String handler) {
+        return ByteBuffer.allocate(25).position(8).put(ascii(handler)).array();
+    }
+
+    private static byte[] stsd(final String codec) {
+        return ByteBuffer.allocate(24).putInt(0).putInt(1).putInt(16).put(ascii(codec)).array();
+    }
+
+    private static byte[] box(final String type, final byte[]... children) {
+        final var body = concat(children);
+        return concat(ByteBuffer.allocate(8).putInt(8 + body.length).put(ascii(type)).array(), body);
+    }
+
+    private static byte[] largeBoxHeader(final String type, final long payload) {
+        return ByteBuffer.allocate(16).putInt(1).put(ascii(type)).putLong(16 + payload).array();
+    }
+
+    private static byte[] webm() {
+        final var header = ebml(0x1A45DFA3L, ebml(0x4286, new byte[]{1}), ebml(0x4282, ascii("webm")));
+        final var info = ebml(0x1549A966L,
+                ebml(0x2AD7B1, ByteBuffer.allocate(4).putInt(1_000_000).array()),
+                ebml(0x4489, ByteBuffer.allocate(8).putDouble(90_500).array()));
+        final var tracks = ebml(0x1654AE6BL,
+                ebml(0xAE, ebml(0x83, new byte[]{1}), ebml(0x86, ascii("V_VP9")),
+                        ebml(0xE0, ebml(0xB0, new byte[]{0x02, (byte) 0x80}), ebml(0xBA, new byte[]{0x01, 0x68}))),
+                ebml(0xAE, ebml(0x83, new byte[]{2}), ebml(0x86, ascii("A_OPUS"))));
+        final var cluster = ebml(0x1F43B675L, new byte[256]);
+        final var segmentHeader = concat(id(0x18538067L), new byte[]{0x01, -1, -1, -1, -1, -1, -1, -1});
+        return concat(header, segmentHeader, info, tracks, cluster);
+    }
+
+    // Sizes are always written as 8-byte vints, which is legal and keeps the helper simple
+    private static byte[] ebml(final long id, final byte[]... children) {
+        final var body = concat(children);
+        final var size = ByteBuffer.allocate(8).putLong(body.length).put(0, (byte) 0x01).array();
+        return concat(id(id), size, body);
+    }
+
+    private static byte[] id(final long id) {
+        final var length = (Long.SIZE - Long.numberOfLeadingZeros(id) + 7) / 8;
+        final var bytes = ByteBuffer.allocate(8).putLong(id).array();
+        return Arrays.copyOfRange(bytes, 8 - length, 8);
+    }
+
+    private static byte[] ascii(final String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(final byte[]... parts) {
+        final var out = new ByteArrayOutputStream();
+        for (final var part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}